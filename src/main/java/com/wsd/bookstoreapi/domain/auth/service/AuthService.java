@@ -8,8 +8,10 @@ import com.wsd.bookstoreapi.domain.user.entity.AuthProvider;
 import com.wsd.bookstoreapi.domain.user.entity.User;
 import com.wsd.bookstoreapi.domain.user.entity.UserRole;
 import com.wsd.bookstoreapi.domain.user.repository.UserRepository;
+import com.wsd.bookstoreapi.global.datasource.ReplicaRouting;
 import com.wsd.bookstoreapi.global.error.BusinessException;
 import com.wsd.bookstoreapi.global.error.ErrorCode;
+import com.wsd.bookstoreapi.global.security.jwt.JwtClaims;
 import com.wsd.bookstoreapi.global.security.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -26,6 +28,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final RedisAuthTokenService redisAuthTokenService;
+    private final TokenVersionService tokenVersionService;
 
     /**
      * 회원가입 (LOCAL)
@@ -58,11 +61,15 @@ public class AuthService {
      */
     @Transactional(readOnly = true)
     public AuthResponse login(LoginRequest request) {
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new BusinessException(
-                        ErrorCode.USER_NOT_FOUND,
-                        "이메일 또는 비밀번호가 올바르지 않습니다."
-                ));
+        // 가입 직후 로그인은 사용자 ID 가 없어 read-your-writes 대상이 아님 → primary 에서 조회
+        User user;
+        try (ReplicaRouting.Scope ignored = ReplicaRouting.primaryOnly()) {
+            user = userRepository.findByEmail(request.getEmail())
+                    .orElseThrow(() -> new BusinessException(
+                            ErrorCode.USER_NOT_FOUND,
+                            "이메일 또는 비밀번호가 올바르지 않습니다."
+                    ));
+        }
 
         // provider가 LOCAL인지 확인 (추후 OAuth2 계정과 구분)
         if (user.getProvider() != AuthProvider.LOCAL) {
@@ -83,9 +90,10 @@ public class AuthService {
         String role = user.getRole().name();
         String email = user.getEmail();
         Long userId = user.getId();
+        long tokenVersion = tokenVersionService.currentVersion(userId);
 
-        String accessToken = jwtTokenProvider.generateAccessToken(userId, email, role);
-        String refreshToken = jwtTokenProvider.generateRefreshToken(userId, email, role);
+        String accessToken = jwtTokenProvider.generateAccessToken(userId, email, role, tokenVersion);
+        String refreshToken = jwtTokenProvider.generateRefreshToken(userId, email, role, tokenVersion);
 
         // Redis에 Refresh Token 저장
         redisAuthTokenService.saveRefreshToken(
@@ -103,7 +111,8 @@ public class AuthService {
     /**
      * 로그아웃
      * - Refresh Token 삭제
-     * - Access Token 블랙리스트 등록
+     * - 토큰 버전 증가 → 이 사용자에게 발급된 모든 Access Token 폐기
+     * - 로그아웃에 쓴 Access Token 은 블랙리스트에도 등록 (다른 인스턴스의 로컬 버전 캐시가 갱신되기 전에도 거부)
      */
     @Transactional
     public void logout(String authHeader) {
@@ -117,16 +126,16 @@ public class AuthService {
         String accessToken = authHeader.substring(7);
 
         // 유효성 검증 (만료되었으면 로그아웃 처리 의미가 거의 없음)
-        jwtTokenProvider.validateToken(accessToken);
-
-        Long userId = jwtTokenProvider.getUserId(accessToken);
+        JwtClaims claims = jwtTokenProvider.verify(accessToken);
 
         // 1) Refresh Token 삭제
-        redisAuthTokenService.deleteRefreshToken(userId);
+        redisAuthTokenService.deleteRefreshToken(claims.userId());
+
+        // 2) 토큰 버전 증가 (토큰별 블랙리스트 키 없이 O(1) 폐기)
+        tokenVersionService.bump(claims.userId());
 
-        // 2) Access Token 블랙리스트 등록
-        long remaining = jwtTokenProvider.getRemainingValidityInMs(accessToken);
-        redisAuthTokenService.blacklistAccessToken(accessToken, remaining);
+        // 3) 이 Access Token 은 남은 유효시간 동안 블랙리스트 (버전 전파 실패/지연 대비)
+        redisAuthTokenService.blacklistAccessToken(accessToken, claims.remainingValidityInMs());
     }
     /**
      * Refresh Token으로 Access Token 재발급
@@ -137,11 +146,18 @@ public class AuthService {
         String refreshToken = request.getRefreshToken();
 
         // 1) 형식/서명/만료 검증
-        jwtTokenProvider.validateToken(refreshToken);
+        JwtClaims claims = jwtTokenProvider.verify(refreshToken);
 
-        Long userId = jwtTokenProvider.getUserId(refreshToken);
-        String email = jwtTokenProvider.getEmail(refreshToken);
-        String role = jwtTokenProvider.getRole(refreshToken);
+        Long userId = claims.userId();
+        String email = claims.email();
+        String role = claims.role();
+
+        if (tokenVersionService.isRevoked(userId, claims.tokenVersion())) {
+            throw new BusinessException(
+                    ErrorCode.UNAUTHORIZED,
+                    "유효하지 않은 Refresh Token 입니다."
+            );
+        }
 
         // 2) Redis에 저장된 Refresh Token과 일치하는지 먼저 확인
         String storedRefreshToken = redisAuthTokenService.getRefreshToken(userId)
@@ -168,8 +184,9 @@ public class AuthService {
         // 단, 비활성화된 계정은 재활성화 API만 호출 가능
 
         // 4) 새 토큰 발급
-        String newAccessToken = jwtTokenProvider.generateAccessToken(userId, email, role);
-        String newRefreshToken = jwtTokenProvider.generateRefreshToken(userId, email, role);
+        long tokenVersion = tokenVersionService.currentVersion(userId);
+        String newAccessToken = jwtTokenProvider.generateAccessToken(userId, email, role, tokenVersion);
+        String newRefreshToken = jwtTokenProvider.generateRefreshToken(userId, email, role, tokenVersion);
 
         // 5) Redis에 새 Refresh Token으로 교체
         redisAuthTokenService.saveRefreshToken(
@@ -0,0 +1,65 @@
+package com.wsd.bookstoreapi.domain.auth.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 크기 Bloom filter (lock-free)
+ * - 입력은 이미 균등 분포인 해시(SHA-256)의 앞 128비트 → double hashing 으로 k 개 위치 계산
+ * - 삭제 불가 → 만료된 항목은 주기적 재구성으로 정리
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long bitCount, int hashCount) {
+        this.words = new AtomicLongArray(Math.toIntExact((bitCount + 63) / 64));
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * @param expectedInsertions 예상 항목 수
+     * @param falsePositiveRate  목표 오탐률 (예: 0.01)
+     */
+    static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int hashes = Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+        return new BloomFilter(Math.max(64, bits), hashes);
+    }
+
+    /**
+     * @param hex SHA-256 hex 문자열 (64자)
+     */
+    void put(String hex) {
+        long h1 = Long.parseUnsignedLong(hex, 0, 16, 16);
+        long h2 = Long.parseUnsignedLong(hex, 16, 32, 16);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+
+            long current;
+            do {
+                current = words.get(index);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(index, current, current | mask));
+        }
+    }
+
+    boolean mightContain(String hex) {
+        long h1 = Long.parseUnsignedLong(hex, 0, 16, 16);
+        long h2 = Long.parseUnsignedLong(hex, 16, 32, 16);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
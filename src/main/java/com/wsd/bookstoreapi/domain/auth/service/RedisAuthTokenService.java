@@ -1,21 +1,29 @@
 package com.wsd.bookstoreapi.domain.auth.service;
 
+import com.wsd.bookstoreapi.global.security.jwt.TokenHash;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RedisAuthTokenService {
 
     private final StringRedisTemplate stringRedisTemplate;
+    private final TokenBlacklistBloomFilter blacklistBloomFilter;
+
+    @Value("${auth.blacklist.channel:auth:blacklist}")
+    private String blacklistChannel;
 
     // key prefix 들
     private static final String REFRESH_TOKEN_KEY_PREFIX = "RT:";
-    private static final String BLACKLIST_KEY_PREFIX = "BL:";
+    private static final String BLACKLIST_KEY_PREFIX = TokenBlacklistBloomFilter.BLACKLIST_KEY_PREFIX;
 
     /**
      * Refresh Token 저장
@@ -49,25 +57,38 @@ public class RedisAuthTokenService {
 
     /**
      * Access Token 블랙리스트 등록
-     * key: BL:<accessToken>, value: "logout"
+     * key: BL:<SHA-256(accessToken)>, value: "logout"
      */
     public void blacklistAccessToken(String accessToken, long ttlMillis) {
         if (ttlMillis <= 0) {
             return; // 이미 만료임
         }
-        String key = BLACKLIST_KEY_PREFIX + accessToken;
+        String tokenHash = TokenHash.sha256(accessToken);
         stringRedisTemplate.opsForValue().set(
-                key,
+                BLACKLIST_KEY_PREFIX + tokenHash,
                 "logout",
                 Duration.ofMillis(ttlMillis)
         );
+
+        // 로컬 필터에 바로 반영 + 다른 인스턴스에 전파
+        blacklistBloomFilter.add(tokenHash);
+        try {
+            stringRedisTemplate.convertAndSend(blacklistChannel, tokenHash);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 인스턴스는 다음 재구성 때 반영
+            log.warn("Blacklist publish failed: {}", e.getMessage());
+        }
     }
 
     /**
      * Access Token이 블랙리스트인지 확인
+     * (로컬 Bloom filter 에서 "없음"이면 Redis 조회 생략)
      */
     public boolean isAccessTokenBlacklisted(String accessToken) {
-        String key = BLACKLIST_KEY_PREFIX + accessToken;
-        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(key));
+        String tokenHash = TokenHash.sha256(accessToken);
+        if (!blacklistBloomFilter.mightContain(tokenHash)) {
+            return false;
+        }
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(BLACKLIST_KEY_PREFIX + tokenHash));
     }
 }
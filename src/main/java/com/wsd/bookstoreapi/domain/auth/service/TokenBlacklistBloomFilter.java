@@ -0,0 +1,136 @@
+package com.wsd.bookstoreapi.domain.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 블랙리스트 토큰 해시의 로컬 Bloom filter
+ * - "없음" 판정은 확정 → 대부분의 요청은 Redis 조회 없이 통과
+ * - "있을 수 있음" 판정만 Redis 로 확인
+ * - 기동 시/주기적으로 Redis(BL:*)에서 재구성, 다른 인스턴스의 등록은 pub/sub 으로 반영
+ * - 재구성 완료 전에는 항상 Redis 로 확인
+ */
+@Slf4j
+@Component
+public class TokenBlacklistBloomFilter implements MessageListener {
+
+    static final String BLACKLIST_KEY_PREFIX = "BL:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    // add 와 필터 교체를 직렬화 (교체 직전 이전 필터에만 들어간 항목이 사라지지 않도록)
+    private final ReentrantLock swapLock = new ReentrantLock();
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter active;
+    // 재구성 중에 들어온 항목을 새 필터에도 넣기 위함 (swapLock 으로 보호)
+    private BloomFilter building;
+    private volatile boolean ready = false;
+
+    public TokenBlacklistBloomFilter(
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${auth.blacklist.bloom.expected-insertions:100000}") long expectedInsertions,
+            @Value("${auth.blacklist.bloom.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.active = BloomFilter.create(expectedInsertions, falsePositiveRate);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * false 면 블랙리스트에 확실히 없음
+     */
+    public boolean mightContain(String tokenHash) {
+        return !ready || active.mightContain(tokenHash);
+    }
+
+    public void add(String tokenHash) {
+        swapLock.lock();
+        try {
+            active.put(tokenHash);
+            if (building != null) {
+                building.put(tokenHash);
+            }
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 만료된 항목 정리를 위한 주기적 재구성
+     */
+    @Scheduled(
+            initialDelayString = "${auth.blacklist.bloom.rebuild-interval-ms:600000}",
+            fixedDelayString = "${auth.blacklist.bloom.rebuild-interval-ms:600000}"
+    )
+    public void rebuild() {
+        // SCAN 은 오래 걸릴 수 있음 → monitor(synchronized) 대신 ReentrantLock
+        rebuildLock.lock();
+        try {
+            BloomFilter next = BloomFilter.create(expectedInsertions, falsePositiveRate);
+            // 이후의 add 는 새 필터에도 기록, 이전의 add 는 Redis 에 먼저 쓰였으므로 SCAN 에 포함
+            swap(next, active);
+            int count = 0;
+            ScanOptions options = ScanOptions.scanOptions()
+                    .match(BLACKLIST_KEY_PREFIX + "*")
+                    .count(1000)
+                    .build();
+            try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    next.put(cursor.next().substring(BLACKLIST_KEY_PREFIX.length()));
+                    count++;
+                }
+            }
+            swap(null, next);
+            ready = true;
+            log.info("Token blacklist bloom filter rebuilt: entries={}", count);
+        } catch (Exception e) {
+            // 실패 시 기존 필터 유지 (최초 적재 실패면 계속 Redis 로 확인)
+            log.warn("Token blacklist bloom filter rebuild failed: {}", e.getMessage());
+        } finally {
+            swap(null, active);
+            rebuildLock.unlock();
+        }
+    }
+
+    private void swap(BloomFilter nextBuilding, BloomFilter nextActive) {
+        swapLock.lock();
+        try {
+            building = nextBuilding;
+            active = nextActive;
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    /**
+     * 메시지 본문: 토큰 SHA-256 hex
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+}
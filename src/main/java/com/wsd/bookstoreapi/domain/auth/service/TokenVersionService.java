@@ -0,0 +1,131 @@
+package com.wsd.bookstoreapi.domain.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 사용자별 토큰 버전 (토큰의 "ver" 클레임과 비교)
+ * - key: TV:<userId>, 없으면 0
+ * - 버전을 올리면 그 이전에 발급된 사용자의 모든 토큰이 무효 (토큰별 키 불필요)
+ * - 로컬 캐시 + Redis, 변경은 pub/sub 으로 다른 인스턴스에 전파
+ * - 새 버전은 max(현재 + 1, 현재 시각 ms) → 키가 만료/유실된 뒤에 올려도 그 전에 발급된 토큰 버전보다 항상 큼
+ *   (TTL 은 정리용, 키가 없을 때 발급된 토큰은 0 이라 다음 증가에서 함께 폐기)
+ */
+@Slf4j
+@Service
+public class TokenVersionService implements MessageListener {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 버전 증가 - KEYS: TV:<userId> / ARGV: 현재 시각(ms), TTL(ms)
+     * 키가 없어도(만료) 시각 기준으로 올라가므로 INCR 처럼 1 부터 다시 시작하지 않음
+     */
+    private static final RedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local version = math.max(current + 1, tonumber(ARGV[1]))
+            redis.call('SET', KEYS[1], string.format('%d', version), 'PX', ARGV[2])
+            return version
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String keyPrefix;
+    private final String channel;
+    private final Duration versionTtl;
+    private final Cache<Long, Long> localVersions;
+
+    public TokenVersionService(
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${auth.token-version.key-prefix:TV:}") String keyPrefix,
+            @Value("${auth.token-version.channel:auth:token-version}") String channel,
+            @Value("${auth.token-version.local-ttl:5m}") Duration localTtl,
+            @Value("${auth.token-version.local-max-size:100000}") long localMaxSize,
+            @Value("${jwt.refresh-token-expire-time}") long refreshTokenValidityInMs,
+            @Value("${jwt.access-token-expire-time}") long accessTokenValidityInMs
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.channel = channel;
+        this.versionTtl = Duration.ofMillis(Math.max(refreshTokenValidityInMs, accessTokenValidityInMs));
+        this.localVersions = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .build();
+    }
+
+    /**
+     * 현재 버전 (새 토큰 발급 시 "ver" 로 사용)
+     */
+    public long currentVersion(Long userId) {
+        Long cached = localVersions.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+        // Redis 조회는 Caffeine 로더(synchronized 구간) 밖에서 → 가상 스레드가 I/O 중 고정되지 않음
+        long version = readVersion(userId);
+        return localVersions.asMap().merge(userId, version, Math::max);
+    }
+
+    /**
+     * 토큰의 버전이 현재 버전보다 낮으면 폐기된 토큰
+     */
+    public boolean isRevoked(Long userId, long tokenVersion) {
+        return tokenVersion < currentVersion(userId);
+    }
+
+    /**
+     * 버전 증가 → 지금까지 발급된 사용자의 모든 토큰 폐기
+     */
+    public long bump(Long userId) {
+        Long version = stringRedisTemplate.execute(BUMP_SCRIPT, List.of(keyPrefix + userId),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(versionTtl.toMillis()));
+
+        long bumped = version != null ? version : 0L;
+        applyVersion(userId, bumped);
+        try {
+            stringRedisTemplate.convertAndSend(channel, userId + DELIMITER + bumped);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 인스턴스는 로컬 TTL 이 지나야 반영
+            log.warn("Token version publish failed: userId={}, reason={}", userId, e.getMessage());
+        }
+        return bumped;
+    }
+
+    /**
+     * 메시지 형식: userId|version
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 2);
+        if (parts.length != 2) {
+            return;
+        }
+        try {
+            applyVersion(Long.valueOf(parts[0]), Long.parseLong(parts[1]));
+        } catch (NumberFormatException e) {
+            log.warn("Invalid token version message: {}", e.getMessage());
+        }
+    }
+
+    // 메시지 순서가 뒤바뀌어도 버전이 내려가지 않도록 큰 값만 반영
+    private void applyVersion(Long userId, long version) {
+        localVersions.asMap().merge(userId, version, Math::max);
+    }
+
+    private long readVersion(Long userId) {
+        String value = stringRedisTemplate.opsForValue().get(keyPrefix + userId);
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+}
@@ -4,6 +4,7 @@ import com.wsd.bookstoreapi.domain.book.dto.BookCreateRequest;
 import com.wsd.bookstoreapi.domain.book.dto.BookResponse;
 import com.wsd.bookstoreapi.domain.book.dto.BookUpdateRequest;
 import com.wsd.bookstoreapi.domain.book.service.BookService;
+import com.wsd.bookstoreapi.domain.book.service.StockService;
 import com.wsd.bookstoreapi.global.api.ApiResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -24,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 public class AdminBookController {
 
     private final BookService bookService;
+    private final StockService stockService;
 
     @Operation(summary = "도서 생성", description = "관리자가 새로운 도서를 등록합니다.")
     @ApiResponses({
@@ -359,4 +361,33 @@ public class AdminBookController {
         bookService.activateBook(id);
         return ResponseEntity.ok(ApiResult.successMessage("도서가 다시 활성화되었습니다."));
     }
+
+    @Operation(
+            summary = "핫 재고 모드 전환",
+            description = "주문이 몰리는 도서의 재고 차감을 Redis 에서 처리하도록 전환합니다. (inventory.hot-stock.enabled=true 필요)"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "전환 성공"),
+            @ApiResponse(responseCode = "404", description = "대상 도서를 찾을 수 없음"),
+            @ApiResponse(responseCode = "409", description = "이미 핫 재고 모드이거나 기능이 비활성화됨")
+    })
+    @PostMapping("/{id}/hot-stock")
+    public ResponseEntity<ApiResult<Void>> enableHotStock(@PathVariable Long id) {
+        stockService.enableHotStock(id);
+        return ResponseEntity.ok(ApiResult.successMessage("핫 재고 모드로 전환되었습니다."));
+    }
+
+    @Operation(
+            summary = "핫 재고 모드 해제",
+            description = "Redis 에 남은 차감량을 DB 재고에 반영하고 일반 재고 차감으로 되돌립니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "해제 성공"),
+            @ApiResponse(responseCode = "409", description = "핫 재고 모드가 아니거나 기능이 비활성화됨")
+    })
+    @DeleteMapping("/{id}/hot-stock")
+    public ResponseEntity<ApiResult<Void>> disableHotStock(@PathVariable Long id) {
+        stockService.disableHotStock(id);
+        return ResponseEntity.ok(ApiResult.successMessage("핫 재고 모드가 해제되었습니다."));
+    }
 }
@@ -1,6 +1,8 @@
 package com.wsd.bookstoreapi.domain.book.controller;
 
+import com.wsd.bookstoreapi.domain.book.dto.BookCursorResponse;
 import com.wsd.bookstoreapi.domain.book.dto.BookResponse;
+import com.wsd.bookstoreapi.domain.book.dto.PopularBookResponse;
 import com.wsd.bookstoreapi.domain.book.service.BookService;
 import com.wsd.bookstoreapi.global.api.ApiResult;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,6 +17,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Tag(name = "Books", description = "도서 조회 API")
 @RequiredArgsConstructor
 @RestController
@@ -82,6 +86,148 @@ public class BookController {
         return ResponseEntity.ok(apiResult);
     }
 
+    @Operation(
+            summary = "도서 목록 조회 (커서)",
+            description = "무한 스크롤용 커서 기반 목록 조회입니다. 전체 건수 없이 nextCursor 로 다음 페이지를 조회합니다. "
+                    + "sort 는 createdAt, price, title, id 중 하나와 asc/desc 조합입니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "isSuccess": true,
+                                      "message": "도서 목록 조회 성공",
+                                      "code": null,
+                                      "payload": {
+                                        "content": [
+                                          {
+                                            "id": 1,
+                                            "title": "클린 코드",
+                                            "author": "로버트 C. 마틴",
+                                            "publisher": "인사이트",
+                                            "isbn": "9788966260959",
+                                            "category": "PROGRAMMING",
+                                            "price": 29000,
+                                            "createdAt": "2025-12-13T10:00:00",
+                                            "updatedAt": "2025-12-13T10:00:00"
+                                          }
+                                        ],
+                                        "size": 20,
+                                        "hasNext": true,
+                                        "nextCursor": "djF8Q1JFQVRFRF9BVHxERVNDfDF8MjAyNS0xMi0xM1QxMDowMA"
+                                      }
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 cursor/sort/size",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "isSuccess": false,
+                                      "message": "cursor 값이 올바르지 않습니다.",
+                                      "code": "INVALID_QUERY_PARAM",
+                                      "payload": null
+                                    }
+                                    """)
+                    )
+            )
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResult<BookCursorResponse>> getBooksByCursor(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "createdAt,desc") String sort
+    ) {
+        BookCursorResponse response = bookService.getBooksByCursor(keyword, category, cursor, size, sort);
+
+        ApiResult<BookCursorResponse> apiResult = ApiResult.success(
+                response,
+                "도서 목록 조회 성공"
+        );
+
+        return ResponseEntity.ok(apiResult);
+    }
+
+    @Operation(
+            summary = "베스트셀러 조회",
+            description = "판매 수량(취소 제외) 순 상위 도서를 조회합니다. "
+                    + "window 는 hour(현재 시간대), day(최근 24시간), week(최근 7일) 중 하나이고, "
+                    + "category 를 주면 해당 카테고리 안에서의 순위입니다. size 는 최대 50 입니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "isSuccess": true,
+                                      "message": "베스트셀러 조회 성공",
+                                      "code": null,
+                                      "payload": [
+                                        {
+                                          "rank": 1,
+                                          "sales": 42,
+                                          "book": {
+                                            "id": 1,
+                                            "title": "클린 코드",
+                                            "author": "로버트 C. 마틴",
+                                            "publisher": "인사이트",
+                                            "isbn": "9788966260959",
+                                            "category": "PROGRAMMING",
+                                            "price": 29000,
+                                            "createdAt": "2025-12-13T10:00:00",
+                                            "updatedAt": "2025-12-13T10:00:00"
+                                          }
+                                        }
+                                      ]
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 window/size",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "isSuccess": false,
+                                      "message": "window는 hour, day, week 중 하나여야 합니다.",
+                                      "code": "INVALID_QUERY_PARAM",
+                                      "payload": null
+                                    }
+                                    """)
+                    )
+            )
+    })
+    @GetMapping("/popular")
+    public ResponseEntity<ApiResult<List<PopularBookResponse>>> getPopularBooks(
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "day") String window,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        List<PopularBookResponse> response = bookService.getPopularBooks(category, window, size);
+
+        ApiResult<List<PopularBookResponse>> apiResult = ApiResult.success(
+                response,
+                "베스트셀러 조회 성공"
+        );
+
+        return ResponseEntity.ok(apiResult);
+    }
+
     @Operation(summary = "도서 상세 조회", description = "도서 ID로 단건 도서를 조회합니다.")
     @ApiResponses({
             @ApiResponse(
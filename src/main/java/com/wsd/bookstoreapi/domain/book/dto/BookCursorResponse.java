@@ -0,0 +1,28 @@
+package com.wsd.bookstoreapi.domain.book.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 도서 목록 응답 (전체 건수/페이지 수는 제공하지 않음)
+ */
+@Getter
+@Builder
+public class BookCursorResponse {
+
+    @Schema(description = "도서 목록")
+    private List<BookResponse> content;
+
+    @Schema(description = "한 번에 조회한 최대 건수", example = "20")
+    private int size;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지면 null)",
+            example = "djF8Q1JFQVRFRF9BVHxERVNDfDEwfDIwMjUtMTItMDZUMDM6MDA6MDA")
+    private String nextCursor;
+}
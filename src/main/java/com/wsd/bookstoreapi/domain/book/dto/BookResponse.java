@@ -4,13 +4,17 @@ import com.wsd.bookstoreapi.domain.book.entity.Book;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @Builder
+@Jacksonized // 캐시(Redis JSON) 역직렬화용
 public class BookResponse {
 
     @Schema(description = "도서 ID", example = "10")
@@ -40,6 +44,15 @@ public class BookResponse {
     @Schema(description = "출간일", example = "2025-12-06")
     private LocalDate publishedAt;
 
+    @Schema(description = "평균 평점 (리뷰가 없으면 0)", example = "4.25")
+    private BigDecimal ratingAverage;
+
+    @Schema(description = "리뷰 수", example = "12")
+    private Integer ratingCount;
+
+    @Schema(description = "평점별 리뷰 수 [1점, 2점, 3점, 4점, 5점]", example = "[0, 1, 0, 3, 8]")
+    private List<Integer> ratingHistogram;
+
     @Schema(description = "생성 시각", example = "2025-12-06T03:00:00")
     private LocalDateTime createdAt;
 
@@ -55,6 +68,14 @@ public class BookResponse {
                 .isbn(book.getIsbn())
                 .category(book.getCategory())
                 .price(book.getPrice())
+                // books 컬럼에 들어 있는 집계 → 추가 쿼리 없음
+                .ratingAverage(book.getRatingCount() == 0
+                        ? BigDecimal.ZERO
+                        : BigDecimal.valueOf(book.getRatingSum())
+                                .divide(BigDecimal.valueOf(book.getRatingCount()), 2, RoundingMode.HALF_UP))
+                .ratingCount(book.getRatingCount())
+                .ratingHistogram(List.of(book.getRating1(), book.getRating2(), book.getRating3(),
+                        book.getRating4(), book.getRating5()))
                 .createdAt(book.getCreatedAt())
                 .updatedAt(book.getUpdatedAt())
                 .build();
@@ -0,0 +1,22 @@
+package com.wsd.bookstoreapi.domain.book.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 베스트셀러 한 줄 (순위 + 기간 내 판매 수량 + 도서)
+ */
+@Getter
+@AllArgsConstructor
+public class PopularBookResponse {
+
+    @Schema(description = "순위 (1부터)", example = "1")
+    private int rank;
+
+    @Schema(description = "조회 기간 내 판매 수량 (취소 제외)", example = "42")
+    private long sales;
+
+    @Schema(description = "도서")
+    private BookResponse book;
+}
@@ -1,8 +1,11 @@
 package com.wsd.bookstoreapi.domain.book.entity;
 
+import com.wsd.bookstoreapi.domain.book.search.BookSearchIndexListener;
 import com.wsd.bookstoreapi.global.entity.BaseEntity;
+import com.wsd.bookstoreapi.global.entity.PooledId;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 
@@ -15,12 +18,17 @@ import java.math.BigDecimal;
 @Table(name = "books",
         indexes = {
                 @Index(name = "idx_books_title", columnList = "title"),
-                @Index(name = "idx_books_category", columnList = "category")
+                @Index(name = "idx_books_category", columnList = "category"),
+                @Index(name = "idx_books_updated_at", columnList = "updated_at"),
+                @Index(name = "idx_books_created_at", columnList = "created_at"),
+                @Index(name = "idx_books_price", columnList = "price")
         })
+@EntityListeners(BookSearchIndexListener.class)
+@DynamicUpdate // 재고/평점 집계는 조건부·증감 UPDATE 로만 변경되므로, 다른 필드 수정 시 오래된 값을 덮어쓰지 않도록
 public class Book extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("books")
     private Long id;
 
     @Column(nullable = false, length = 255)
@@ -53,4 +61,34 @@ public class Book extends BaseEntity {
     @Builder.Default
     @Column(name = "is_active", nullable = false)
     private boolean is_active = true;
+
+    // 리뷰 평점 집계 - 리뷰 작성/수정/삭제 시 증감 UPDATE 로만 변경 (BookRepository.changeRating)
+    @Builder.Default
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum = 0;
+
+    @Builder.Default
+    @Column(name = "rating_count", nullable = false)
+    private int ratingCount = 0;
+
+    // 평점별 리뷰 수 (1~5점)
+    @Builder.Default
+    @Column(name = "rating_1", nullable = false)
+    private int rating1 = 0;
+
+    @Builder.Default
+    @Column(name = "rating_2", nullable = false)
+    private int rating2 = 0;
+
+    @Builder.Default
+    @Column(name = "rating_3", nullable = false)
+    private int rating3 = 0;
+
+    @Builder.Default
+    @Column(name = "rating_4", nullable = false)
+    private int rating4 = 0;
+
+    @Builder.Default
+    @Column(name = "rating_5", nullable = false)
+    private int rating5 = 0;
 }
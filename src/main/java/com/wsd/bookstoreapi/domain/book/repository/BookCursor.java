@@ -0,0 +1,56 @@
+package com.wsd.bookstoreapi.domain.book.repository;
+
+import com.wsd.bookstoreapi.domain.book.entity.Book;
+import com.wsd.bookstoreapi.global.error.BusinessException;
+import com.wsd.bookstoreapi.global.error.ErrorCode;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 페이지네이션 위치 (마지막으로 내려준 도서의 정렬 키 값 + id)
+ * 클라이언트에는 Base64URL 로 인코딩한 불투명 문자열로만 노출
+ */
+public record BookCursor(
+        BookSortKey sortKey,
+        Sort.Direction direction,
+        Comparable<?> value,
+        Long id
+) {
+
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = "|";
+
+    public static BookCursor after(Book book, BookSortKey sortKey, Sort.Direction direction) {
+        return new BookCursor(sortKey, direction, sortKey.valueOf(book), book.getId());
+    }
+
+    public String encode() {
+        // 값(제목 등)에 구분자가 들어갈 수 있으므로 마지막에 위치
+        String raw = String.join(DELIMITER,
+                VERSION, sortKey.name(), direction.name(), String.valueOf(id), sortKey.format(value));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static BookCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 5);
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("unknown cursor format");
+            }
+
+            BookSortKey sortKey = BookSortKey.valueOf(parts[1]);
+            return new BookCursor(
+                    sortKey,
+                    Sort.Direction.valueOf(parts[2]),
+                    sortKey.parse(parts[4]),
+                    Long.valueOf(parts[3])
+            );
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_QUERY_PARAM, "cursor 값이 올바르지 않습니다.");
+        }
+    }
+}
@@ -1,15 +1,23 @@
 package com.wsd.bookstoreapi.domain.book.repository;
 
 import com.wsd.bookstoreapi.domain.book.entity.Book;
+import com.wsd.bookstoreapi.domain.book.search.BookSearchDocument;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface BookRepository extends JpaRepository<Book, Long> {
+public interface BookRepository extends JpaRepository<Book, Long>, BookRepositoryCustom {
 
     boolean existsByIsbn(String isbn);
 
@@ -33,4 +41,127 @@ public interface BookRepository extends JpaRepository<Book, Long> {
     );
 
     Optional<Book> findByIsbn(String isbn);
+
+    /**
+     * 검색 인덱스로 찾은 ID 목록 중 활성 도서만 페이지 단위로 조회
+     * (전체 건수는 인덱스 결과로 알고 있으므로 count 쿼리 없음)
+     */
+    @Query("""
+        SELECT b
+        FROM Book b
+        WHERE b.id IN :ids
+          AND b.is_active = true
+        """)
+    List<Book> findActiveByIdIn(@Param("ids") Collection<Long> ids, Pageable pageable);
+
+    /**
+     * 검색 인덱스 적재용 - 활성 도서를 ID 기준 keyset 으로 조회
+     */
+    @Query("""
+        SELECT new com.wsd.bookstoreapi.domain.book.search.BookSearchDocument(
+            b.id, b.title, b.category, b.is_active, b.updatedAt)
+        FROM Book b
+        WHERE b.is_active = true
+          AND b.id > :lastId
+        ORDER BY b.id ASC
+        """)
+    List<BookSearchDocument> findActiveSearchDocumentsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 검색 인덱스 동기화용 - 특정 시점 이후 변경된 도서 (비활성 포함)
+     */
+    @Query("""
+        SELECT new com.wsd.bookstoreapi.domain.book.search.BookSearchDocument(
+            b.id, b.title, b.category, b.is_active, b.updatedAt)
+        FROM Book b
+        WHERE b.updatedAt >= :since
+        ORDER BY b.updatedAt ASC, b.id ASC
+        """)
+    List<BookSearchDocument> findSearchDocumentsUpdatedSince(@Param("since") LocalDateTime since, Pageable pageable);
+
+    /**
+     * 재고 기준값을 읽기 위한 행 잠금 조회 (SELECT ... FOR UPDATE)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Book b WHERE b.id = :id")
+    Optional<Book> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 재고 조건부 차감 (재고가 부족하면 0건 갱신)
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE books
+        SET stock_quantity = stock_quantity - :quantity
+        WHERE id = :id
+          AND stock_quantity >= :quantity
+        """, nativeQuery = true)
+    int decreaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query(value = """
+        UPDATE books
+        SET stock_quantity = stock_quantity + :quantity
+        WHERE id = :id
+        """, nativeQuery = true)
+    int increaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * 평점 집계 증감 - added: 새로 반영할 평점, removed: 빼낼 평점 (없으면 0)
+     * 작성 (r, 0) / 삭제 (0, r) / 수정 (새 평점, 이전 평점)
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE books
+        SET rating_sum   = rating_sum + :added - :removed,
+            rating_count = rating_count + (:added > 0) - (:removed > 0),
+            rating_1     = rating_1 + (:added = 1) - (:removed = 1),
+            rating_2     = rating_2 + (:added = 2) - (:removed = 2),
+            rating_3     = rating_3 + (:added = 3) - (:removed = 3),
+            rating_4     = rating_4 + (:added = 4) - (:removed = 4),
+            rating_5     = rating_5 + (:added = 5) - (:removed = 5)
+        WHERE id = :id
+        """, nativeQuery = true)
+    int changeRating(@Param("id") Long id, @Param("added") int added, @Param("removed") int removed);
+
+    /**
+     * 평점 집계 재계산 (id 구간 단위) - reviews 와 다른 도서만 갱신
+     * @return 바로잡은 도서 수
+     * 구간마다 별도 트랜잭션 (잠금을 짧게 유지)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE books b
+        LEFT JOIN (SELECT book_id,
+                          SUM(rating)      AS rating_sum,
+                          COUNT(*)         AS rating_count,
+                          SUM(rating = 1)  AS rating_1,
+                          SUM(rating = 2)  AS rating_2,
+                          SUM(rating = 3)  AS rating_3,
+                          SUM(rating = 4)  AS rating_4,
+                          SUM(rating = 5)  AS rating_5
+                   FROM reviews
+                   WHERE book_id > :fromId AND book_id <= :toId
+                   GROUP BY book_id) r ON r.book_id = b.id
+        SET b.rating_sum   = COALESCE(r.rating_sum, 0),
+            b.rating_count = COALESCE(r.rating_count, 0),
+            b.rating_1     = COALESCE(r.rating_1, 0),
+            b.rating_2     = COALESCE(r.rating_2, 0),
+            b.rating_3     = COALESCE(r.rating_3, 0),
+            b.rating_4     = COALESCE(r.rating_4, 0),
+            b.rating_5     = COALESCE(r.rating_5, 0)
+        WHERE b.id > :fromId AND b.id <= :toId
+          AND (b.rating_sum   <> COALESCE(r.rating_sum, 0)
+            OR b.rating_count <> COALESCE(r.rating_count, 0)
+            OR b.rating_1     <> COALESCE(r.rating_1, 0)
+            OR b.rating_2     <> COALESCE(r.rating_2, 0)
+            OR b.rating_3     <> COALESCE(r.rating_3, 0)
+            OR b.rating_4     <> COALESCE(r.rating_4, 0)
+            OR b.rating_5     <> COALESCE(r.rating_5, 0))
+        """, nativeQuery = true)
+    int repairRatings(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Query("SELECT COALESCE(MAX(b.id), 0) FROM Book b")
+    long findMaxId();
 }
@@ -0,0 +1,26 @@
+package com.wsd.bookstoreapi.domain.book.repository;
+
+import com.wsd.bookstoreapi.domain.book.entity.Book;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface BookRepositoryCustom {
+
+    /**
+     * 활성 도서 keyset(seek) 조회 - OFFSET/COUNT 없이 (정렬 키, id) 다음 위치부터 limit 건
+     * - keyword: 제목 LIKE (ids 가 주어지면 무시)
+     * - ids: 검색 인덱스로 이미 찾은 후보 ID (null 이면 조건 없음)
+     * - after: null 이면 첫 페이지
+     */
+    List<Book> findActiveBySeek(
+            String keyword,
+            String category,
+            Collection<Long> ids,
+            BookSortKey sortKey,
+            Sort.Direction direction,
+            BookCursor after,
+            int limit
+    );
+}
@@ -0,0 +1,90 @@
+package com.wsd.bookstoreapi.domain.book.repository;
+
+import com.wsd.bookstoreapi.domain.book.entity.Book;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+public class BookRepositoryImpl implements BookRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<Book> findActiveBySeek(
+            String keyword,
+            String category,
+            Collection<Long> ids,
+            BookSortKey sortKey,
+            Sort.Direction direction,
+            BookCursor after,
+            int limit
+    ) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Book> query = cb.createQuery(Book.class);
+        Root<Book> book = query.from(Book.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.isTrue(book.<Boolean>get("is_active")));
+
+        if (ids != null) {
+            predicates.add(book.get("id").in(ids));
+        } else if (keyword != null) {
+            predicates.add(cb.like(
+                    cb.lower(book.<String>get("title")),
+                    "%" + keyword.toLowerCase(Locale.ROOT) + "%"
+            ));
+        }
+        if (category != null) {
+            predicates.add(cb.equal(book.get("category"), category));
+        }
+        if (after != null) {
+            predicates.add(seek(cb, book, sortKey, direction, after));
+        }
+
+        Path<Object> sortPath = book.get(sortKey.getProperty());
+        Path<Object> idPath = book.get("id");
+        List<Order> orders = direction.isAscending()
+                ? List.of(cb.asc(sortPath), cb.asc(idPath))
+                : List.of(cb.desc(sortPath), cb.desc(idPath));
+
+        query.select(book)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(sortKey == BookSortKey.ID ? orders.subList(0, 1) : orders);
+
+        return em.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * (key, id) > (cursor.value, cursor.id)  (내림차순이면 <)
+     * MySQL 은 row constructor 비교에 인덱스를 잘 못 타므로 OR 로 풀어서 작성
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate seek(CriteriaBuilder cb, Root<Book> book,
+                           BookSortKey sortKey, Sort.Direction direction, BookCursor after) {
+        Path<Long> idPath = book.get("id");
+        Predicate idBeyond = direction.isAscending()
+                ? cb.greaterThan(idPath, after.id())
+                : cb.lessThan(idPath, after.id());
+
+        if (sortKey == BookSortKey.ID) {
+            return idBeyond;
+        }
+
+        Path<Comparable> keyPath = book.get(sortKey.getProperty());
+        Comparable value = after.value();
+        Predicate keyBeyond = direction.isAscending()
+                ? cb.greaterThan(keyPath, value)
+                : cb.lessThan(keyPath, value);
+
+        return cb.or(keyBeyond, cb.and(cb.equal(keyPath, value), idBeyond));
+    }
+}
@@ -0,0 +1,55 @@
+package com.wsd.bookstoreapi.domain.book.repository;
+
+import com.wsd.bookstoreapi.domain.book.entity.Book;
+import com.wsd.bookstoreapi.global.error.BusinessException;
+import com.wsd.bookstoreapi.global.error.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * 커서 페이지네이션에서 허용하는 정렬 키
+ * (id 를 보조 정렬 키로 붙여 (정렬 키, id) 순서가 항상 유일하도록 함)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BookSortKey {
+
+    CREATED_AT("createdAt", Book::getCreatedAt, LocalDateTime::parse),
+    PRICE("price", Book::getPrice, BigDecimal::new),
+    TITLE("title", Book::getTitle, Function.identity()),
+    ID("id", Book::getId, Long::valueOf);
+
+    private final String property;
+    private final Function<Book, ? extends Comparable<?>> extractor;
+    private final Function<String, ? extends Comparable<?>> parser;
+
+    public static BookSortKey fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(key -> key.property.equals(property))
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(
+                        ErrorCode.INVALID_QUERY_PARAM,
+                        "지원하지 않는 정렬 기준입니다: " + property
+                ));
+    }
+
+    public Comparable<?> valueOf(Book book) {
+        return extractor.apply(book);
+    }
+
+    public Comparable<?> parse(String raw) {
+        return parser.apply(raw);
+    }
+
+    public String format(Comparable<?> value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        return value.toString();
+    }
+}
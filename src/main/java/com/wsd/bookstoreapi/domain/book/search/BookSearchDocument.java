@@ -0,0 +1,15 @@
+package com.wsd.bookstoreapi.domain.book.search;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 인덱스 적재용 프로젝션 (description 같은 큰 컬럼은 읽지 않음)
+ */
+public record BookSearchDocument(
+        Long id,
+        String title,
+        String category,
+        boolean active,
+        LocalDateTime updatedAt
+) {
+}
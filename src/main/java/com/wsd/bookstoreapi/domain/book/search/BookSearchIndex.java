@@ -0,0 +1,267 @@
+package com.wsd.bookstoreapi.domain.book.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 활성 도서 제목의 n-gram 역색인 (인메모리)
+ * - 토큰 → 도서 ID 정렬 배열(posting list)
+ * - 읽기는 락 없이, 쓰기는 단일 락 + copy-on-write 배열
+ * - LIKE '%kw%' 와 결과가 같도록 후보를 원문 제목으로 한 번 더 검증
+ */
+@Slf4j
+@Component
+public class BookSearchIndex {
+
+    private final int maxCandidates;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    // rebuild 시 통째로 교체되므로 volatile 참조로 보관
+    private volatile Segment segment = Segment.empty();
+    private volatile boolean ready = false;
+
+    public BookSearchIndex(@Value("${book.search.index.max-candidates:1000}") int maxCandidates) {
+        this.maxCandidates = maxCandidates;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return segment.documents().size();
+    }
+
+    /**
+     * 제목 키워드(+카테고리)로 활성 도서 ID 검색 (ID 오름차순)
+     * 인덱스로 답할 수 없는 경우 Optional.empty() → 호출 측에서 SQL로 처리
+     * - 인덱스 적재 전
+     * - 키워드가 n-gram 길이보다 짧음
+     * - 결과가 max-candidates 를 넘는 비선택적 검색어
+     */
+    public Optional<List<Long>> search(String keyword, String category) {
+        if (!ready || keyword == null) {
+            return Optional.empty();
+        }
+
+        String normalizedKeyword = NgramTokenizer.normalize(keyword);
+        if (!NgramTokenizer.isSearchable(normalizedKeyword)) {
+            return Optional.empty();
+        }
+
+        Segment current = segment;
+
+        List<long[]> postingLists = new ArrayList<>();
+        for (String gram : NgramTokenizer.tokenize(normalizedKeyword)) {
+            long[] ids = current.postings().get(gram);
+            if (ids == null) {
+                // 토큰 하나라도 없으면 결과 없음 (DB 조회 불필요)
+                return Optional.of(List.of());
+            }
+            postingLists.add(ids);
+        }
+        // 가장 짧은 posting list 기준으로 교집합
+        postingLists.sort(Comparator.comparingInt(ids -> ids.length));
+
+        List<Long> hits = new ArrayList<>();
+        for (long id : postingLists.get(0)) {
+            if (!containsInAll(postingLists, id)) {
+                continue;
+            }
+
+            IndexedBook book = current.documents().get(id);
+            if (book == null || !book.title().contains(normalizedKeyword)) {
+                continue;
+            }
+            if (category != null && !category.equals(book.category())) {
+                continue;
+            }
+
+            hits.add(id);
+            if (hits.size() > maxCandidates) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(hits);
+    }
+
+    /**
+     * 도서 추가/변경 반영 (비활성 도서는 인덱스에서 제거)
+     */
+    public void upsert(Long id, String title, String category, boolean active) {
+        if (!active) {
+            remove(id);
+            return;
+        }
+
+        IndexedBook updated = new IndexedBook(NgramTokenizer.normalize(title), category);
+
+        writeLock.lock();
+        try {
+            Segment current = segment;
+            IndexedBook previous = current.documents().get(id);
+            if (updated.equals(previous)) {
+                return;
+            }
+
+            Set<String> newGrams = NgramTokenizer.tokenize(updated.title());
+            Set<String> oldGrams = previous != null
+                    ? NgramTokenizer.tokenize(previous.title())
+                    : Set.of();
+
+            for (String gram : oldGrams) {
+                if (!newGrams.contains(gram)) {
+                    current.postings().computeIfPresent(gram, (k, ids) -> without(ids, id));
+                }
+            }
+            for (String gram : newGrams) {
+                if (!oldGrams.contains(gram)) {
+                    current.postings().compute(gram, (k, ids) -> with(ids, id));
+                }
+            }
+            current.documents().put(id, updated);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 도서 제거 (soft delete 포함)
+     */
+    public void remove(Long id) {
+        writeLock.lock();
+        try {
+            Segment current = segment;
+            IndexedBook previous = current.documents().remove(id);
+            if (previous == null) {
+                return;
+            }
+            for (String gram : NgramTokenizer.tokenize(previous.title())) {
+                current.postings().computeIfPresent(gram, (k, ids) -> without(ids, id));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 전체 재적재용 빌더 (교체 전까지는 기존 인덱스로 계속 검색)
+     */
+    public Builder newBuilder() {
+        return new Builder();
+    }
+
+    public void replaceWith(Builder builder) {
+        Segment rebuilt = builder.build();
+
+        writeLock.lock();
+        try {
+            this.segment = rebuilt;
+            this.ready = true;
+        } finally {
+            writeLock.unlock();
+        }
+        log.info("Book search index rebuilt: books={}, tokens={}",
+                rebuilt.documents().size(), rebuilt.postings().size());
+    }
+
+    private static boolean containsInAll(List<long[]> postingLists, long id) {
+        for (int i = 1; i < postingLists.size(); i++) {
+            if (Arrays.binarySearch(postingLists.get(i), id) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long[] with(long[] ids, long id) {
+        if (ids == null) {
+            return new long[]{id};
+        }
+        int pos = Arrays.binarySearch(ids, id);
+        if (pos >= 0) {
+            return ids;
+        }
+        int insertAt = -pos - 1;
+        long[] copy = new long[ids.length + 1];
+        System.arraycopy(ids, 0, copy, 0, insertAt);
+        copy[insertAt] = id;
+        System.arraycopy(ids, insertAt, copy, insertAt + 1, ids.length - insertAt);
+        return copy;
+    }
+
+    // 비게 되면 null 반환 → compute 계열에서 키 자체가 제거됨
+    private static long[] without(long[] ids, long id) {
+        int pos = Arrays.binarySearch(ids, id);
+        if (pos < 0) {
+            return ids;
+        }
+        if (ids.length == 1) {
+            return null;
+        }
+        long[] copy = new long[ids.length - 1];
+        System.arraycopy(ids, 0, copy, 0, pos);
+        System.arraycopy(ids, pos + 1, copy, pos, ids.length - pos - 1);
+        return copy;
+    }
+
+    private record IndexedBook(String title, String category) {
+    }
+
+    private record Segment(ConcurrentHashMap<String, long[]> postings,
+                           ConcurrentHashMap<Long, IndexedBook> documents) {
+
+        static Segment empty() {
+            return new Segment(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+    }
+
+    public static class Builder {
+
+        private final Map<String, LongArrayBuilder> postings = new HashMap<>();
+        private final Map<Long, IndexedBook> documents = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public void add(Long id, String title, String category) {
+            IndexedBook book = new IndexedBook(NgramTokenizer.normalize(title), category);
+            if (documents.put(id, book) != null) {
+                return;
+            }
+            for (String gram : NgramTokenizer.tokenize(book.title())) {
+                postings.computeIfAbsent(gram, k -> new LongArrayBuilder()).add(id);
+            }
+        }
+
+        private Segment build() {
+            ConcurrentHashMap<String, long[]> frozen = new ConcurrentHashMap<>(postings.size());
+            postings.forEach((gram, ids) -> frozen.put(gram, ids.toSortedArray()));
+            return new Segment(frozen, new ConcurrentHashMap<>(documents));
+        }
+    }
+
+    private static class LongArrayBuilder {
+
+        private long[] values = new long[4];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toSortedArray() {
+            long[] result = Arrays.copyOf(values, size);
+            Arrays.sort(result);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.wsd.bookstoreapi.domain.book.search;
+
+import com.wsd.bookstoreapi.domain.book.entity.Book;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Book 엔티티 변경 → 검색 인덱스 반영
+ * - 커밋 이후에만 반영 (롤백된 변경이 검색되지 않도록)
+ * - Hibernate 가 Spring 빈 컨테이너로 생성하므로 생성자 주입 가능
+ */
+@RequiredArgsConstructor
+public class BookSearchIndexListener {
+
+    private final BookSearchIndex bookSearchIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Book book) {
+        Long id = book.getId();
+        String title = book.getTitle();
+        String category = book.getCategory();
+        boolean active = book.is_active();
+
+        afterCommit(() -> bookSearchIndex.upsert(id, title, category, active));
+    }
+
+    @PostRemove
+    public void onRemove(Book book) {
+        Long id = book.getId();
+        afterCommit(() -> bookSearchIndex.remove(id));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
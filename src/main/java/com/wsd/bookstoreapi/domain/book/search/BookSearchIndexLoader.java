@@ -0,0 +1,97 @@
+package com.wsd.bookstoreapi.domain.book.search;
+
+import com.wsd.bookstoreapi.domain.book.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 검색 인덱스 적재/동기화
+ * - 기동 시: 활성 도서 전체를 ID 기준 keyset 으로 읽어 재구성
+ * - 주기적으로: updated_at 이후 변경분을 다시 읽어 반영 (다른 인스턴스에서 수정된 도서 포함)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "book.search.index.enabled", havingValue = "true", matchIfMissing = true)
+public class BookSearchIndexLoader {
+
+    // 인스턴스 간 시계 오차/커밋 지연을 고려해 변경분은 겹쳐서 다시 읽음
+    private static final long OVERLAP_SECONDS = 30;
+
+    private final BookRepository bookRepository;
+    private final BookSearchIndex bookSearchIndex;
+
+    @Value("${book.search.index.batch-size:1000}")
+    private int batchSize;
+
+    private volatile LocalDateTime watermark;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        BookSearchIndex.Builder builder = bookSearchIndex.newBuilder();
+
+        long lastId = 0L;
+        while (true) {
+            List<BookSearchDocument> documents =
+                    bookRepository.findActiveSearchDocumentsAfter(lastId, PageRequest.of(0, batchSize));
+            documents.forEach(doc -> builder.add(doc.id(), doc.title(), doc.category()));
+
+            if (documents.size() < batchSize) {
+                break;
+            }
+            lastId = documents.get(documents.size() - 1).id();
+        }
+
+        bookSearchIndex.replaceWith(builder);
+        // 재구성 중에 커밋된 변경분은 다음 refresh 에서 다시 반영
+        watermark = startedAt;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${book.search.index.refresh-interval-ms:5000}",
+            initialDelayString = "${book.search.index.refresh-interval-ms:5000}"
+    )
+    public void refresh() {
+        LocalDateTime since = watermark;
+        if (since == null) {
+            return;
+        }
+
+        try {
+            LocalDateTime next = since;
+            LocalDateTime from = since.minusSeconds(OVERLAP_SECONDS);
+
+            int page = 0;
+            while (true) {
+                List<BookSearchDocument> documents =
+                        bookRepository.findSearchDocumentsUpdatedSince(from, PageRequest.of(page++, batchSize));
+
+                for (BookSearchDocument doc : documents) {
+                    bookSearchIndex.upsert(doc.id(), doc.title(), doc.category(), doc.active());
+                    if (doc.updatedAt() != null && doc.updatedAt().isAfter(next)) {
+                        next = doc.updatedAt();
+                    }
+                }
+
+                if (documents.size() < batchSize) {
+                    break;
+                }
+            }
+            watermark = next;
+        } catch (Exception e) {
+            // DB 일시 장애 시 다음 주기에 같은 구간을 다시 읽음
+            log.warn("Book search index refresh failed: {}", e.getMessage());
+        }
+    }
+}
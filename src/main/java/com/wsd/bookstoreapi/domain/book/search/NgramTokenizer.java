@@ -0,0 +1,49 @@
+package com.wsd.bookstoreapi.domain.book.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 도서 제목용 n-gram(기본 bigram) 토크나이저
+ * - 한글은 형태소 분석 없이도 부분 문자열 검색이 되도록 글자 단위 n-gram 사용
+ * - 공백도 그대로 포함해서 LIKE '%kw%' 와 같은 의미를 유지
+ */
+public final class NgramTokenizer {
+
+    public static final int GRAM_SIZE = 2;
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 검색 비교용 정규화 (대소문자 무시)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 정규화된 문자열을 n-gram 집합으로 분해
+     * 길이가 GRAM_SIZE 보다 짧으면 빈 집합
+     */
+    public static Set<String> tokenize(String normalized) {
+        int[] codePoints = normalized.codePoints().toArray();
+        Set<String> grams = new LinkedHashSet<>();
+
+        for (int i = 0; i + GRAM_SIZE <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    /**
+     * 인덱스로 검색 가능한 키워드인지 (n-gram 하나 이상 생성 가능)
+     */
+    public static boolean isSearchable(String normalized) {
+        return normalized.codePointCount(0, normalized.length()) >= GRAM_SIZE;
+    }
+}
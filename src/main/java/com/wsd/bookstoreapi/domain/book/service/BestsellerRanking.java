@@ -0,0 +1,311 @@
+package com.wsd.bookstoreapi.domain.book.service;
+
+import com.wsd.bookstoreapi.domain.order.dto.BookHourlySales;
+import com.wsd.bookstoreapi.global.error.BusinessException;
+import com.wsd.bookstoreapi.global.error.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * 판매 수량 기준 베스트셀러 순위 (Redis sorted set, member = 도서 ID, score = 판매 수량)
+ * - <prefix>h:<yyyyMMddHH>:<범위> : 시간 버킷, 26시간 보관
+ * - <prefix>d:<yyyyMMdd>:<범위>   : 일 버킷, 8일 보관
+ * - 범위는 전체(_all) 또는 카테고리, 주문 시각의 버킷에 더하고 취소되면 같은 버킷에서 뺌
+ * 조회 기간: hour = 현재 시간 버킷, day = 최근 24개 시간 버킷 합, week = 최근 7개 일 버킷 합
+ * 합친 결과는 window-cache-ttl 동안 재사용
+ */
+@Slf4j
+@Component
+public class BestsellerRanking {
+
+    private static final String ALL = "_all";
+    private static final String UNCATEGORIZED = "_none";
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final Duration HOUR_RETENTION = Duration.ofHours(26);
+    private static final Duration DAY_RETENTION = Duration.ofDays(8);
+
+    /** week 기간에 합치는 일 버킷 수 (재구축 범위도 같음) */
+    public static final int WEEK_DAYS = 7;
+
+    /**
+     * 판매 반영 - KEYS: 시간(전체), 일(전체), 시간(카테고리1), 일(카테고리1), 시간(카테고리2) ...
+     * ARGV: 시간 버킷 만료 시각, 일 버킷 만료 시각, bookId1, 증감1, bookId2, 증감2 ...
+     * 도서 i 번째 쌍의 카테고리 키가 KEYS 의 같은 위치, 0 이하로 내려간 도서는 제거
+     */
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            for i = 3, #ARGV, 2 do
+                redis.call('ZINCRBY', KEYS[1], ARGV[i + 1], ARGV[i])
+                redis.call('ZINCRBY', KEYS[2], ARGV[i + 1], ARGV[i])
+                redis.call('ZINCRBY', KEYS[i], ARGV[i + 1], ARGV[i])
+                redis.call('ZINCRBY', KEYS[i + 1], ARGV[i + 1], ARGV[i])
+            end
+            for k = 1, #KEYS do
+                redis.call('ZREMRANGEBYSCORE', KEYS[k], '-inf', 0)
+                redis.call('EXPIREAT', KEYS[k], ARGV[2 - k % 2])
+            end
+            return #KEYS
+            """, Long.class);
+
+    /**
+     * 상위 K - KEYS: 결과 키, 합칠 버킷 ... / ARGV: 결과 키 TTL(초), K
+     * 합칠 버킷이 있으면 결과 키가 없을 때만 ZUNIONSTORE, 결과는 {bookId, 수량, ...}
+     */
+    private static final RedisScript<List> TOP_SCRIPT = new DefaultRedisScript<>("""
+            if #KEYS > 1 and redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('ZUNIONSTORE', KEYS[1], #KEYS - 1, unpack(KEYS, 2))
+                redis.call('EXPIRE', KEYS[1], ARGV[1])
+            end
+            return redis.call('ZREVRANGE', KEYS[1], 0, tonumber(ARGV[2]) - 1, 'WITHSCORES')
+            """, List.class);
+
+    /**
+     * 버킷 교체 (재구축) - KEYS: 버킷 / ARGV: 만료 시각, bookId1, 수량1 ...
+     */
+    private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            for i = 2, #ARGV, 2 do
+                redis.call('ZADD', KEYS[1], ARGV[i + 1], ARGV[i])
+            end
+            redis.call('EXPIREAT', KEYS[1], ARGV[1])
+            return (#ARGV - 1) / 2
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String keyPrefix;
+    private final Duration windowCacheTtl;
+
+    public BestsellerRanking(StringRedisTemplate stringRedisTemplate,
+                             @Value("${bestseller.key-prefix:BEST:}") String keyPrefix,
+                             @Value("${bestseller.window-cache-ttl:60s}") Duration windowCacheTtl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.windowCacheTtl = windowCacheTtl;
+    }
+
+    public enum Window {
+        HOUR, DAY, WEEK;
+
+        public static Window from(String value) {
+            for (Window window : values()) {
+                if (window.name().equalsIgnoreCase(value)) {
+                    return window;
+                }
+            }
+            throw new BusinessException(
+                    ErrorCode.INVALID_QUERY_PARAM,
+                    "window는 hour, day, week 중 하나여야 합니다."
+            );
+        }
+    }
+
+    /** 주문 한 건의 도서별 판매 수량 */
+    public record Sale(Long bookId, String category, int quantity) {
+    }
+
+    /** 순위 한 줄 */
+    public record Entry(Long bookId, long sales) {
+    }
+
+    /**
+     * 주문 커밋 후 판매 수량 반영
+     */
+    public void recordOrdered(LocalDateTime orderedAt, List<Sale> sales) {
+        record(orderedAt, sales, 1);
+    }
+
+    /**
+     * 취소 커밋 후 주문 시각의 버킷에서 판매 수량 차감
+     */
+    public void recordCanceled(LocalDateTime orderedAt, List<Sale> sales) {
+        record(orderedAt, sales, -1);
+    }
+
+    private void record(LocalDateTime orderedAt, List<Sale> sales, int sign) {
+        // 버킷이 이미 만료된 오래된 주문은 순위에 영향 없음
+        if (sales.isEmpty() || !dayExpiry(orderedAt).isAfter(LocalDateTime.now())) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>();
+        keys.add(hourKey(orderedAt, ALL));
+        keys.add(dayKey(orderedAt, ALL));
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(epochSecond(hourExpiry(orderedAt))));
+        args.add(String.valueOf(epochSecond(dayExpiry(orderedAt))));
+        for (Sale sale : sales) {
+            keys.add(hourKey(orderedAt, scope(sale.category())));
+            keys.add(dayKey(orderedAt, scope(sale.category())));
+            args.add(String.valueOf(sale.bookId()));
+            args.add(String.valueOf(sign * sale.quantity()));
+        }
+
+        afterCommit(() -> {
+            try {
+                stringRedisTemplate.execute(RECORD_SCRIPT, keys, args.toArray());
+            } catch (Exception e) {
+                // 순위는 보조 데이터 - 주문 결과에는 영향을 주지 않고 재구축 작업으로 복구
+                log.warn("Bestseller update failed: orderedAt={}, sign={}, reason={}",
+                        orderedAt, sign, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 기간/범위(카테고리, null 이면 전체)별 상위 size 개 도서 ID와 판매 수량
+     */
+    public List<Entry> top(String category, Window window, int size) {
+        LocalDateTime now = LocalDateTime.now();
+        String scope = category == null ? ALL : category;
+
+        List<String> keys = new ArrayList<>();
+        switch (window) {
+            case HOUR -> keys.add(hourKey(now, scope));
+            case DAY -> {
+                keys.add(keyPrefix + "w:day:" + now.format(HOUR_FORMAT) + ":" + scope);
+                for (int i = 0; i < 24; i++) {
+                    keys.add(hourKey(now.minusHours(i), scope));
+                }
+            }
+            case WEEK -> {
+                keys.add(keyPrefix + "w:week:" + now.format(HOUR_FORMAT) + ":" + scope);
+                for (int i = 0; i < WEEK_DAYS; i++) {
+                    keys.add(dayKey(now.minusDays(i), scope));
+                }
+            }
+        }
+
+        List<String> flat = runTop(keys,
+                String.valueOf(Math.max(1, windowCacheTtl.toSeconds())), String.valueOf(size));
+
+        List<Entry> entries = new ArrayList<>();
+        if (flat == null) {
+            return entries;
+        }
+        for (int i = 0; i + 1 < flat.size(); i += 2) {
+            entries.add(new Entry(Long.valueOf(flat.get(i)), (long) Double.parseDouble(flat.get(i + 1))));
+        }
+        return entries;
+    }
+
+    /**
+     * @return [bookId1, score1, bookId2, score2 ...] (ZRANGE WITHSCORES 형식)
+     */
+    @SuppressWarnings("unchecked")
+    private List<String> runTop(List<String> keys, Object... args) {
+        return stringRedisTemplate.execute(TOP_SCRIPT, keys, args);
+    }
+
+    /**
+     * SQL 로 다시 합산한 판매 수량으로 버킷 교체 (재구축 이후 들어온 주문 외에는 DB 와 같아짐)
+     * 이미 만료됐을 시간 버킷은 만들지 않음
+     *
+     * @return 교체한 버킷 수
+     */
+    public int replaceAll(List<BookHourlySales> rows) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Map<Long, Long>> buckets = new HashMap<>();
+        Map<String, LocalDateTime> expiries = new HashMap<>();
+
+        for (BookHourlySales row : rows) {
+            LocalDateTime hour = row.day().atTime(row.hour(), 0);
+            String scope = scope(row.category());
+            if (hourExpiry(hour).isAfter(now)) {
+                add(buckets, expiries, hourKey(hour, ALL), hourExpiry(hour), row);
+                add(buckets, expiries, hourKey(hour, scope), hourExpiry(hour), row);
+            }
+            add(buckets, expiries, dayKey(hour, ALL), dayExpiry(hour), row);
+            add(buckets, expiries, dayKey(hour, scope), dayExpiry(hour), row);
+        }
+
+        buckets.forEach((key, sales) -> {
+            List<String> args = new ArrayList<>();
+            args.add(String.valueOf(epochSecond(expiries.get(key))));
+            sales.forEach((bookId, quantity) -> {
+                args.add(String.valueOf(bookId));
+                args.add(String.valueOf(quantity));
+            });
+            stringRedisTemplate.execute(REPLACE_SCRIPT, List.of(key), args.toArray());
+        });
+        return buckets.size();
+    }
+
+    private void add(Map<String, Map<Long, Long>> buckets, Map<String, LocalDateTime> expiries,
+                     String key, LocalDateTime expiry, BookHourlySales row) {
+        buckets.computeIfAbsent(key, k -> new HashMap<>()).merge(row.bookId(), row.quantity(), Long::sum);
+        expiries.putIfAbsent(key, expiry);
+    }
+
+    /**
+     * 재구축 완료 표시가 있는지 (없으면 Redis 가 비었거나 새로 뜬 상태로 보고 재구축)
+     */
+    public boolean isBuilt() {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(keyPrefix + "built"));
+    }
+
+    public void markBuilt() {
+        stringRedisTemplate.opsForValue().set(keyPrefix + "built", LocalDateTime.now().toString());
+    }
+
+    /**
+     * 여러 인스턴스 중 하나만 재구축하도록 잠금 (작업이 죽어도 ttl 후 풀림)
+     */
+    public boolean tryLockRebuild(Duration ttl) {
+        return Boolean.TRUE.equals(
+                stringRedisTemplate.opsForValue().setIfAbsent(keyPrefix + "rebuild-lock", "1", ttl));
+    }
+
+    public void unlockRebuild() {
+        stringRedisTemplate.delete(keyPrefix + "rebuild-lock");
+    }
+
+    private String hourKey(LocalDateTime at, String scope) {
+        return keyPrefix + "h:" + at.format(HOUR_FORMAT) + ":" + scope;
+    }
+
+    private String dayKey(LocalDateTime at, String scope) {
+        return keyPrefix + "d:" + at.format(DAY_FORMAT) + ":" + scope;
+    }
+
+    private LocalDateTime hourExpiry(LocalDateTime at) {
+        return at.truncatedTo(ChronoUnit.HOURS).plus(HOUR_RETENTION);
+    }
+
+    private LocalDateTime dayExpiry(LocalDateTime at) {
+        return at.truncatedTo(ChronoUnit.DAYS).plus(DAY_RETENTION);
+    }
+
+    private static String scope(String category) {
+        return category == null || category.isBlank() ? UNCATEGORIZED : category;
+    }
+
+    private static long epochSecond(LocalDateTime at) {
+        return at.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,65 @@
+package com.wsd.bookstoreapi.domain.book.service;
+
+import com.wsd.bookstoreapi.domain.order.dto.BookHourlySales;
+import com.wsd.bookstoreapi.domain.order.entity.OrderStatus;
+import com.wsd.bookstoreapi.domain.order.repository.OrderItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 베스트셀러 순위 재구축 (콜드 스타트)
+ * Redis 에 재구축 완료 표시가 없으면(Redis 초기화, 첫 배포) 최근 7일 주문을 SQL 로 합산해 버킷을 채움
+ * 평소에는 주문/취소 시 증감으로만 유지되므로 이 작업은 표시 확인만 함
+ */
+@Slf4j
+@Component
+public class BestsellerRebuildJob {
+
+    private static final Duration LOCK_TTL = Duration.ofMinutes(5);
+
+    private final OrderItemRepository orderItemRepository;
+    private final BestsellerRanking bestsellerRanking;
+
+    public BestsellerRebuildJob(OrderItemRepository orderItemRepository,
+                                BestsellerRanking bestsellerRanking) {
+        this.orderItemRepository = orderItemRepository;
+        this.bestsellerRanking = bestsellerRanking;
+    }
+
+    @Scheduled(initialDelayString = "${bestseller.cold-check-initial-delay-ms:0}",
+            fixedDelayString = "${bestseller.cold-check-interval-ms:60000}")
+    public void run() {
+        try {
+            if (!bestsellerRanking.isBuilt()) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.warn("Bestseller rebuild failed: reason={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return 채운 버킷 수 (다른 인스턴스가 재구축 중이면 -1)
+     */
+    public int rebuild() {
+        if (!bestsellerRanking.tryLockRebuild(LOCK_TTL)) {
+            return -1;
+        }
+        try {
+            List<BookHourlySales> rows = orderItemRepository.sumHourlySalesSince(
+                    LocalDate.now().minusDays(BestsellerRanking.WEEK_DAYS - 1).atStartOfDay(),
+                    OrderStatus.CANCELED);
+            int buckets = bestsellerRanking.replaceAll(rows);
+            bestsellerRanking.markBuilt();
+            log.info("Bestseller ranking rebuilt: rows={}, buckets={}", rows.size(), buckets);
+            return buckets;
+        } finally {
+            bestsellerRanking.unlockRebuild();
+        }
+    }
+}
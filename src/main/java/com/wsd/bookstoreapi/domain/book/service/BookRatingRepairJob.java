@@ -0,0 +1,62 @@
+package com.wsd.bookstoreapi.domain.book.service;
+
+import com.wsd.bookstoreapi.domain.book.repository.BookRepository;
+import com.wsd.bookstoreapi.global.cache.CacheNames;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * books 평점 집계(rating_sum / rating_count / rating_1~5) 재계산
+ * 평소에는 리뷰 변경 시 증감 UPDATE 로 유지되고, 이 작업은 어긋난 값(수동 데이터 수정 등)을 바로잡는 용도
+ * id 구간(chunk-size)별로 reviews 를 GROUP BY 해서 다른 행만 갱신
+ */
+@Slf4j
+@Component
+public class BookRatingRepairJob {
+
+    private final BookRepository bookRepository;
+    private final CacheManager cacheManager;
+    private final int chunkSize;
+
+    public BookRatingRepairJob(BookRepository bookRepository,
+                               CacheManager cacheManager,
+                               @Value("${book.rating.repair-chunk-size:1000}") int chunkSize) {
+        this.bookRepository = bookRepository;
+        this.cacheManager = cacheManager;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${book.rating.repair-cron:0 30 4 * * *}")
+    public void run() {
+        try {
+            repair();
+        } catch (Exception e) {
+            log.warn("Book rating repair failed: reason={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return 바로잡은 도서 수
+     */
+    public int repair() {
+        long maxId = bookRepository.findMaxId();
+        int repaired = 0;
+        for (long fromId = 0; fromId < maxId; fromId += chunkSize) {
+            repaired += bookRepository.repairRatings(fromId, Math.min(fromId + chunkSize, maxId));
+        }
+
+        if (repaired > 0) {
+            // 어떤 도서가 바뀌었는지 모르므로 도서 캐시 전체 무효화
+            Cache cache = cacheManager.getCache(CacheNames.BOOKS);
+            if (cache != null) {
+                cache.clear();
+            }
+            log.info("Book ratings repaired: books={}", repaired);
+        }
+        return repaired;
+    }
+}
@@ -1,23 +1,38 @@
 package com.wsd.bookstoreapi.domain.book.service;
 
 import com.wsd.bookstoreapi.domain.book.dto.BookCreateRequest;
+import com.wsd.bookstoreapi.domain.book.dto.BookCursorResponse;
 import com.wsd.bookstoreapi.domain.book.dto.BookResponse;
 import com.wsd.bookstoreapi.domain.book.dto.BookUpdateRequest;
+import com.wsd.bookstoreapi.domain.book.dto.PopularBookResponse;
 import com.wsd.bookstoreapi.domain.book.entity.Book;
+import com.wsd.bookstoreapi.domain.book.repository.BookCursor;
 import com.wsd.bookstoreapi.domain.book.repository.BookRepository;
+import com.wsd.bookstoreapi.domain.book.repository.BookSortKey;
+import com.wsd.bookstoreapi.domain.book.search.BookSearchIndex;
 import com.wsd.bookstoreapi.domain.cart.repository.CartItemRepository;
 import com.wsd.bookstoreapi.domain.favorite.repository.FavoriteRepository;
 import com.wsd.bookstoreapi.domain.order.repository.OrderItemRepository;
 import com.wsd.bookstoreapi.domain.review.repository.ReviewRepository;
+import com.wsd.bookstoreapi.global.cache.CacheNames;
 import com.wsd.bookstoreapi.global.error.BusinessException;
 import com.wsd.bookstoreapi.global.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -28,10 +43,18 @@ public class BookService {
     private final CartItemRepository cartItemRepository;
     private final ReviewRepository reviewRepository;
     private final OrderItemRepository orderItemRepository;
+    private final BookSearchIndex bookSearchIndex;
+    private final StockService stockService;
+    private final BestsellerRanking bestsellerRanking;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_POPULAR_SIZE = 50;
 
     /**
      * 관리자용 - 도서 생성 (소프트 삭제 고려)
+     * 비활성 도서 부활 시 기존 ID 를 재사용하므로 캐시도 무효화
      */
+    @CacheEvict(cacheNames = CacheNames.BOOKS, key = "#result.id")
     @Transactional
     public BookResponse createBook(BookCreateRequest request) {
 
@@ -83,8 +106,9 @@ public class BookService {
     }
 
     /**
-     * 단건 조회
+     * 단건 조회 (로컬 → Redis → DB 순서의 2단 캐시)
      */
+    @Cacheable(cacheNames = CacheNames.BOOKS, key = "#id", sync = true)
     @Transactional(readOnly = true)
     public BookResponse getBook(Long id) {
         Book book = bookRepository.findById(id)
@@ -100,6 +124,7 @@ public class BookService {
      * 목록 조회 (검색/페이지네이션/정렬)
      * keyword: 제목 LIKE
      * category: 정확 일치
+     * keyword 가 있으면 검색 인덱스로 ID를 먼저 찾고, 인덱스로 답할 수 없으면 DB LIKE 검색
      */
     @Transactional(readOnly = true)
     public Page<BookResponse> getBooks(String keyword, String category, Pageable pageable) {
@@ -111,13 +136,148 @@ public class BookService {
             category = null;
         }
 
+        if (keyword != null) {
+            Optional<List<Long>> indexed = bookSearchIndex.search(keyword, category);
+            if (indexed.isPresent()) {
+                return getBooksByIds(indexed.get(), pageable);
+            }
+        }
+
         return bookRepository.searchBooks(keyword, category, pageable)
                 .map(BookResponse::from);
     }
 
+    /**
+     * 목록 조회 - 커서(keyset) 방식
+     * OFFSET/COUNT 없이 (정렬 키, id) 기준으로 다음 위치부터 조회
+     * sort: "createdAt,desc" 형식 (createdAt, price, title, id)
+     */
+    @Transactional(readOnly = true)
+    public BookCursorResponse getBooksByCursor(String keyword, String category,
+                                               String cursor, int size, String sort) {
+        if (keyword != null && keyword.isBlank()) {
+            keyword = null;
+        }
+        if (category != null && category.isBlank()) {
+            category = null;
+        }
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new BusinessException(
+                    ErrorCode.INVALID_QUERY_PARAM,
+                    "size는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다."
+            );
+        }
+
+        // 정렬 조건 파싱
+        String[] sortParts = sort.split(",");
+        BookSortKey sortKey = BookSortKey.fromProperty(sortParts[0].trim());
+        Sort.Direction direction = sortParts.length > 1
+                ? Sort.Direction.fromOptionalString(sortParts[1].trim())
+                .orElseThrow(() -> new BusinessException(
+                        ErrorCode.INVALID_QUERY_PARAM,
+                        "정렬 방향은 asc 또는 desc 여야 합니다."
+                ))
+                : Sort.Direction.ASC;
+
+        BookCursor after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            after = BookCursor.decode(cursor);
+            if (after.sortKey() != sortKey || after.direction() != direction) {
+                throw new BusinessException(
+                        ErrorCode.INVALID_QUERY_PARAM,
+                        "cursor와 정렬 조건이 일치하지 않습니다."
+                );
+            }
+        }
+
+        // keyword 는 가능하면 검색 인덱스 후보 ID로 대체
+        List<Long> ids = null;
+        if (keyword != null) {
+            ids = bookSearchIndex.search(keyword, category).orElse(null);
+            if (ids != null && ids.isEmpty()) {
+                return BookCursorResponse.builder()
+                        .content(List.of())
+                        .size(size)
+                        .hasNext(false)
+                        .build();
+            }
+        }
+
+        // 다음 페이지 존재 여부는 1건 더 읽어서 판단
+        List<Book> books = bookRepository.findActiveBySeek(
+                keyword, category, ids, sortKey, direction, after, size + 1);
+
+        boolean hasNext = books.size() > size;
+        if (hasNext) {
+            books = books.subList(0, size);
+        }
+
+        String nextCursor = hasNext
+                ? BookCursor.after(books.get(books.size() - 1), sortKey, direction).encode()
+                : null;
+
+        return BookCursorResponse.builder()
+                .content(books.stream().map(BookResponse::from).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 베스트셀러 (기간/카테고리별 판매 수량 순)
+     * 순위는 Redis 에서 상위 size 개만 읽고, 도서 정보는 ID IN 조회 한 번으로 채움
+     * 비활성(삭제)된 도서는 빠지고 순위는 남은 도서 기준으로 다시 매김
+     */
+    @Transactional(readOnly = true)
+    public List<PopularBookResponse> getPopularBooks(String category, String window, int size) {
+        if (category != null && category.isBlank()) {
+            category = null;
+        }
+        if (size < 1 || size > MAX_POPULAR_SIZE) {
+            throw new BusinessException(
+                    ErrorCode.INVALID_QUERY_PARAM,
+                    "size는 1 이상 " + MAX_POPULAR_SIZE + " 이하여야 합니다."
+            );
+        }
+
+        List<BestsellerRanking.Entry> entries =
+                bestsellerRanking.top(category, BestsellerRanking.Window.from(window), size);
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Book> booksById = bookRepository.findActiveByIdIn(
+                        entries.stream().map(BestsellerRanking.Entry::bookId).toList(), Pageable.unpaged())
+                .stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+
+        List<PopularBookResponse> result = new ArrayList<>();
+        for (BestsellerRanking.Entry entry : entries) {
+            Book book = booksById.get(entry.bookId());
+            if (book != null) {
+                result.add(new PopularBookResponse(result.size() + 1, entry.sales(), BookResponse.from(book)));
+            }
+        }
+        return result;
+    }
+
+    private Page<BookResponse> getBooksByIds(List<Long> ids, Pageable pageable) {
+        if (ids.isEmpty() || pageable.getOffset() >= ids.size()) {
+            return new PageImpl<>(List.of(), pageable, ids.size());
+        }
+
+        List<BookResponse> content = bookRepository.findActiveByIdIn(ids, pageable).stream()
+                .map(BookResponse::from)
+                .toList();
+
+        return new PageImpl<>(content, pageable, ids.size());
+    }
+
     /**
      * 관리자용 - 도서 수정 (부분 업데이트)
      */
+    @CacheEvict(cacheNames = CacheNames.BOOKS, key = "#id")
     @Transactional
     public BookResponse updateBook(Long id, BookUpdateRequest request) {
         Book book = bookRepository.findById(id)
@@ -146,6 +306,7 @@ public class BookService {
         }
         if (request.getStockQuantity() != null) {
             book.setStockQuantity(request.getStockQuantity());
+            stockService.onStockOverwritten(id, request.getStockQuantity());
         }
         if (request.getDescription() != null) {
             book.setDescription(request.getDescription());
@@ -160,6 +321,7 @@ public class BookService {
     /**
      * 관리자용 - 도서 삭제 (Soft delete)
      */
+    @CacheEvict(cacheNames = CacheNames.BOOKS, key = "#bookId")
     @Transactional
     public void deleteBook(Long bookId) {
         Book book = bookRepository.findById(bookId)
@@ -181,6 +343,7 @@ public class BookService {
     /**
      * 관리자용 - 도서 재활성화
      */
+    @CacheEvict(cacheNames = CacheNames.BOOKS, key = "#bookId")
     @Transactional
     public void activateBook(Long bookId) {
         Book book = bookRepository.findById(bookId)
@@ -0,0 +1,33 @@
+package com.wsd.bookstoreapi.domain.book.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 핫 도서 재고 write-behind
+ * Redis 에 쌓인 차감량을 주기적으로 books.stock_quantity 에 반영
+ * (차감량을 원자적으로 가져오므로 여러 인스턴스가 동시에 돌아도 중복 반영 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "inventory.hot-stock.enabled", havingValue = "true")
+public class HotStockSyncJob {
+
+    private final RedisHotStockService redisHotStockService;
+    private final StockService stockService;
+
+    @Scheduled(fixedDelayString = "${inventory.hot-stock.sync-interval-ms:1000}")
+    public void sync() {
+        for (Long bookId : redisHotStockService.getHotBookIds()) {
+            try {
+                stockService.flushSold(bookId);
+            } catch (Exception e) {
+                log.warn("Hot stock sync failed: bookId={}, reason={}", bookId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.wsd.bookstoreapi.domain.book.service;
+
+import com.wsd.bookstoreapi.global.error.BusinessException;
+import com.wsd.bookstoreapi.global.error.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 핫 도서(플래시 세일 등) 재고를 Redis 에서 관리
+ * - STOCK:HOT        : 핫 모드 도서 ID 집합
+ * - STOCK:<id>       : 주문 가능 수량 (예약 게이트)
+ * - STOCK:SOLD:<id>  : 아직 DB 에 반영되지 않은 누적 차감량 (write-behind 로 DB 반영 후 0)
+ *
+ * 스크립트 안에서 도서별 키를 만들기 때문에 단일 Redis(비 클러스터) 기준
+ */
+@Service
+@RequiredArgsConstructor
+public class RedisHotStockService {
+
+    private static final String HOT_SET_KEY = "STOCK:HOT";
+    private static final String STOCK_PREFIX = "STOCK:";
+    private static final String SOLD_PREFIX = "STOCK:SOLD:";
+
+    /**
+     * 핫 도서만 골라 전부 충분한지 확인 후 한 번에 차감 (all-or-nothing)
+     * ARGV: bookId1, qty1, bookId2, qty2 ...
+     * 반환: {"1", id, qty, ...} 예약된 핫 도서 / {"0", 부족한 도서 id}
+     */
+    private static final RedisScript<List> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            local hot = {}
+            for i = 1, #ARGV, 2 do
+                if redis.call('SISMEMBER', KEYS[1], ARGV[i]) == 1 then
+                    local stock = tonumber(redis.call('GET', 'STOCK:' .. ARGV[i]) or '0')
+                    if stock < tonumber(ARGV[i + 1]) then
+                        return {'0', ARGV[i]}
+                    end
+                    table.insert(hot, i)
+                end
+            end
+            local result = {'1'}
+            for _, i in ipairs(hot) do
+                redis.call('DECRBY', 'STOCK:' .. ARGV[i], ARGV[i + 1])
+                redis.call('INCRBY', 'STOCK:SOLD:' .. ARGV[i], ARGV[i + 1])
+                table.insert(result, ARGV[i])
+                table.insert(result, ARGV[i + 1])
+            end
+            return result
+            """, List.class);
+
+    /**
+     * 핫 도서만 수량 증감 (양수: 복구, 음수: 차감) - 검사 없음
+     * ARGV: bookId1, delta1, bookId2, delta2 ...
+     * 반환: {id, delta, ...} 적용된 핫 도서
+     */
+    private static final RedisScript<List> ADJUST_SCRIPT = new DefaultRedisScript<>("""
+            local result = {}
+            for i = 1, #ARGV, 2 do
+                if redis.call('SISMEMBER', KEYS[1], ARGV[i]) == 1 then
+                    redis.call('INCRBY', 'STOCK:' .. ARGV[i], ARGV[i + 1])
+                    redis.call('DECRBY', 'STOCK:SOLD:' .. ARGV[i], ARGV[i + 1])
+                    table.insert(result, ARGV[i])
+                    table.insert(result, ARGV[i + 1])
+                end
+            end
+            return result
+            """, List.class);
+
+    /**
+     * 핫 모드 시작: 게이트 = DB 재고 - 미반영 차감량
+     * KEYS: hot set, STOCK:<id>, STOCK:SOLD:<id> / ARGV: id, DB 재고
+     */
+    private static final RedisScript<Long> ENABLE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+                return 0
+            end
+            local sold = tonumber(redis.call('GET', KEYS[3]) or '0')
+            redis.call('SET', KEYS[2], tonumber(ARGV[2]) - sold)
+            redis.call('SADD', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * DB 재고가 직접 변경된 경우(관리자 수정) 게이트 재설정
+     * KEYS: hot set, STOCK:<id>, STOCK:SOLD:<id> / ARGV: id, DB 재고
+     */
+    private static final RedisScript<Long> OVERWRITE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 0 then
+                return 0
+            end
+            local sold = tonumber(redis.call('GET', KEYS[3]) or '0')
+            redis.call('SET', KEYS[2], tonumber(ARGV[2]) - sold)
+            return 1
+            """, Long.class);
+
+    /**
+     * 미반영 차감량을 가져오면서 0 으로 초기화 (write-behind 용)
+     */
+    private static final RedisScript<Long> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+            local sold = tonumber(redis.call('GET', KEYS[1]) or '0')
+            if sold ~= 0 then
+                redis.call('DECRBY', KEYS[1], sold)
+            end
+            return sold
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 핫 도서분 재고 예약
+     * @return 예약된 핫 도서 ID → 수량 (핫 도서가 없으면 빈 맵)
+     * @throws BusinessException 핫 도서 중 하나라도 부족하면 OUT_OF_STOCK (아무것도 차감되지 않음)
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Long, Integer> reserve(Map<Long, Integer> quantitiesByBookId) {
+        List<String> result = stringRedisTemplate.execute(
+                RESERVE_SCRIPT, List.of(HOT_SET_KEY), toArgs(quantitiesByBookId));
+
+        if (result == null || result.isEmpty()) {
+            throw new IllegalStateException("hot stock reserve script returned no result");
+        }
+        if ("0".equals(result.get(0))) {
+            throw new BusinessException(
+                    ErrorCode.OUT_OF_STOCK,
+                    "재고가 부족합니다. (도서 ID: " + result.get(1) + ")"
+            );
+        }
+        return toQuantities(result.subList(1, result.size()));
+    }
+
+    /**
+     * 핫 도서분 재고 복구 (주문 취소 / 예약 보상)
+     * @return 복구된 핫 도서 ID → 수량
+     */
+    public Map<Long, Integer> release(Map<Long, Integer> quantitiesByBookId) {
+        return adjust(quantitiesByBookId, 1);
+    }
+
+    /**
+     * 복구 취소 (취소 트랜잭션이 롤백된 경우의 보상)
+     */
+    public void unrelease(Map<Long, Integer> quantitiesByBookId) {
+        adjust(quantitiesByBookId, -1);
+    }
+
+    public boolean enable(Long bookId, int dbStock) {
+        Long result = stringRedisTemplate.execute(ENABLE_SCRIPT,
+                List.of(HOT_SET_KEY, STOCK_PREFIX + bookId, SOLD_PREFIX + bookId),
+                String.valueOf(bookId), String.valueOf(dbStock));
+        return Long.valueOf(1L).equals(result);
+    }
+
+    /**
+     * 핫 모드 해제 - 이후 주문은 DB 경로, 게이트 키 삭제
+     * (미반영 차감량은 호출 측에서 drainSold 로 DB 반영)
+     */
+    public boolean disable(Long bookId) {
+        Long removed = stringRedisTemplate.opsForSet().remove(HOT_SET_KEY, String.valueOf(bookId));
+        if (removed == null || removed == 0) {
+            return false;
+        }
+        stringRedisTemplate.delete(STOCK_PREFIX + bookId);
+        return true;
+    }
+
+    public void overwrite(Long bookId, int dbStock) {
+        stringRedisTemplate.execute(OVERWRITE_SCRIPT,
+                List.of(HOT_SET_KEY, STOCK_PREFIX + bookId, SOLD_PREFIX + bookId),
+                String.valueOf(bookId), String.valueOf(dbStock));
+    }
+
+    public long drainSold(Long bookId) {
+        Long sold = stringRedisTemplate.execute(DRAIN_SCRIPT, List.of(SOLD_PREFIX + bookId));
+        return sold != null ? sold : 0L;
+    }
+
+    /**
+     * DB 반영 실패 시 차감량 되돌려 놓기 (다음 주기에 재시도)
+     */
+    public void restoreSold(Long bookId, long sold) {
+        stringRedisTemplate.opsForValue().increment(SOLD_PREFIX + bookId, sold);
+    }
+
+    public Set<Long> getHotBookIds() {
+        Set<String> members = stringRedisTemplate.opsForSet().members(HOT_SET_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+        Set<Long> ids = new TreeSet<>();
+        members.forEach(member -> ids.add(Long.valueOf(member)));
+        return ids;
+    }
+
+    public Integer getAvailable(Long bookId) {
+        String value = stringRedisTemplate.opsForValue().get(STOCK_PREFIX + bookId);
+        return value != null ? Integer.valueOf(value) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Integer> adjust(Map<Long, Integer> quantitiesByBookId, int sign) {
+        Map<Long, Integer> signed = new TreeMap<>();
+        quantitiesByBookId.forEach((id, qty) -> signed.put(id, qty * sign));
+
+        List<String> result = stringRedisTemplate.execute(
+                ADJUST_SCRIPT, List.of(HOT_SET_KEY), toArgs(signed));
+
+        Map<Long, Integer> applied = toQuantities(result != null ? result : List.of());
+        applied.replaceAll((id, qty) -> qty * sign);
+        return applied;
+    }
+
+    private static Object[] toArgs(Map<Long, Integer> quantitiesByBookId) {
+        List<String> args = new ArrayList<>();
+        new TreeMap<>(quantitiesByBookId).forEach((id, qty) -> {
+            args.add(String.valueOf(id));
+            args.add(String.valueOf(qty));
+        });
+        return args.toArray();
+    }
+
+    private static Map<Long, Integer> toQuantities(List<String> pairs) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (int i = 0; i + 1 < pairs.size(); i += 2) {
+            quantities.put(Long.valueOf(pairs.get(i)), Integer.valueOf(pairs.get(i + 1)));
+        }
+        return quantities;
+    }
+}
@@ -0,0 +1,179 @@
+package com.wsd.bookstoreapi.domain.book.service;
+
+import com.wsd.bookstoreapi.domain.book.entity.Book;
+import com.wsd.bookstoreapi.domain.book.repository.BookRepository;
+import com.wsd.bookstoreapi.global.error.BusinessException;
+import com.wsd.bookstoreapi.global.error.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 도서 재고 차감/복구
+ * - 조건부 UPDATE(stock_quantity >= ?) 한 문장으로 차감 → 읽고-쓰기 사이 경합 없음
+ * - 여러 도서는 항상 ID 오름차순으로 잠금 → 주문 간 교착(deadlock) 방지
+ * - 호출 측 트랜잭션 안에서만 사용 (하나라도 부족하면 예외 → 주문 전체 롤백)
+ * - 핫 모드(inventory.hot-stock.enabled) 도서는 Redis 에서 차감하고, DB 는 주기적으로 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockService {
+
+    private final BookRepository bookRepository;
+    private final RedisHotStockService redisHotStockService;
+
+    @Value("${inventory.hot-stock.enabled:false}")
+    private boolean hotStockEnabled;
+
+    /**
+     * 재고 예약(차감)
+     * @param quantitiesByBookId 도서 ID → 수량 (같은 도서는 미리 합산)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserve(Map<Long, Integer> quantitiesByBookId) {
+        Map<Long, Integer> remaining = new TreeMap<>(quantitiesByBookId);
+
+        if (hotStockEnabled) {
+            Map<Long, Integer> hotReserved = redisHotStockService.reserve(remaining);
+            if (!hotReserved.isEmpty()) {
+                // 이후 DB 차감 실패 등으로 롤백되면 Redis 예약도 되돌림
+                afterRollback(() -> redisHotStockService.release(hotReserved));
+                remaining.keySet().removeAll(hotReserved.keySet());
+            }
+        }
+
+        for (Map.Entry<Long, Integer> entry : remaining.entrySet()) {
+            int updated = bookRepository.decreaseStock(entry.getKey(), entry.getValue());
+            if (updated == 0) {
+                throw new BusinessException(
+                        ErrorCode.OUT_OF_STOCK,
+                        "재고가 부족합니다. (도서 ID: " + entry.getKey() + ")"
+                );
+            }
+        }
+    }
+
+    /**
+     * 예약 취소(복구) - 주문 취소 시
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(Map<Long, Integer> quantitiesByBookId) {
+        Map<Long, Integer> remaining = new TreeMap<>(quantitiesByBookId);
+
+        if (hotStockEnabled) {
+            Map<Long, Integer> hotReleased = redisHotStockService.release(remaining);
+            if (!hotReleased.isEmpty()) {
+                afterRollback(() -> redisHotStockService.unrelease(hotReleased));
+                remaining.keySet().removeAll(hotReleased.keySet());
+            }
+        }
+
+        for (Map.Entry<Long, Integer> entry : remaining.entrySet()) {
+            bookRepository.increaseStock(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * 관리자용 - 도서를 핫 모드로 전환 (현재 DB 재고를 Redis 로 복사)
+     */
+    @Transactional
+    public void enableHotStock(Long bookId) {
+        requireHotStockEnabled();
+
+        // 진행 중인 DB 차감이 커밋될 때까지 기다린 뒤의 재고를 기준으로 삼음
+        Book book = bookRepository.findByIdForUpdate(bookId)
+                .orElseThrow(() -> new BusinessException(
+                        ErrorCode.RESOURCE_NOT_FOUND,
+                        "도서를 찾을 수 없습니다."
+                ));
+
+        if (!redisHotStockService.enable(bookId, book.getStockQuantity())) {
+            throw new BusinessException(ErrorCode.STATE_CONFLICT, "이미 핫 재고 모드입니다.");
+        }
+    }
+
+    /**
+     * 관리자용 - 핫 모드 해제 (미반영 차감량을 DB 에 반영)
+     */
+    @Transactional
+    public void disableHotStock(Long bookId) {
+        requireHotStockEnabled();
+
+        if (!redisHotStockService.disable(bookId)) {
+            throw new BusinessException(ErrorCode.STATE_CONFLICT, "핫 재고 모드가 아닙니다.");
+        }
+        flushSold(bookId);
+    }
+
+    /**
+     * write-behind - 핫 도서의 미반영 차감량을 DB 재고에 반영
+     * (Redis 에서 가져온 뒤 0 으로 만들고, DB 반영이 롤백되면 다시 되돌림)
+     */
+    @Transactional
+    public void flushSold(Long bookId) {
+        long sold = redisHotStockService.drainSold(bookId);
+        if (sold == 0) {
+            return;
+        }
+
+        afterRollback(() -> redisHotStockService.restoreSold(bookId, sold));
+        bookRepository.increaseStock(bookId, Math.toIntExact(-sold));
+    }
+
+    /**
+     * 관리자가 DB 재고를 직접 수정한 경우 핫 모드 게이트도 맞춰줌 (커밋 이후)
+     */
+    public void onStockOverwritten(Long bookId, int stockQuantity) {
+        if (!hotStockEnabled) {
+            return;
+        }
+        afterCommit(() -> redisHotStockService.overwrite(bookId, stockQuantity));
+    }
+
+    private void requireHotStockEnabled() {
+        if (!hotStockEnabled) {
+            throw new BusinessException(
+                    ErrorCode.STATE_CONFLICT,
+                    "핫 재고 모드가 비활성화되어 있습니다. (inventory.hot-stock.enabled)"
+            );
+        }
+    }
+
+    private void afterRollback(Runnable compensation) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                try {
+                    compensation.run();
+                } catch (Exception e) {
+                    log.error("Hot stock compensation failed: {}", e.getMessage(), e);
+                }
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
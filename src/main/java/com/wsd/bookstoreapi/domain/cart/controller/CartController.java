@@ -16,6 +16,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import com.wsd.bookstoreapi.domain.cart.dto.AddCartItemRequest;
+import com.wsd.bookstoreapi.domain.cart.dto.CartBatchRequest;
 import com.wsd.bookstoreapi.domain.cart.dto.UpdateCartItemRequest;
 
 
@@ -251,6 +252,77 @@ public class CartController {
         return ResponseEntity.ok(apiResult);
     }
 
+    @Operation(summary = "장바구니 일괄 변경",
+            description = "추가(ADD)/수량 변경(UPDATE)/삭제(REMOVE)를 요청 순서대로 한 번에 적용합니다. "
+                    + "하나라도 실패하면 아무것도 적용되지 않습니다. (최대 100개)")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "일괄 변경 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "isSuccess": true,
+                                      "message": "장바구니 일괄 변경 성공",
+                                      "code": null,
+                                      "payload": {
+                                        "cartId": 1,
+                                        "items": [
+                                          {
+                                            "id": 1,
+                                            "bookId": 1,
+                                            "title": "클린 코드",
+                                            "quantity": 2
+                                          }
+                                        ],
+                                        "totalQuantity": 2,
+                                        "totalAmount": 50000
+                                      }
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "isSuccess": false,
+                                      "message": "입력값 검증에 실패했습니다.",
+                                      "code": "VALIDATION_FAILED",
+                                      "payload": null
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "도서 또는 장바구니 항목을 찾을 수 없음",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "isSuccess": false,
+                                      "message": "요청한 리소스를 찾을 수 없습니다.",
+                                      "code": "RESOURCE_NOT_FOUND",
+                                      "payload": null
+                                    }
+                                    """)
+                    )
+            )
+    })
+    @PatchMapping("/items:batch")
+    public ResponseEntity<ApiResult<CartResponse>> applyBatch(
+            @RequestBody @Valid CartBatchRequest request
+    ) {
+        CartResponse cart = cartService.applyBatch(request.getOperations());
+        ApiResult<CartResponse> apiResult = ApiResult.success(cart, "장바구니 일괄 변경 성공");
+        return ResponseEntity.ok(apiResult);
+    }
+
     @Operation(summary = "장바구니 아이템 삭제", description = "도서 ID로 장바구니에서 특정 아이템을 삭제합니다.")
     @ApiResponses({
             @ApiResponse(
@@ -0,0 +1,47 @@
+package com.wsd.bookstoreapi.domain.cart.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 장바구니 일괄 변경 요청 (요청 순서대로 적용, 하나라도 실패하면 전체 미적용)
+ */
+@Getter
+@Setter
+public class CartBatchRequest {
+
+    public static final int MAX_OPERATIONS = 100;
+
+    @NotEmpty(message = "operations는 필수입니다.")
+    @Size(max = MAX_OPERATIONS, message = "operations는 최대 100개까지 가능합니다.")
+    @Valid
+    private List<Operation> operations;
+
+    public enum Type {
+        ADD,    // 수량 더하기 (없으면 추가)
+        UPDATE, // 수량 변경 (장바구니에 있어야 함)
+        REMOVE  // 삭제 (장바구니에 있어야 함)
+    }
+
+    @Getter
+    @Setter
+    public static class Operation {
+
+        @NotNull(message = "op는 필수입니다.")
+        private Type op;
+
+        @NotNull(message = "bookId는 필수입니다.")
+        private Long bookId;
+
+        // ADD / UPDATE 에서만 사용
+        @Min(value = 1, message = "quantity는 최소 1 이상이어야 합니다.")
+        private Integer quantity;
+    }
+}
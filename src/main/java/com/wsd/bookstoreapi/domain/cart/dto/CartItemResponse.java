@@ -1,5 +1,6 @@
 package com.wsd.bookstoreapi.domain.cart.dto;
 
+import com.wsd.bookstoreapi.domain.book.dto.BookResponse;
 import com.wsd.bookstoreapi.domain.cart.entity.CartItem;
 import lombok.Builder;
 import lombok.Getter;
@@ -20,4 +21,15 @@ public class CartItemResponse {
                 .quantity(item.getQuantity())
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Redis 장바구니 항목 (DB 행이 없으므로 id 는 null)
+     */
+    public static CartItemResponse of(BookResponse book, int quantity) {
+        return CartItemResponse.builder()
+                .bookId(book.getId())
+                .title(book.getTitle())
+                .quantity(quantity)
+                .build();
+    }
+}
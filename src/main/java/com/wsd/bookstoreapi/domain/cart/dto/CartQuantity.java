@@ -0,0 +1,7 @@
+package com.wsd.bookstoreapi.domain.cart.dto;
+
+/**
+ * 장바구니 한 줄의 도서 ID + 수량 (Redis 장바구니 적재/동기화용)
+ */
+public record CartQuantity(Long bookId, Integer quantity) {
+}
@@ -1,12 +1,15 @@
 package com.wsd.bookstoreapi.domain.cart.dto;
 
+import com.wsd.bookstoreapi.domain.book.dto.BookResponse;
 import com.wsd.bookstoreapi.domain.cart.entity.Cart;
 import com.wsd.bookstoreapi.domain.cart.entity.CartItem;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Getter
@@ -38,5 +41,31 @@ public class CartResponse {
                 .totalAmount(totalAmt)
                 .build();
     }
-}
 
+    /**
+     * Redis 장바구니 응답 (cartId 없음, 가격은 도서 캐시 값)
+     * @param quantities 도서 ID → 수량 (이 순서대로 응답)
+     * @param books      도서 ID → 도서 (없는 도서는 건너뜀)
+     */
+    public static CartResponse of(Map<Long, Integer> quantities, Map<Long, BookResponse> books) {
+        List<CartItemResponse> itemResponses = new ArrayList<>();
+        int totalQty = 0;
+        BigDecimal totalAmt = BigDecimal.ZERO;
+
+        for (Map.Entry<Long, Integer> line : quantities.entrySet()) {
+            BookResponse book = books.get(line.getKey());
+            if (book == null) {
+                continue;
+            }
+            itemResponses.add(CartItemResponse.of(book, line.getValue()));
+            totalQty += line.getValue();
+            totalAmt = totalAmt.add(book.getPrice().multiply(BigDecimal.valueOf(line.getValue())));
+        }
+
+        return CartResponse.builder()
+                .items(itemResponses)
+                .totalQuantity(totalQty)
+                .totalAmount(totalAmt)
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.wsd.bookstoreapi.domain.cart.entity;
 
 import com.wsd.bookstoreapi.domain.user.entity.User;
 import com.wsd.bookstoreapi.global.entity.BaseEntity;
+import com.wsd.bookstoreapi.global.entity.PooledId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -18,7 +19,7 @@ import java.util.List;
 public class Cart extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("carts")
     private Long id;
 
     // 소유자
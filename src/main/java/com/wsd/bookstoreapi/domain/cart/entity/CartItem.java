@@ -2,6 +2,7 @@ package com.wsd.bookstoreapi.domain.cart.entity;
 
 import com.wsd.bookstoreapi.domain.book.entity.Book;
 import com.wsd.bookstoreapi.global.entity.BaseEntity;
+import com.wsd.bookstoreapi.global.entity.PooledId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -11,11 +12,14 @@ import lombok.*;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "cart_items")
+@Table(name = "cart_items",
+        indexes = {
+                @Index(name = "uk_cart_items_cart_book", columnList = "cart_id, book_id", unique = true)
+        })
 public class CartItem extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("cart_items")
     private Long id;
 
     // Cart와 N:1
@@ -1,9 +1,49 @@
 package com.wsd.bookstoreapi.domain.cart.repository;
 import com.wsd.bookstoreapi.domain.book.entity.Book;
 
+import com.wsd.bookstoreapi.domain.cart.dto.CartQuantity;
 import com.wsd.bookstoreapi.domain.cart.entity.CartItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface CartItemRepository extends JpaRepository<CartItem, Long> {
     void deleteByBook(Book book);
+
+    /**
+     * Redis 장바구니가 없을 때 DB 사본에서 적재 (도서 엔티티 로딩 없이 ID/수량만)
+     */
+    @Query("""
+        SELECT new com.wsd.bookstoreapi.domain.cart.dto.CartQuantity(ci.book.id, ci.quantity)
+        FROM CartItem ci
+        WHERE ci.cart.user.id = :userId
+        """)
+    List<CartQuantity> findQuantitiesByUserId(@Param("userId") Long userId);
+
+    /**
+     * 장바구니 담기 (uk_cart_items_cart_book 기준 upsert, 문장 1개)
+     * - 사용자 장바구니가 없거나 도서가 없으면 0 행 (1: 새 항목, 2: 수량 증가)
+     * - carts 행은 공유 잠금으로 읽음 → 일괄 변경(FOR UPDATE)이 끝날 때까지 기다림, 담기끼리는 막지 않음
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO cart_items (id, cart_id, book_id, quantity, created_at, updated_at)
+        SELECT :id, c.id, :bookId, :quantity, :now, :now
+        FROM carts c
+        WHERE c.user_id = :userId
+          AND EXISTS (SELECT 1 FROM books b WHERE b.id = :bookId)
+        LOCK IN SHARE MODE
+        ON DUPLICATE KEY UPDATE
+            quantity = cart_items.quantity + :quantity,
+            updated_at = :now
+        """, nativeQuery = true)
+    int upsertQuantity(@Param("id") Long id,
+                       @Param("userId") Long userId,
+                       @Param("bookId") Long bookId,
+                       @Param("quantity") int quantity,
+                       @Param("now") LocalDateTime now);
 }
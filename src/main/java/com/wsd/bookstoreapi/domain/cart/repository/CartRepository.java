@@ -2,9 +2,15 @@ package com.wsd.bookstoreapi.domain.cart.repository;
 
 import com.wsd.bookstoreapi.domain.cart.entity.Cart;
 import com.wsd.bookstoreapi.domain.user.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface CartRepository extends JpaRepository<Cart, Long> {
@@ -12,4 +18,28 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
     // 현재 로그인한 유저의 장바구니 조회
     @EntityGraph(attributePaths = {"user", "items", "items.book"})
     Optional<Cart> findByUser(User user);
+
+    // 사용자 엔티티 로딩 없이 user_id 로 장바구니 조회
+    @EntityGraph(attributePaths = {"items", "items.book"})
+    Optional<Cart> findWithItemsByUserId(Long userId);
+
+    /**
+     * 장바구니 행 잠금 조회 (SELECT ... FOR UPDATE) - 일괄 변경 동안 같은 장바구니의 담기를 막음
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Cart c WHERE c.user.id = :userId")
+    Optional<Cart> findByUserIdForUpdate(@Param("userId") Long userId);
+
+    /**
+     * 장바구니가 없을 때만 생성 (동시 생성 시 user_id UNIQUE 로 한 행만 남음)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO carts (id, user_id, created_at, updated_at)
+        VALUES (:id, :userId, :now, :now)
+        ON DUPLICATE KEY UPDATE user_id = user_id
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") Long id,
+                       @Param("userId") Long userId,
+                       @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,25 @@
+package com.wsd.bookstoreapi.domain.cart.service;
+
+import com.wsd.bookstoreapi.domain.book.entity.Book;
+
+import java.util.List;
+
+/**
+ * 주문에 담을 장바구니 항목 + 주문 저장 후 장바구니 정리 동작
+ */
+public record CartCheckout(List<Line> lines, Runnable onOrdered) {
+
+    public boolean isEmpty() {
+        return lines.isEmpty();
+    }
+
+    /**
+     * 주문 저장 직후 호출 (JPA: 같은 트랜잭션에서 비움, Redis: 커밋 후 주문한 항목을 빼고 나머지를 되돌림)
+     */
+    public void complete() {
+        onOrdered.run();
+    }
+
+    public record Line(Book book, int quantity) {
+    }
+}
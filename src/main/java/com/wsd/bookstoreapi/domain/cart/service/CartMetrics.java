@@ -0,0 +1,29 @@
+package com.wsd.bookstoreapi.domain.cart.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 장바구니 도메인 지표
+ * - bookstore.cart.changes: 변경 건수 (operation = add / update / remove / clear / batch)
+ * - bookstore.cart.items: 변경 직후 장바구니 항목 수 분포
+ */
+@Component
+public class CartMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary items;
+
+    public CartMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.items = DistributionSummary.builder("bookstore.cart.items")
+                .description("Cart items after a change")
+                .register(meterRegistry);
+    }
+
+    public void changed(String operation, int itemCount) {
+        meterRegistry.counter("bookstore.cart.changes", "operation", operation).increment();
+        items.record(itemCount);
+    }
+}
@@ -0,0 +1,35 @@
+package com.wsd.bookstoreapi.domain.cart.service;
+
+import com.wsd.bookstoreapi.domain.cart.dto.CartBatchRequest;
+import com.wsd.bookstoreapi.domain.cart.dto.CartResponse;
+import com.wsd.bookstoreapi.domain.user.entity.User;
+
+import java.util.List;
+
+/**
+ * 장바구니 저장소 (cart.redis.enabled 로 선택)
+ * - JpaCartStore: carts / cart_items 에 바로 저장 (기본)
+ * - RedisCartStore: 사용자별 Redis 해시, DB 는 주문 시점 + write-behind
+ */
+public interface CartStore {
+
+    CartResponse addItem(Long userId, Long bookId, int quantity);
+
+    CartResponse getCart(Long userId);
+
+    CartResponse updateItemQuantity(Long userId, Long bookId, int quantity);
+
+    CartResponse removeItem(Long userId, Long bookId);
+
+    CartResponse clearCart(Long userId);
+
+    /**
+     * 여러 변경을 순서대로 한 번에 적용 (전부 적용되거나 전부 미적용)
+     */
+    CartResponse applyBatch(Long userId, List<CartBatchRequest.Operation> operations);
+
+    /**
+     * 주문 생성용 장바구니 항목 (주문 트랜잭션 안에서 호출)
+     */
+    CartCheckout checkout(User user);
+}
@@ -0,0 +1,37 @@
+package com.wsd.bookstoreapi.domain.cart.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 장바구니 write-behind
+ * 변경된 사용자 ID 를 꺼내(SPOP) carts / cart_items 사본에 반영
+ * 꺼낸 뒤 다시 바뀌면 DIRTY 에 다시 들어가므로 다음 주기에 반영, 실패하면 되돌려 놓고 재시도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cart.redis.enabled", havingValue = "true")
+public class CartWriteBehindJob {
+
+    private final RedisCartStore redisCartStore;
+
+    @Value("${cart.redis.write-behind-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${cart.redis.write-behind-interval-ms:5000}")
+    public void flush() {
+        for (Long userId : redisCartStore.popDirty(batchSize)) {
+            try {
+                redisCartStore.flush(userId);
+            } catch (Exception e) {
+                redisCartStore.markDirty(userId);
+                log.warn("Cart write-behind failed: userId={}, reason={}", userId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.wsd.bookstoreapi.domain.cart.service;
+
+import com.wsd.bookstoreapi.domain.book.repository.BookRepository;
+import com.wsd.bookstoreapi.domain.book.entity.Book;
+import com.wsd.bookstoreapi.domain.cart.dto.CartBatchRequest;
+import com.wsd.bookstoreapi.domain.cart.dto.CartResponse;
+import com.wsd.bookstoreapi.domain.cart.entity.Cart;
+import com.wsd.bookstoreapi.domain.cart.entity.CartItem;
+import com.wsd.bookstoreapi.domain.cart.repository.CartItemRepository;
+import com.wsd.bookstoreapi.domain.cart.repository.CartRepository;
+import com.wsd.bookstoreapi.domain.user.entity.User;
+import com.wsd.bookstoreapi.domain.user.repository.UserRepository;
+import com.wsd.bookstoreapi.global.datasource.ReadYourWritesTracker;
+import com.wsd.bookstoreapi.global.entity.PooledIdAllocator;
+import com.wsd.bookstoreapi.global.error.BusinessException;
+import com.wsd.bookstoreapi.global.error.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 장바구니를 carts / cart_items 에 바로 저장 (기본 모드)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cart.redis.enabled", havingValue = "false", matchIfMissing = true)
+public class JpaCartStore implements CartStore {
+
+    private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final UserRepository userRepository;
+    private final BookRepository bookRepository;
+    private final CartMetrics cartMetrics;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final PooledIdAllocator pooledIdAllocator;
+
+    /**
+     * READ COMMITTED: INSERT ... SELECT 의 carts/books 조회가 잠금 없는 읽기가 되어
+     * 장바구니가 없을 때 남는 gap 잠금 때문에 동시 첫 담기끼리 교착되지 않음
+     */
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public CartResponse addItem(Long userId, Long bookId, int quantity) {
+        // 기존 항목 조회 없이 문장 하나로 추가/수량 증가 (uk_cart_items_cart_book)
+        if (upsert(userId, bookId, quantity) == 0) {
+            if (!bookRepository.existsById(bookId)) {
+                throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "도서를 찾을 수 없습니다.");
+            }
+            if (!userRepository.existsById(userId)) {
+                throw new BusinessException(ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다.");
+            }
+            // 첫 담기: 장바구니 생성 후 다시 upsert
+            cartRepository.insertIfAbsent(pooledIdAllocator.next("carts"), userId, LocalDateTime.now());
+            upsert(userId, bookId, quantity);
+        }
+
+        Cart cart = cartRepository.findWithItemsByUserId(userId)
+                .orElseThrow(() -> new BusinessException(
+                        ErrorCode.RESOURCE_NOT_FOUND, "장바구니를 찾을 수 없습니다."));
+
+        cartMetrics.changed("add", cart.getItems().size());
+        readYourWritesTracker.markWrite(userId);
+        return CartResponse.from(cart);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CartResponse getCart(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(
+                        ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다."));
+
+        Cart cart = cartRepository.findByUser(user)
+                .orElseGet(() -> {
+                    Cart newCart = Cart.builder()
+                            .user(user)
+                            .build();
+                    newCart.setItems(new ArrayList<>());
+                    return newCart;
+                });
+
+        if (cart.getItems() == null) {
+            cart.setItems(new ArrayList<>());
+        }
+
+        return CartResponse.from(cart);
+    }
+
+    @Override
+    @Transactional
+    public CartResponse updateItemQuantity(Long userId, Long bookId, int quantity) {
+        Cart cart = findCart(userId);
+
+        // 해당 bookId를 가진 장바구니 항목 찾기
+        CartItem item = findItem(cart, bookId);
+        // 수량 변경
+        item.setQuantity(quantity);
+        cartItemRepository.save(item);
+        cartMetrics.changed("update", cart.getItems().size());
+        readYourWritesTracker.markWrite(userId);
+        // 변경된 장바구니 전체를 응답
+        return CartResponse.from(cart);
+    }
+
+    @Override
+    @Transactional
+    public CartResponse removeItem(Long userId, Long bookId) {
+        Cart cart = findCart(userId);
+        CartItem item = findItem(cart, bookId);
+
+        // 아이템 삭제
+        cart.getItems().remove(item);
+        cartItemRepository.delete(item);
+
+        cartMetrics.changed("remove", cart.getItems().size());
+        readYourWritesTracker.markWrite(userId);
+        return CartResponse.from(cart);
+    }
+
+    @Override
+    @Transactional
+    public CartResponse clearCart(Long userId) {
+        Cart cart = findCart(userId);
+
+        // 모든 아이템 삭제
+        cartItemRepository.deleteAll(cart.getItems());
+        cart.getItems().clear();
+
+        cartMetrics.changed("clear", 0);
+        readYourWritesTracker.markWrite(userId);
+        return CartResponse.from(cart);
+    }
+
+    /**
+     * 요청 순서대로 수량을 계산한 뒤 마지막 상태만 반영 (항목 INSERT 는 JDBC 배치로 묶임)
+     * 같은 도서를 삭제 후 다시 담아도 행은 그대로 두고 수량만 바꿈
+     * carts 행을 먼저 잠가서 동시에 들어온 담기(upsert)와 섞이지 않게 함,
+     * READ COMMITTED: 잠금 이후의 항목 조회가 그 사이 커밋된 담기를 보도록
+     */
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public CartResponse applyBatch(Long userId, List<CartBatchRequest.Operation> operations) {
+        Set<Long> addedBookIds = operations.stream()
+                .filter(operation -> operation.getOp() == CartBatchRequest.Type.ADD)
+                .map(CartBatchRequest.Operation::getBookId)
+                .collect(Collectors.toSet());
+        Map<Long, Book> books = bookRepository.findAllById(addedBookIds).stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+        if (books.size() < addedBookIds.size()) {
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "도서를 찾을 수 없습니다.");
+        }
+
+        if (cartRepository.findByUserIdForUpdate(userId).isEmpty()) {
+            if (!userRepository.existsById(userId)) {
+                throw new BusinessException(ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다.");
+            }
+            cartRepository.insertIfAbsent(pooledIdAllocator.next("carts"), userId, LocalDateTime.now());
+            cartRepository.findByUserIdForUpdate(userId)
+                    .orElseThrow(() -> new IllegalStateException("cart missing after insert"));
+        }
+        Cart cart = cartRepository.findWithItemsByUserId(userId)
+                .orElseThrow(() -> new IllegalStateException("cart missing after lock"));
+
+        Map<Long, CartItem> current = cart.getItems().stream()
+                .collect(Collectors.toMap(item -> item.getBook().getId(), Function.identity()));
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        current.forEach((bookId, item) -> quantities.put(bookId, item.getQuantity()));
+
+        for (CartBatchRequest.Operation operation : operations) {
+            Long bookId = operation.getBookId();
+            switch (operation.getOp()) {
+                case ADD -> quantities.merge(bookId, operation.getQuantity(), Integer::sum);
+                case UPDATE -> {
+                    requireInCart(quantities, bookId);
+                    quantities.put(bookId, operation.getQuantity());
+                }
+                case REMOVE -> {
+                    requireInCart(quantities, bookId);
+                    quantities.remove(bookId);
+                }
+            }
+        }
+
+        Cart target = cart;
+        target.getItems().removeIf(item -> !quantities.containsKey(item.getBook().getId()));
+        quantities.forEach((bookId, quantity) -> {
+            CartItem item = current.get(bookId);
+            if (item == null) {
+                target.getItems().add(CartItem.builder()
+                        .cart(target)
+                        .book(books.get(bookId))
+                        .quantity(quantity)
+                        .build());
+            } else if (!item.getQuantity().equals(quantity)) {
+                item.setQuantity(quantity);
+            }
+        });
+
+        cartMetrics.changed("batch", target.getItems().size());
+        readYourWritesTracker.markWrite(userId);
+        return CartResponse.from(target);
+    }
+
+    @Override
+    public CartCheckout checkout(User user) {
+        Cart cart = cartRepository.findByUser(user)
+                .orElseThrow(() -> new BusinessException(
+                        ErrorCode.STATE_CONFLICT, "장바구니가 비어 있습니다."));
+
+        List<CartCheckout.Line> lines = cart.getItems().stream()
+                .map(item -> new CartCheckout.Line(item.getBook(), item.getQuantity()))
+                .toList();
+
+        // 주문과 같은 트랜잭션에서 비움 (orphanRemoval)
+        return new CartCheckout(lines, () -> cart.getItems().clear());
+    }
+
+    private int upsert(Long userId, Long bookId, int quantity) {
+        return cartItemRepository.upsertQuantity(
+                pooledIdAllocator.next("cart_items"), userId, bookId, quantity, LocalDateTime.now());
+    }
+
+    private Cart findCart(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(
+                        ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다."));
+
+        return cartRepository.findByUser(user)
+                .orElseThrow(() -> new BusinessException(
+                        ErrorCode.RESOURCE_NOT_FOUND, "장바구니를 찾을 수 없습니다."));
+    }
+
+    private static void requireInCart(Map<Long, Integer> quantities, Long bookId) {
+        if (!quantities.containsKey(bookId)) {
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "장바구니에 해당 도서가 없습니다.");
+        }
+    }
+
+    private static CartItem findItem(Cart cart, Long bookId) {
+        return cart.getItems().stream()
+                .filter(ci -> ci.getBook().getId().equals(bookId))
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(
+                        ErrorCode.RESOURCE_NOT_FOUND, "장바구니에 해당 도서가 없습니다."));
+    }
+}
@@ -0,0 +1,539 @@
+package com.wsd.bookstoreapi.domain.cart.service;
+
+import com.wsd.bookstoreapi.domain.book.dto.BookResponse;
+import com.wsd.bookstoreapi.domain.book.entity.Book;
+import com.wsd.bookstoreapi.domain.book.repository.BookRepository;
+import com.wsd.bookstoreapi.domain.book.service.BookService;
+import com.wsd.bookstoreapi.domain.cart.dto.CartBatchRequest;
+import com.wsd.bookstoreapi.domain.cart.dto.CartQuantity;
+import com.wsd.bookstoreapi.domain.cart.dto.CartResponse;
+import com.wsd.bookstoreapi.domain.cart.entity.Cart;
+import com.wsd.bookstoreapi.domain.cart.entity.CartItem;
+import com.wsd.bookstoreapi.domain.cart.repository.CartItemRepository;
+import com.wsd.bookstoreapi.domain.cart.repository.CartRepository;
+import com.wsd.bookstoreapi.domain.user.entity.User;
+import com.wsd.bookstoreapi.domain.user.repository.UserRepository;
+import com.wsd.bookstoreapi.global.cache.CacheNames;
+import com.wsd.bookstoreapi.global.error.BusinessException;
+import com.wsd.bookstoreapi.global.error.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 장바구니를 사용자별 Redis 해시로 관리 (cart.redis.enabled=true)
+ * - <prefix><userId> : 도서 ID → 수량, 적재 표시용 필드 "_" 포함 (빈 장바구니도 DB 를 다시 읽지 않도록)
+ * - <prefix>DIRTY    : DB 사본(carts / cart_items)에 아직 반영되지 않은 사용자 ID (write-behind)
+ * - 해시가 없으면(첫 사용, TTL 만료) DB 사본에서 한 번 적재
+ * - 가격/제목은 읽을 때 도서 캐시에서 채움, 주문 시점에만 도서를 DB 에서 조회
+ * 비활성화(삭제)된 도서는 응답에는 남을 수 있지만 주문과 DB 동기화에서는 빠짐
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cart.redis.enabled", havingValue = "true")
+public class RedisCartStore implements CartStore {
+
+    private static final String LOADED_FIELD = "_";
+    private static final String MISSING = "MISSING";
+    private static final String NO_ITEM = "NO_ITEM";
+
+    /**
+     * 변경 스크립트 공통 - KEYS: 장바구니, DIRTY / ARGV: ttl(초), userId, ...
+     * 해시가 없으면 {MISSING} (DB 에서 적재 후 재시도), 성공하면 변경 후 HGETALL
+     */
+    private static final String TOUCH = """
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            redis.call('SADD', KEYS[2], ARGV[2])
+            return redis.call('HGETALL', KEYS[1])
+            """;
+
+    private static final RedisScript<List> ADD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return {'MISSING'}
+            end
+            redis.call('HINCRBY', KEYS[1], ARGV[3], ARGV[4])
+            """ + TOUCH, List.class);
+
+    private static final RedisScript<List> SET_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return {'MISSING'}
+            end
+            if redis.call('HEXISTS', KEYS[1], ARGV[3]) == 0 then
+                return {'NO_ITEM'}
+            end
+            redis.call('HSET', KEYS[1], ARGV[3], ARGV[4])
+            """ + TOUCH, List.class);
+
+    private static final RedisScript<List> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return {'MISSING'}
+            end
+            if redis.call('HDEL', KEYS[1], ARGV[3]) == 0 then
+                return {'NO_ITEM'}
+            end
+            """ + TOUCH, List.class);
+
+    /**
+     * 일괄 변경 - ARGV: ttl, userId, op1, bookId1, qty1, op2 ...
+     * 먼저 최종 수량을 계산해 UPDATE/REMOVE 대상이 없으면 아무것도 바꾸지 않고 {NO_ITEM}
+     */
+    private static final RedisScript<List> BATCH_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return {'MISSING'}
+            end
+            local quantities = {}
+            for i = 3, #ARGV, 3 do
+                local book = ARGV[i + 1]
+                if quantities[book] == nil then
+                    quantities[book] = tonumber(redis.call('HGET', KEYS[1], book) or '0')
+                end
+                if ARGV[i] == 'ADD' then
+                    quantities[book] = quantities[book] + tonumber(ARGV[i + 2])
+                elseif quantities[book] == 0 then
+                    return {'NO_ITEM'}
+                elseif ARGV[i] == 'UPDATE' then
+                    quantities[book] = tonumber(ARGV[i + 2])
+                else
+                    quantities[book] = 0
+                end
+            end
+            for book, quantity in pairs(quantities) do
+                if quantity == 0 then
+                    redis.call('HDEL', KEYS[1], book)
+                else
+                    redis.call('HSET', KEYS[1], book, quantity)
+                end
+            end
+            """ + TOUCH, List.class);
+
+    private static final RedisScript<List> CLEAR_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], '_', '1')
+            """ + TOUCH, List.class);
+
+    /**
+     * 주문 시작 - 장바구니 해시를 주문별 키로 옮기고(RENAME) 빈 장바구니를 남김
+     * 동시에 들어온 다른 주문은 빈 장바구니를 보게 됨
+     * KEYS: 장바구니, DIRTY, 주문별 키 / ARGV: ttl, userId → 옮긴 항목 (HGETALL 형식)
+     */
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return {'MISSING'}
+            end
+            redis.call('RENAME', KEYS[1], KEYS[3])
+            redis.call('EXPIRE', KEYS[3], ARGV[1])
+            redis.call('HSET', KEYS[1], '_', '1')
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return redis.call('HGETALL', KEYS[3])
+            """, List.class);
+
+    /**
+     * 주문 종료 - 옮겨둔 항목 중 주문하지 않은 수량을 장바구니에 되돌림 (그 사이 추가된 수량과 합산)
+     * 커밋: 주문한 수량만큼 빼고 되돌림, 롤백: 전부 되돌림
+     * KEYS: 장바구니, DIRTY, 주문별 키 / ARGV: ttl, userId, bookId1, qty1 ... (주문한 수량)
+     */
+    private static final RedisScript<List> RESTORE_SCRIPT = new DefaultRedisScript<>("""
+            local ordered = {}
+            for i = 3, #ARGV, 2 do
+                ordered[ARGV[i]] = tonumber(ARGV[i + 1])
+            end
+            local claimed = redis.call('HGETALL', KEYS[3])
+            redis.call('HSET', KEYS[1], '_', '1')
+            for i = 1, #claimed, 2 do
+                if claimed[i] ~= '_' then
+                    local quantity = tonumber(claimed[i + 1]) - (ordered[claimed[i]] or 0)
+                    if quantity > 0 then
+                        redis.call('HINCRBY', KEYS[1], claimed[i], quantity)
+                    end
+                end
+            end
+            redis.call('DEL', KEYS[3])
+            """ + TOUCH, List.class);
+
+    /**
+     * DB 사본 적재 (다른 요청이 먼저 적재했으면 그대로 둠)
+     * KEYS: 장바구니 / ARGV: ttl, bookId1, qty1 ...
+     */
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], '_', '1')
+            for i = 2, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final UserRepository userRepository;
+    private final BookRepository bookRepository;
+    private final BookService bookService;
+    private final CacheManager cacheManager;
+    private final CartMetrics cartMetrics;
+    private final String keyPrefix;
+    private final String ttlSeconds;
+
+    public RedisCartStore(StringRedisTemplate stringRedisTemplate,
+                          CartRepository cartRepository,
+                          CartItemRepository cartItemRepository,
+                          UserRepository userRepository,
+                          BookRepository bookRepository,
+                          BookService bookService,
+                          CacheManager cacheManager,
+                          CartMetrics cartMetrics,
+                          @Value("${cart.redis.key-prefix:CART:}") String keyPrefix,
+                          @Value("${cart.redis.ttl:30d}") Duration ttl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cartRepository = cartRepository;
+        this.cartItemRepository = cartItemRepository;
+        this.userRepository = userRepository;
+        this.bookRepository = bookRepository;
+        this.bookService = bookService;
+        this.cacheManager = cacheManager;
+        this.cartMetrics = cartMetrics;
+        this.keyPrefix = keyPrefix;
+        this.ttlSeconds = String.valueOf(ttl.toSeconds());
+    }
+
+    @Override
+    public CartResponse addItem(Long userId, Long bookId, int quantity) {
+        // 없는 도서면 404 (도서 캐시)
+        if (findBooks(List.of(bookId)).isEmpty()) {
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "도서를 찾을 수 없습니다.");
+        }
+
+        Map<Long, Integer> quantities = mutate(ADD_SCRIPT, userId, itemArgs(bookId, quantity));
+        cartMetrics.changed("add", quantities.size());
+        return toResponse(userId, quantities);
+    }
+
+    @Override
+    public CartResponse getCart(Long userId) {
+        return toResponse(userId, quantities(userId));
+    }
+
+    @Override
+    public CartResponse updateItemQuantity(Long userId, Long bookId, int quantity) {
+        Map<Long, Integer> quantities = mutate(SET_SCRIPT, userId, itemArgs(bookId, quantity));
+        cartMetrics.changed("update", quantities.size());
+        return toResponse(userId, quantities);
+    }
+
+    @Override
+    public CartResponse removeItem(Long userId, Long bookId) {
+        Map<Long, Integer> quantities = mutate(REMOVE_SCRIPT, userId, itemArgs(bookId, 0));
+        cartMetrics.changed("remove", quantities.size());
+        return toResponse(userId, quantities);
+    }
+
+    @Override
+    public CartResponse clearCart(Long userId) {
+        Map<Long, Integer> quantities = run(CLEAR_SCRIPT, userId);
+        cartMetrics.changed("clear", 0);
+        return toResponse(userId, quantities);
+    }
+
+    /**
+     * 도서 확인은 도서 캐시, 변경은 스크립트 한 번 (Redis 왕복 1회)
+     */
+    @Override
+    public CartResponse applyBatch(Long userId, List<CartBatchRequest.Operation> operations) {
+        Set<Long> addedBookIds = operations.stream()
+                .filter(operation -> operation.getOp() == CartBatchRequest.Type.ADD)
+                .map(CartBatchRequest.Operation::getBookId)
+                .collect(Collectors.toSet());
+        if (findBooks(addedBookIds).size() < addedBookIds.size()) {
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "도서를 찾을 수 없습니다.");
+        }
+
+        List<String> args = new ArrayList<>();
+        for (CartBatchRequest.Operation operation : operations) {
+            args.add(operation.getOp().name());
+            args.add(String.valueOf(operation.getBookId()));
+            args.add(String.valueOf(operation.getQuantity() != null ? operation.getQuantity() : 0));
+        }
+
+        Map<Long, Integer> quantities = mutate(BATCH_SCRIPT, userId, args.toArray());
+        cartMetrics.changed("batch", quantities.size());
+        return toResponse(userId, quantities);
+    }
+
+    /**
+     * 주문 시점에만 도서를 DB 에서 조회 (가격/재고 기준), 비활성 도서는 제외
+     * 장바구니는 먼저 주문별 키로 옮겨서 같은 장바구니로 두 주문이 만들어지지 않게 함
+     * 트랜잭션이 끝나면 커밋은 주문하지 않은 항목만, 롤백은 전부 장바구니로 되돌림
+     */
+    @Override
+    public CartCheckout checkout(User user) {
+        Long userId = user.getId();
+        String claimKey = keyPrefix + "CHECKOUT:" + userId + ":" + UUID.randomUUID();
+        Map<Long, Integer> quantities = mutate(CLAIM_SCRIPT, List.of(cartKey(userId), dirtyKey(), claimKey), userId);
+
+        List<CartCheckout.Line> lines = bookRepository.findAllById(quantities.keySet()).stream()
+                .filter(Book::is_active)
+                .sorted(Comparator.comparing(Book::getId))
+                .map(book -> new CartCheckout.Line(book, quantities.get(book.getId())))
+                .toList();
+
+        Map<Long, Integer> ordered = new TreeMap<>();
+        lines.forEach(line -> ordered.put(line.book().getId(), line.quantity()));
+
+        List<String> keys = List.of(cartKey(userId), dirtyKey(), claimKey);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new CartCheckout(lines, () -> restore(keys, userId, ordered));
+        }
+
+        AtomicBoolean completed = new AtomicBoolean();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                boolean consumed = status == STATUS_COMMITTED && completed.get();
+                restore(keys, userId, consumed ? ordered : Map.of());
+            }
+        });
+        return new CartCheckout(lines, () -> completed.set(true));
+    }
+
+    /**
+     * write-behind: Redis 장바구니를 DB 사본에 그대로 반영 (없는 행 추가 / 수량 변경 / 빠진 행 삭제)
+     * 해시가 만료되어 없으면 DB 사본이 마지막 상태이므로 그대로 둠
+     */
+    @Transactional
+    public void flush(Long userId) {
+        Map<Long, Integer> quantities = toQuantities(stringRedisTemplate.<String, String>opsForHash()
+                .entries(cartKey(userId)));
+        if (quantities == null) {
+            return;
+        }
+
+        User user = userRepository.getReferenceById(userId);
+        Cart cart = cartRepository.findByUser(user).orElse(null);
+        if (cart == null) {
+            if (quantities.isEmpty()) {
+                return;
+            }
+            cart = cartRepository.save(Cart.builder().user(user).build());
+        }
+
+        Map<Long, Book> books = bookRepository.findAllById(quantities.keySet()).stream()
+                .filter(Book::is_active)
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+
+        cart.getItems().removeIf(item -> !books.containsKey(item.getBook().getId()));
+        Map<Long, CartItem> current = cart.getItems().stream()
+                .collect(Collectors.toMap(item -> item.getBook().getId(), Function.identity()));
+
+        for (Book book : books.values()) {
+            int quantity = quantities.get(book.getId());
+            CartItem item = current.get(book.getId());
+            if (item == null) {
+                cart.getItems().add(CartItem.builder().cart(cart).book(book).quantity(quantity).build());
+            } else if (item.getQuantity() != quantity) {
+                item.setQuantity(quantity);
+            }
+        }
+    }
+
+    /**
+     * DB 반영 대기 중인 사용자 ID 를 최대 count 개 꺼냄
+     */
+    public List<Long> popDirty(int count) {
+        List<String> members = stringRedisTemplate.opsForSet().pop(dirtyKey(), count);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    /**
+     * DB 반영 실패 시 다음 주기에 재시도
+     */
+    public void markDirty(Long userId) {
+        stringRedisTemplate.opsForSet().add(dirtyKey(), String.valueOf(userId));
+    }
+
+    private Map<Long, Integer> mutate(RedisScript<List> script, Long userId, Object[] args) {
+        return mutate(script, List.of(cartKey(userId), dirtyKey()), userId, args);
+    }
+
+    private Map<Long, Integer> mutate(RedisScript<List> script, List<String> keys, Long userId, Object... args) {
+        Map<Long, Integer> quantities = run(script, keys, userId, args);
+        if (quantities == null) {
+            load(userId);
+            quantities = run(script, keys, userId, args);
+        }
+        if (quantities == null) {
+            throw new IllegalStateException("cart script found no cart after load");
+        }
+        return quantities;
+    }
+
+    /**
+     * @return 변경 후 도서 ID → 수량, 장바구니가 아직 적재되지 않았으면 null
+     */
+    private Map<Long, Integer> run(RedisScript<List> script, Long userId, Object... extraArgs) {
+        return run(script, List.of(cartKey(userId), dirtyKey()), userId, extraArgs);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Integer> run(RedisScript<List> script, List<String> keys, Long userId, Object... extraArgs) {
+        Object[] args = new Object[extraArgs.length + 2];
+        args[0] = ttlSeconds;
+        args[1] = String.valueOf(userId);
+        System.arraycopy(extraArgs, 0, args, 2, extraArgs.length);
+
+        List<String> result = stringRedisTemplate.execute(script, keys, args);
+        if (result == null || result.isEmpty()) {
+            throw new IllegalStateException("cart script returned no result");
+        }
+        if (MISSING.equals(result.get(0))) {
+            return null;
+        }
+        if (NO_ITEM.equals(result.get(0))) {
+            throw new BusinessException(
+                    ErrorCode.RESOURCE_NOT_FOUND, "장바구니에 해당 도서가 없습니다.");
+        }
+
+        Map<String, String> entries = new HashMap<>();
+        for (int i = 0; i + 1 < result.size(); i += 2) {
+            entries.put(result.get(i), result.get(i + 1));
+        }
+        return toQuantities(entries);
+    }
+
+    private Map<Long, Integer> quantities(Long userId) {
+        Map<Long, Integer> quantities = toQuantities(stringRedisTemplate.<String, String>opsForHash()
+                .entries(cartKey(userId)));
+        return quantities != null ? quantities : load(userId);
+    }
+
+    /**
+     * DB 사본(carts / cart_items)에서 적재 - 해시가 없을 때만
+     */
+    private Map<Long, Integer> load(Long userId) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (CartQuantity line : cartItemRepository.findQuantitiesByUserId(userId)) {
+            quantities.put(line.bookId(), line.quantity());
+        }
+
+        List<Object> args = new ArrayList<>();
+        args.add(ttlSeconds);
+        Collections.addAll(args, toArgs(quantities));
+        Long loaded = stringRedisTemplate.execute(LOAD_SCRIPT, List.of(cartKey(userId)), args.toArray());
+
+        if (!Long.valueOf(1L).equals(loaded)) {
+            // 다른 요청이 먼저 적재함 → Redis 값 사용
+            Map<Long, Integer> current = toQuantities(stringRedisTemplate.<String, String>opsForHash()
+                    .entries(cartKey(userId)));
+            return current != null ? current : quantities;
+        }
+        return quantities;
+    }
+
+    private CartResponse toResponse(Long userId, Map<Long, Integer> quantities) {
+        Map<Long, BookResponse> books = findBooks(quantities.keySet());
+
+        List<Long> missing = quantities.keySet().stream()
+                .filter(bookId -> !books.containsKey(bookId))
+                .toList();
+        if (!missing.isEmpty()) {
+            // 삭제된 도서 → 장바구니에서도 제거
+            stringRedisTemplate.opsForHash().delete(cartKey(userId),
+                    missing.stream().map(String::valueOf).toArray());
+            markDirty(userId);
+        }
+        return CartResponse.of(quantities, books);
+    }
+
+    /**
+     * 도서 캐시(로컬 → Redis)에서 조회, 없으면 BookService 로 DB 조회 + 캐시 적재
+     */
+    private Map<Long, BookResponse> findBooks(Collection<Long> bookIds) {
+        Cache cache = cacheManager.getCache(CacheNames.BOOKS);
+        Map<Long, BookResponse> books = new HashMap<>();
+
+        for (Long bookId : bookIds) {
+            BookResponse book = cache != null ? cache.get(bookId, BookResponse.class) : null;
+            if (book == null) {
+                try {
+                    book = bookService.getBook(bookId);
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() != ErrorCode.RESOURCE_NOT_FOUND) {
+                        throw e;
+                    }
+                    continue;
+                }
+            }
+            books.put(bookId, book);
+        }
+        return books;
+    }
+
+    private String cartKey(Long userId) {
+        return keyPrefix + userId;
+    }
+
+    private String dirtyKey() {
+        return keyPrefix + "DIRTY";
+    }
+
+    /**
+     * 해시 → 도서 ID 순 수량 (적재 표시 필드 제외), 해시가 없으면 null
+     */
+    private static Map<Long, Integer> toQuantities(Map<String, String> entries) {
+        if (entries == null || entries.isEmpty()) {
+            return null;
+        }
+        Map<Long, Integer> quantities = new TreeMap<>();
+        entries.forEach((field, value) -> {
+            if (!LOADED_FIELD.equals(field)) {
+                quantities.put(Long.valueOf(field), Integer.valueOf(value));
+            }
+        });
+        return quantities;
+    }
+
+    private static Object[] itemArgs(Long bookId, int quantity) {
+        return new Object[]{String.valueOf(bookId), String.valueOf(quantity)};
+    }
+
+    private static Object[] toArgs(Map<Long, Integer> quantities) {
+        List<String> args = new ArrayList<>();
+        quantities.forEach((bookId, quantity) -> {
+            args.add(String.valueOf(bookId));
+            args.add(String.valueOf(quantity));
+        });
+        return args.toArray();
+    }
+
+    /**
+     * 주문별 키에 옮겨둔 항목을 장바구니로 되돌림 (ordered 만큼 제외)
+     * 실패하면 주문별 키는 TTL 뒤 사라지고, 그 항목은 장바구니에서 빠진 채로 남음
+     */
+    private void restore(List<String> keys, Long userId, Map<Long, Integer> ordered) {
+        try {
+            run(RESTORE_SCRIPT, keys, userId, toArgs(ordered));
+        } catch (Exception e) {
+            log.error("Cart restore after order failed: userId={}, reason={}", userId, e.getMessage(), e);
+        }
+    }
+}
@@ -4,6 +4,7 @@ package com.wsd.bookstoreapi.domain.favorite.entity;
 import com.wsd.bookstoreapi.domain.book.entity.Book;
 import com.wsd.bookstoreapi.domain.user.entity.User;
 import com.wsd.bookstoreapi.global.entity.BaseEntity;
+import com.wsd.bookstoreapi.global.entity.PooledId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -27,7 +28,7 @@ import lombok.*;
 public class Favorite extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("favorites")
     private Long id;
 
     // 누구의 위시리스트인지
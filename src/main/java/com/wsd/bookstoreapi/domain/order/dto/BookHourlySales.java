@@ -0,0 +1,9 @@
+package com.wsd.bookstoreapi.domain.order.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 도서별 시간대 판매 수량 (베스트셀러 순위 재구축용)
+ */
+public record BookHourlySales(Long bookId, String category, LocalDate day, Integer hour, Long quantity) {
+}
@@ -3,6 +3,7 @@ package com.wsd.bookstoreapi.domain.order.entity;
 
 import com.wsd.bookstoreapi.domain.user.entity.User;
 import com.wsd.bookstoreapi.global.entity.BaseEntity;
+import com.wsd.bookstoreapi.global.entity.PooledId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -25,7 +26,7 @@ import java.util.List;
 public class Order extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("orders")
     private Long id;
 
     // 주문한 사용자
@@ -1,11 +1,34 @@
 package com.wsd.bookstoreapi.domain.order.repository;
 
 import com.wsd.bookstoreapi.domain.book.entity.Book;
+import com.wsd.bookstoreapi.domain.order.dto.BookHourlySales;
 import com.wsd.bookstoreapi.domain.order.entity.OrderItem;
+import com.wsd.bookstoreapi.domain.order.entity.OrderStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
 
     // 해당 도서를 참조하는 주문 항목 모두 삭제
     void deleteByBook(Book book);
+
+    /**
+     * since 이후 주문(취소 제외)의 판매 수량을 도서 / 일자 / 시간대별로 합산
+     */
+    @Query("""
+        SELECT new com.wsd.bookstoreapi.domain.order.dto.BookHourlySales(
+            b.id, b.category, cast(o.createdAt as LocalDate), extract(hour from o.createdAt), sum(oi.quantity))
+        FROM OrderItem oi
+        JOIN oi.order o
+        JOIN oi.book b
+        WHERE o.createdAt >= :since
+          AND o.status <> :excluded
+        GROUP BY b.id, b.category, cast(o.createdAt as LocalDate), extract(hour from o.createdAt)
+        """)
+    List<BookHourlySales> sumHourlySalesSince(@Param("since") LocalDateTime since,
+                                              @Param("excluded") OrderStatus excluded);
 }
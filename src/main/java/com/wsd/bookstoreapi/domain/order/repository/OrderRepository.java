@@ -3,24 +3,60 @@ package com.wsd.bookstoreapi.domain.order.repository;
 import com.wsd.bookstoreapi.domain.order.entity.Order;
 import com.wsd.bookstoreapi.domain.order.entity.OrderStatus;
 import com.wsd.bookstoreapi.domain.user.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+/**
+ * 주문 목록은 2단계로 조회
+ * 1) 주문 ID만 페이지 단위로 조회 (DB 에서 LIMIT/OFFSET, 인덱스 사용)
+ * 2) 해당 ID들의 주문 + 항목 + 도서를 한 번에 fetch
+ * (컬렉션 fetch join + Pageable 을 같이 쓰면 Hibernate 가 전체를 메모리에 올려 페이징함)
+ */
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
-    @EntityGraph(attributePaths = {"user", "orderItems", "orderItems.book"})
-    Page<Order> findByUser(User user, Pageable pageable);
+    @Query(value = "SELECT o.id FROM Order o WHERE o.user = :user",
+            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.user = :user")
+    Page<Long> findIdsByUser(@Param("user") User user, Pageable pageable);
 
-    @EntityGraph(attributePaths = {"user", "orderItems", "orderItems.book"})
-    Page<Order> findByUserAndStatus(User user, OrderStatus status, Pageable pageable);
+    @Query(value = "SELECT o.id FROM Order o WHERE o.user = :user AND o.status = :status",
+            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.user = :user AND o.status = :status")
+    Page<Long> findIdsByUserAndStatus(@Param("user") User user,
+                                      @Param("status") OrderStatus status,
+                                      Pageable pageable);
+
+    @Query(value = "SELECT o.id FROM Order o WHERE o.status = :status",
+            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.status = :status")
+    Page<Long> findIdsByStatus(@Param("status") OrderStatus status, Pageable pageable);
 
+    @Query(value = "SELECT o.id FROM Order o",
+            countQuery = "SELECT COUNT(o) FROM Order o")
+    Page<Long> findIds(Pageable pageable);
+
+    /**
+     * 페이지에 해당하는 주문만 항목/도서까지 함께 조회 (순서는 보장하지 않음)
+     */
     @EntityGraph(attributePaths = {"user", "orderItems", "orderItems.book"})
-    Page<Order> findByStatus(OrderStatus status, Pageable pageable);
+    @Query("SELECT o FROM Order o WHERE o.id IN :ids")
+    List<Order> findWithItemsByIdIn(@Param("ids") Collection<Long> ids);
 
     @EntityGraph(attributePaths = {"user", "orderItems", "orderItems.book"})
     Optional<Order> findById(Long id);
-}
 
+    /**
+     * 상태 변경용 행 잠금 조회 (SELECT ... FOR UPDATE) - 같은 주문의 취소/상태 변경을 순서대로 처리
+     * 주문 행만 잠그고 항목/도서는 잠금 이후 지연 로딩
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.id = :id")
+    Optional<Order> findByIdForUpdate(@Param("id") Long id);
+}
@@ -0,0 +1,87 @@
+package com.wsd.bookstoreapi.domain.order.service;
+
+import com.wsd.bookstoreapi.domain.order.entity.Order;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 주문 도메인 지표
+ * - bookstore.orders.created / canceled / rejected: 커밋된 건만 집계 (롤백된 주문은 제외)
+ * - bookstore.order.amount / lines: 주문 금액, 주문 항목 수 분포
+ * - bookstore.order.create: 주문 생성 처리 시간 (재고 차감 포함, 커밋 제외), outcome 태그
+ */
+@Component
+public class OrderMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Counter created;
+    private final DistributionSummary amount;
+    private final DistributionSummary lines;
+
+    public OrderMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.created = Counter.builder("bookstore.orders.created")
+                .description("Orders created")
+                .register(meterRegistry);
+        this.amount = DistributionSummary.builder("bookstore.order.amount")
+                .description("Order total amount")
+                .baseUnit("won")
+                .register(meterRegistry);
+        this.lines = DistributionSummary.builder("bookstore.order.lines")
+                .description("Order items per order")
+                .register(meterRegistry);
+    }
+
+    public Timer.Sample startCreate() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void stopCreate(Timer.Sample sample, String outcome) {
+        sample.stop(Timer.builder("bookstore.order.create")
+                .description("Order creation time")
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    public void orderCreated(Order order) {
+        double total = order.getTotalAmount().doubleValue();
+        int lineCount = order.getOrderItems().size();
+        afterCommit(() -> {
+            created.increment();
+            amount.record(total);
+            lines.record(lineCount);
+        });
+    }
+
+    /**
+     * @param source user(본인 취소) / admin(관리자 상태 변경)
+     */
+    public void orderCanceled(String source) {
+        afterCommit(() -> meterRegistry.counter("bookstore.orders.canceled", "source", source).increment());
+    }
+
+    /**
+     * 주문 생성 실패 (reason: ErrorCode 코드 - 값 종류가 한정됨)
+     */
+    public void orderRejected(String reason) {
+        meterRegistry.counter("bookstore.orders.rejected", "reason", reason).increment();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
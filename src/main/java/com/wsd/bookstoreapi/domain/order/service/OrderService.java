@@ -1,8 +1,9 @@
 package com.wsd.bookstoreapi.domain.order.service;
 
-import com.wsd.bookstoreapi.domain.cart.entity.Cart;
-import com.wsd.bookstoreapi.domain.cart.entity.CartItem;
-import com.wsd.bookstoreapi.domain.cart.repository.CartRepository;
+import com.wsd.bookstoreapi.domain.book.service.BestsellerRanking;
+import com.wsd.bookstoreapi.domain.book.service.StockService;
+import com.wsd.bookstoreapi.domain.cart.service.CartCheckout;
+import com.wsd.bookstoreapi.domain.cart.service.CartStore;
 import com.wsd.bookstoreapi.domain.order.dto.OrderCreateRequest;
 import com.wsd.bookstoreapi.domain.order.dto.OrderResponse;
 import com.wsd.bookstoreapi.domain.order.dto.OrderStatusUpdateRequest;
@@ -12,41 +13,65 @@ import com.wsd.bookstoreapi.domain.order.entity.OrderStatus;
 import com.wsd.bookstoreapi.domain.order.repository.OrderRepository;
 import com.wsd.bookstoreapi.domain.user.entity.User;
 import com.wsd.bookstoreapi.domain.user.repository.UserRepository;
+import com.wsd.bookstoreapi.global.datasource.ReadYourWritesTracker;
 import com.wsd.bookstoreapi.global.error.BusinessException;
 import com.wsd.bookstoreapi.global.error.ErrorCode;
 import com.wsd.bookstoreapi.global.security.SecurityUtil;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class OrderService {
 
     private final OrderRepository orderRepository;
-    private final CartRepository cartRepository;
+    private final CartStore cartStore;
     private final UserRepository userRepository;
+    private final StockService stockService;
+    private final OrderMetrics orderMetrics;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final BestsellerRanking bestsellerRanking;
 
     /**
      * 내 장바구니 기반 주문 생성
      */
     @Transactional
     public OrderResponse createOrderFromCart(OrderCreateRequest request) {
+        Timer.Sample sample = orderMetrics.startCreate();
+        try {
+            OrderResponse response = placeOrder(request);
+            orderMetrics.stopCreate(sample, "success");
+            return response;
+        } catch (BusinessException e) {
+            String reason = e.getErrorCode().getCode();
+            orderMetrics.orderRejected(reason);
+            orderMetrics.stopCreate(sample, reason);
+            throw e;
+        }
+    }
+
+    private OrderResponse placeOrder(OrderCreateRequest request) {
         Long userId = SecurityUtil.getCurrentUserId();
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(
                         ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다."));
 
-        Cart cart = cartRepository.findByUser(user)
-                .orElseThrow(() -> new BusinessException(
-                        ErrorCode.STATE_CONFLICT, "장바구니가 비어 있습니다."));
+        CartCheckout cart = cartStore.checkout(user);
 
-        if (cart.getItems().isEmpty()) {
+        if (cart.isEmpty()) {
             throw new BusinessException(
                     ErrorCode.STATE_CONFLICT, "장바구니에 상품이 없습니다.");
         }
@@ -60,14 +85,14 @@ public class OrderService {
 
         BigDecimal total = BigDecimal.ZERO;
 
-        for (CartItem cartItem : cart.getItems()) {
-            BigDecimal unitPrice = cartItem.getBook().getPrice();
-            BigDecimal lineTotal = unitPrice.multiply(BigDecimal.valueOf(cartItem.getQuantity()));
+        for (CartCheckout.Line cartItem : cart.lines()) {
+            BigDecimal unitPrice = cartItem.book().getPrice();
+            BigDecimal lineTotal = unitPrice.multiply(BigDecimal.valueOf(cartItem.quantity()));
 
             OrderItem orderItem = OrderItem.builder()
                     .order(order)
-                    .book(cartItem.getBook())
-                    .quantity(cartItem.getQuantity())
+                    .book(cartItem.book())
+                    .quantity(cartItem.quantity())
                     .unitPrice(unitPrice)
                     .lineTotal(lineTotal)
                     .build();
@@ -78,12 +103,18 @@ public class OrderService {
 
         order.setTotalAmount(total);
 
+        // 재고 차감 (하나라도 부족하면 예외 → 주문 전체 롤백)
+        stockService.reserve(quantitiesByBookId(order));
+
         // 주문 저장
         Order saved = orderRepository.save(order);
 
         // 장바구니 비우기
-        cart.getItems().clear();
+        cart.complete();
 
+        orderMetrics.orderCreated(saved);
+        bestsellerRanking.recordOrdered(saved.getCreatedAt(), sales(saved));
+        readYourWritesTracker.markWrite(userId);
         return OrderResponse.from(saved);
     }
 
@@ -98,14 +129,14 @@ public class OrderService {
                 .orElseThrow(() -> new BusinessException(
                         ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다."));
 
-        Page<Order> page;
+        Page<Long> idPage;
         if (status != null) {
-            page = orderRepository.findByUserAndStatus(user, status, pageable);
+            idPage = orderRepository.findIdsByUserAndStatus(user, status, pageable);
         } else {
-            page = orderRepository.findByUser(user, pageable);
+            idPage = orderRepository.findIdsByUser(user, pageable);
         }
 
-        return page.map(OrderResponse::from);
+        return toOrderResponsePage(idPage);
     }
 
     /**
@@ -129,12 +160,13 @@ public class OrderService {
 
     /**
      * 내 주문 취소
+     * 주문 행을 잠그고 상태를 확인 → 동시에 취소해도 재고 복구/판매 수량 차감은 한 번만
      */
     @Transactional
     public OrderResponse cancelMyOrder(Long orderId) {
         Long userId = SecurityUtil.getCurrentUserId();
 
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findByIdForUpdate(orderId)
                 .orElseThrow(() -> new BusinessException(
                         ErrorCode.RESOURCE_NOT_FOUND, "주문을 찾을 수 없습니다."));
 
@@ -150,6 +182,13 @@ public class OrderService {
         }
 
         order.setStatus(OrderStatus.CANCELED);
+
+        // 취소된 주문 수량만큼 재고 복구
+        stockService.release(quantitiesByBookId(order));
+        bestsellerRanking.recordCanceled(order.getCreatedAt(), sales(order));
+        orderMetrics.orderCanceled("user");
+        readYourWritesTracker.markWrite(userId);
+
         return OrderResponse.from(order);
     }
 
@@ -158,15 +197,35 @@ public class OrderService {
      */
     @Transactional(readOnly = true)
     public Page<OrderResponse> getOrdersForAdmin(OrderStatus status, Pageable pageable) {
-        Page<Order> page;
+        Page<Long> idPage;
 
         if (status != null) {
-            page = orderRepository.findByStatus(status, pageable);
+            idPage = orderRepository.findIdsByStatus(status, pageable);
         } else {
-            page = orderRepository.findAll(pageable);
+            idPage = orderRepository.findIds(pageable);
         }
 
-        return page.map(OrderResponse::from);
+        return toOrderResponsePage(idPage);
+    }
+
+    /**
+     * 주문 ID 페이지 → 해당 주문들만 항목까지 한 번에 조회해서 원래 순서대로 변환
+     */
+    private Page<OrderResponse> toOrderResponsePage(Page<Long> idPage) {
+        if (idPage.isEmpty()) {
+            return new PageImpl<>(List.of(), idPage.getPageable(), idPage.getTotalElements());
+        }
+
+        Map<Long, Order> ordersById = orderRepository.findWithItemsByIdIn(idPage.getContent()).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+        List<OrderResponse> content = idPage.getContent().stream()
+                .map(ordersById::get)
+                .filter(Objects::nonNull)
+                .map(OrderResponse::from)
+                .toList();
+
+        return new PageImpl<>(content, idPage.getPageable(), idPage.getTotalElements());
     }
 
     /**
@@ -183,13 +242,51 @@ public class OrderService {
 
     /**
      * 관리자용 - 주문 상태 변경
+     * 사용자 취소와 같은 행 잠금으로 이전 상태를 읽음 (재고/판매 수량 중복 반영 방지)
      */
     @Transactional
     public void updateOrderStatus(Long orderId, OrderStatusUpdateRequest request) {
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findByIdForUpdate(orderId)
                 .orElseThrow(() -> new BusinessException(
                         ErrorCode.RESOURCE_NOT_FOUND, "주문을 찾을 수 없습니다."));
 
-        order.setStatus(request.getStatus());
+        OrderStatus previous = order.getStatus();
+        OrderStatus next = request.getStatus();
+
+        // 취소로 바뀌면 재고 복구, 취소 상태에서 되돌리면 재고 다시 차감 (베스트셀러 판매 수량도 같이)
+        if (previous != OrderStatus.CANCELED && next == OrderStatus.CANCELED) {
+            stockService.release(quantitiesByBookId(order));
+            bestsellerRanking.recordCanceled(order.getCreatedAt(), sales(order));
+            orderMetrics.orderCanceled("admin");
+        } else if (previous == OrderStatus.CANCELED && next != OrderStatus.CANCELED) {
+            stockService.reserve(quantitiesByBookId(order));
+            bestsellerRanking.recordOrdered(order.getCreatedAt(), sales(order));
+        }
+
+        order.setStatus(next);
+        // 관리자 변경이지만 주문자가 곧바로 다시 조회하는 경우를 위해 주문자 기준으로 기록
+        readYourWritesTracker.markWrite(order.getUser().getId());
+    }
+
+    /**
+     * 주문 항목을 도서별 수량으로 합산
+     */
+    private Map<Long, Integer> quantitiesByBookId(Order order) {
+        return order.getOrderItems().stream()
+                .collect(Collectors.toMap(
+                        item -> item.getBook().getId(),
+                        OrderItem::getQuantity,
+                        Integer::sum
+                ));
+    }
+
+    /**
+     * 주문 항목을 베스트셀러 판매 단위(도서, 카테고리, 수량)로 변환
+     */
+    private List<BestsellerRanking.Sale> sales(Order order) {
+        return order.getOrderItems().stream()
+                .map(item -> new BestsellerRanking.Sale(
+                        item.getBook().getId(), item.getBook().getCategory(), item.getQuantity()))
+                .toList();
     }
 }
@@ -9,10 +9,13 @@ import com.wsd.bookstoreapi.domain.review.entity.Review;
 import com.wsd.bookstoreapi.domain.review.repository.ReviewRepository;
 import com.wsd.bookstoreapi.domain.user.entity.User;
 import com.wsd.bookstoreapi.domain.user.repository.UserRepository;
+import com.wsd.bookstoreapi.global.cache.CacheNames;
 import com.wsd.bookstoreapi.global.error.BusinessException;
 import com.wsd.bookstoreapi.global.error.ErrorCode;
 import com.wsd.bookstoreapi.global.security.SecurityUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -25,6 +28,7 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
     private final BookRepository bookRepository;
+    private final CacheManager cacheManager;
 
     private User getCurrentUser() {
         Long userId = SecurityUtil.getCurrentUserId();
@@ -68,6 +72,7 @@ public class ReviewService {
                 .build();
 
         reviewRepository.save(review);
+        changeRating(bookId, review.getRating(), 0);
 
         return ReviewResponse.from(review);
     }
@@ -103,7 +108,8 @@ public class ReviewService {
                         ErrorCode.RESOURCE_NOT_FOUND,
                         "해당 도서에 대한 리뷰를 찾을 수 없습니다."));
 
-        if (request.getRating() != null) {
+        if (request.getRating() != null && !request.getRating().equals(review.getRating())) {
+            changeRating(bookId, request.getRating(), review.getRating());
             review.setRating(request.getRating());
         }
         if (request.getContent() != null) {
@@ -128,6 +134,7 @@ public class ReviewService {
 
         ReviewResponse response = ReviewResponse.from(review);
         reviewRepository.delete(review);
+        changeRating(bookId, 0, review.getRating());
         return response;
     }
 
@@ -144,5 +151,19 @@ public class ReviewService {
                         ErrorCode.RESOURCE_NOT_FOUND, "리뷰를 찾을 수 없습니다."));
 
         reviewRepository.delete(review);
+        changeRating(review.getBook().getId(), 0, review.getRating());
+    }
+
+    /**
+     * books 평점 집계를 증감으로 갱신 (재집계 없음, 행 단위 원자적 UPDATE)
+     * 도서 캐시는 커밋 후 무효화 (트랜잭션 인지 캐시)
+     */
+    private void changeRating(Long bookId, int added, int removed) {
+        bookRepository.changeRating(bookId, added, removed);
+
+        Cache cache = cacheManager.getCache(CacheNames.BOOKS);
+        if (cache != null) {
+            cache.evict(bookId);
+        }
     }
 }
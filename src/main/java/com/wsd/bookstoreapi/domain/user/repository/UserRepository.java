@@ -3,6 +3,8 @@ package com.wsd.bookstoreapi.domain.user.repository;
 import com.wsd.bookstoreapi.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -16,4 +18,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // 관리자용 목록 조회: orders, reviews 까지 굳이 한 번에 안 가져와도 됨
     Page<User> findAll(Pageable pageable);
+
+    // 인증 필터용 상태 조회 (엔티티 전체를 읽지 않음)
+    @Query("SELECT u.status FROM User u WHERE u.id = :id")
+    Optional<String> findStatusById(@Param("id") Long id);
 }
@@ -1,5 +1,6 @@
 package com.wsd.bookstoreapi.domain.user.service;
 
+import com.wsd.bookstoreapi.domain.auth.service.TokenVersionService;
 import com.wsd.bookstoreapi.domain.user.dto.AdminUserResponse;
 import com.wsd.bookstoreapi.domain.user.dto.UserMeResponse;
 import com.wsd.bookstoreapi.domain.user.dto.UserUpdateRequest;
@@ -19,6 +20,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserStatusService userStatusService;
+    private final TokenVersionService tokenVersionService;
 
     /**
      * 현재 로그인한 사용자 엔티티 조회
@@ -69,6 +72,7 @@ public class UserService {
         }
 
         user.setStatus("INACTIVE");
+        userStatusService.evict(user.getId());
         return UserMeResponse.from(user);
     }
 
@@ -87,6 +91,7 @@ public class UserService {
         }
 
         user.setStatus("ACTIVE");
+        userStatusService.evict(user.getId());
         return UserMeResponse.from(user);
     }
 
@@ -97,6 +102,7 @@ public class UserService {
     public void deleteMe() {
         User user = getCurrentUser();
         userRepository.delete(user);
+        userStatusService.evict(user.getId());
     }
 
     /**
@@ -141,6 +147,10 @@ public class UserService {
         }
 
         user.setStatus("INACTIVE");
+        userStatusService.evict(userId);
+
+        // 이미 발급된 토큰도 모두 폐기 (재활성화 후에는 다시 로그인 필요)
+        tokenVersionService.bump(userId);
     }
 
     /**
@@ -162,5 +172,6 @@ public class UserService {
         }
 
         user.setStatus("ACTIVE");
+        userStatusService.evict(userId);
     }
 }
@@ -0,0 +1,37 @@
+package com.wsd.bookstoreapi.domain.user.service;
+
+import com.wsd.bookstoreapi.domain.user.repository.UserRepository;
+import com.wsd.bookstoreapi.global.cache.CacheNames;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 인증 필터용 계정 상태 조회 (로컬 + Redis 2단 캐시)
+ * - 상태 변경/삭제 시 evict → 커밋 이후 모든 인스턴스의 로컬 캐시까지 무효화
+ */
+@Service
+@RequiredArgsConstructor
+public class UserStatusService {
+
+    public static final String INACTIVE = "INACTIVE";
+
+    // 삭제된 사용자 (캐시는 null 을 저장하지 않으므로 표식 값 사용)
+    public static final String NOT_FOUND = "NOT_FOUND";
+
+    private final UserRepository userRepository;
+
+    @Cacheable(cacheNames = CacheNames.USER_STATUS, key = "#userId", sync = true)
+    @Transactional(readOnly = true)
+    public String getStatus(Long userId) {
+        return userRepository.findStatusById(userId)
+                .orElse(NOT_FOUND);
+    }
+
+    @CacheEvict(cacheNames = CacheNames.USER_STATUS, key = "#userId")
+    public void evict(Long userId) {
+        // 어노테이션으로 처리
+    }
+}
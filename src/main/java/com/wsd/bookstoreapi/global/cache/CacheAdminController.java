@@ -0,0 +1,41 @@
+package com.wsd.bookstoreapi.global.cache;
+
+import com.wsd.bookstoreapi.global.api.ApiResult;
+import com.wsd.bookstoreapi.global.cache.dto.CacheStatsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Admin - Cache", description = "관리자용 캐시 상태 API")
+@RestController
+@RequestMapping("/api/v1/admin/cache")
+@RequiredArgsConstructor
+public class CacheAdminController {
+
+    private final TwoLevelCacheManager cacheManager;
+
+    @Operation(
+            summary = "캐시 통계 조회",
+            description = "이 인스턴스 기준 캐시별 로컬/Redis hit·miss, 무효화 횟수를 반환합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    })
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResult<List<CacheStatsResponse>>> getStats() {
+        ApiResult<List<CacheStatsResponse>> apiResult = ApiResult.success(
+                cacheManager.getStats(),
+                "캐시 통계 조회 성공"
+        );
+        return ResponseEntity.ok(apiResult);
+    }
+}
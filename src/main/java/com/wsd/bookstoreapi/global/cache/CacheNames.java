@@ -0,0 +1,13 @@
+package com.wsd.bookstoreapi.global.cache;
+
+/**
+ * 2단 캐시(로컬 + Redis) 이름 모음
+ */
+public final class CacheNames {
+
+    public static final String BOOKS = "books";
+    public static final String USER_STATUS = "userStatus";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,18 @@
+package com.wsd.bookstoreapi.global.cache;
+
+import java.time.Duration;
+
+/**
+ * 캐시별 설정
+ * - valueType: Redis 에 JSON 으로 저장/복원할 타입
+ * - localTtl: 로컬(Caffeine) 보관 시간 (다른 인스턴스 무효화 메시지 유실 시 최대 stale 시간)
+ * - redisTtl: Redis 보관 시간
+ */
+public record CacheSpec(
+        String name,
+        Class<?> valueType,
+        Duration localTtl,
+        long localMaxSize,
+        Duration redisTtl
+) {
+}
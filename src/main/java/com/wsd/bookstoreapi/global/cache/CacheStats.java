@@ -0,0 +1,89 @@
+package com.wsd.bookstoreapi.global.cache;
+
+import com.wsd.bookstoreapi.global.cache.dto.CacheStatsResponse;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 캐시 계층별 hit/miss 카운터
+ */
+public class CacheStats {
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder localMisses = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder redisMisses = new LongAdder();
+    private final LongAdder redisErrors = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder remoteInvalidations = new LongAdder();
+
+    void localHit() {
+        localHits.increment();
+    }
+
+    void localMiss() {
+        localMisses.increment();
+    }
+
+    void redisHit() {
+        redisHits.increment();
+    }
+
+    void redisMiss() {
+        redisMisses.increment();
+    }
+
+    void redisError() {
+        redisErrors.increment();
+    }
+
+    void eviction() {
+        evictions.increment();
+    }
+
+    void remoteInvalidation() {
+        remoteInvalidations.increment();
+    }
+
+    public long getLocalHits() {
+        return localHits.sum();
+    }
+
+    public long getLocalMisses() {
+        return localMisses.sum();
+    }
+
+    public long getRedisHits() {
+        return redisHits.sum();
+    }
+
+    public long getRedisMisses() {
+        return redisMisses.sum();
+    }
+
+    public long getRedisErrors() {
+        return redisErrors.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public long getRemoteInvalidations() {
+        return remoteInvalidations.sum();
+    }
+
+    public CacheStatsResponse snapshot(String name, long localSize) {
+        return CacheStatsResponse.builder()
+                .name(name)
+                .localSize(localSize)
+                .localHits(getLocalHits())
+                .localMisses(getLocalMisses())
+                .redisHits(getRedisHits())
+                .redisMisses(getRedisMisses())
+                .redisErrors(getRedisErrors())
+                .evictions(getEvictions())
+                .remoteInvalidations(getRemoteInvalidations())
+                .build();
+    }
+}
@@ -0,0 +1,308 @@
+package com.wsd.bookstoreapi.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wsd.bookstoreapi.global.datasource.ReplicaRouting;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 로컬(Caffeine) → Redis → 원본(DB) 순서로 조회하는 2단 캐시
+ * - Redis 장애 시에는 miss 로 처리하고 원본을 그대로 사용 (조회 실패로 번지지 않도록)
+ * - evict/clear 는 Redis 삭제 + 다른 인스턴스 로컬 캐시 무효화 메시지 발행
+ * - 무효화마다 키 세대 번호를 올려서, 무효화 전에 시작한 조회가 옛 값을 다시 써넣지 않도록 함
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final CacheSpec spec;
+    private final String keyPrefix;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final TwoLevelCacheManager cacheManager;
+    private final CacheStats stats = new CacheStats();
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> loadsInProgress = new ConcurrentHashMap<>();
+
+    /**
+     * 무효화 세대 번호 (키 해시로 나눈 칸 단위, 키마다 항목을 두지 않아 크기 고정)
+     * 같은 칸의 다른 키가 무효화되면 그 사이의 적재 결과를 캐시에 올리지 않을 뿐이라 정확성에는 영향 없음
+     */
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    TwoLevelCache(CacheSpec spec,
+                  String keyPrefix,
+                  StringRedisTemplate redisTemplate,
+                  ObjectMapper objectMapper,
+                  TwoLevelCacheManager cacheManager) {
+        super(false);
+        this.spec = spec;
+        this.keyPrefix = keyPrefix + spec.name() + ":";
+        this.local = Caffeine.newBuilder()
+                .maximumSize(spec.localMaxSize())
+                .expireAfterWrite(spec.localTtl())
+                .build();
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public String getName() {
+        return spec.name();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    public CacheStats getStats() {
+        return stats;
+    }
+
+    public long localSize() {
+        return local.estimatedSize();
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String cacheKey = key.toString();
+
+        Object value = local.getIfPresent(cacheKey);
+        if (value != null) {
+            stats.localHit();
+            return value;
+        }
+        stats.localMiss();
+
+        long generation = generation(cacheKey);
+        value = readRedis(cacheKey);
+        if (value != null) {
+            putLocal(cacheKey, value, generation);
+        }
+        return value;
+    }
+
+    /**
+     * @Cacheable(sync = true) 경로
+     * 같은 키의 동시 miss 는 먼저 온 요청 하나만 로딩하고 나머지는 그 결과를 기다림 (DB 중복 조회 방지)
+     * - Caffeine get(key, loader) 는 로딩(Redis/DB I/O) 내내 ConcurrentHashMap 의 synchronized 구간을 잡고 있어
+     *   가상 스레드가 carrier 에 고정되므로, 진행 중인 로딩을 future 로 공유하는 방식 사용
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String cacheKey = key.toString();
+
+        Object value = local.getIfPresent(cacheKey);
+        if (value != null) {
+            stats.localHit();
+            return (T) fromStoreValue(value);
+        }
+        stats.localMiss();
+
+        CompletableFuture<Object> loading = new CompletableFuture<>();
+        CompletableFuture<Object> inProgress = loadsInProgress.putIfAbsent(cacheKey, loading);
+        if (inProgress != null) {
+            return (T) fromStoreValue(awaitLoad(inProgress));
+        }
+
+        try {
+            long generation = generation(cacheKey);
+            // 첫 확인과 슬롯 획득 사이에 이전 로딩이 끝났을 수 있음 (local.put 이 슬롯 해제보다 먼저) → 다시 확인
+            value = local.getIfPresent(cacheKey);
+            if (value == null) {
+                value = loadThrough(cacheKey, key, valueLoader, generation);
+            }
+            if (value != null) {
+                putLocal(cacheKey, value, generation);
+            }
+            loading.complete(value);
+            return (T) fromStoreValue(value);
+        } catch (Throwable e) {
+            // Error 도 전달해야 기다리는 요청이 join() 에서 멈추지 않음
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            loadsInProgress.remove(cacheKey, loading);
+        }
+    }
+
+    private static Object awaitLoad(CompletableFuture<Object> loading) {
+        try {
+            return loading.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private Object loadThrough(String cacheKey, Object key, Callable<?> valueLoader, long generation) {
+        Object cached = readRedis(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        Object loaded;
+        // 무효화는 primary 커밋 기준 → 복제 지연된 replica 값을 캐시에 다시 올리지 않도록 primary 에서 적재
+        try (ReplicaRouting.Scope ignored = ReplicaRouting.primaryOnly()) {
+            loaded = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        if (loaded != null && generation(cacheKey) == generation) {
+            writeRedis(cacheKey, loaded);
+            // 쓰기 직전에 무효화가 끼어들었으면 방금 쓴 값을 다시 삭제
+            if (generation(cacheKey) != generation) {
+                deleteRedis(cacheKey);
+            }
+        }
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        String cacheKey = key.toString();
+        writeRedis(cacheKey, value);
+        local.put(cacheKey, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = key.toString();
+        stats.eviction();
+
+        // 세대를 먼저 올려야 진행 중인 적재가 삭제 이후에 값을 쓰지 않음
+        generations.incrementAndGet(stripe(cacheKey));
+        local.invalidate(cacheKey);
+        deleteRedis(cacheKey);
+        cacheManager.publishInvalidation(getName(), cacheKey);
+    }
+
+    @Override
+    public void clear() {
+        stats.eviction();
+
+        invalidateAllGenerations();
+        local.invalidateAll();
+        // KEYS 대신 SCAN 으로 조금씩 삭제 (Redis 블로킹 방지)
+        ScanOptions options = ScanOptions.scanOptions().match(keyPrefix + "*").count(500).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> batch = new ArrayList<>();
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == 500) {
+                    redisTemplate.delete(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                redisTemplate.delete(batch);
+            }
+        } catch (Exception e) {
+            stats.redisError();
+            log.warn("Cache redis clear failed: cache={}, reason={}", getName(), e.getMessage());
+        }
+        cacheManager.publishInvalidation(getName(), null);
+    }
+
+    /**
+     * 다른 인스턴스에서 무효화된 항목 → 로컬만 제거 (Redis 는 이미 삭제됨)
+     */
+    void invalidateLocal(String cacheKey) {
+        stats.remoteInvalidation();
+        if (cacheKey == null) {
+            invalidateAllGenerations();
+            local.invalidateAll();
+        } else {
+            generations.incrementAndGet(stripe(cacheKey));
+            local.invalidate(cacheKey);
+        }
+    }
+
+    /**
+     * 적재를 시작한 뒤 무효화되지 않았을 때만 로컬에 올림 (넣은 직후 무효화가 끼어들었으면 되돌림)
+     */
+    private void putLocal(String cacheKey, Object value, long generation) {
+        if (generation(cacheKey) != generation) {
+            return;
+        }
+        local.put(cacheKey, value);
+        if (generation(cacheKey) != generation) {
+            local.invalidate(cacheKey);
+        }
+    }
+
+    private long generation(String cacheKey) {
+        return generations.get(stripe(cacheKey));
+    }
+
+    private void invalidateAllGenerations() {
+        for (int i = 0; i < GENERATION_STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+    }
+
+    private static int stripe(String cacheKey) {
+        return Math.floorMod(cacheKey.hashCode(), GENERATION_STRIPES);
+    }
+
+    private Object readRedis(String cacheKey) {
+        try {
+            String json = redisTemplate.opsForValue().get(keyPrefix + cacheKey);
+            if (json == null) {
+                stats.redisMiss();
+                return null;
+            }
+            stats.redisHit();
+            return objectMapper.readValue(json, spec.valueType());
+        } catch (Exception e) {
+            stats.redisError();
+            log.warn("Cache redis read failed: cache={}, key={}, reason={}", getName(), cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void deleteRedis(String cacheKey) {
+        try {
+            redisTemplate.delete(keyPrefix + cacheKey);
+        } catch (Exception e) {
+            stats.redisError();
+            log.warn("Cache redis evict failed: cache={}, key={}, reason={}", getName(), cacheKey, e.getMessage());
+        }
+    }
+
+    private void writeRedis(String cacheKey, Object value) {
+        try {
+            String json = objectMapper.writeValueAsString(value);
+            redisTemplate.opsForValue().set(keyPrefix + cacheKey, json, spec.redisTtl());
+        } catch (Exception e) {
+            stats.redisError();
+            log.warn("Cache redis write failed: cache={}, key={}, reason={}", getName(), cacheKey, e.getMessage());
+        }
+    }
+}
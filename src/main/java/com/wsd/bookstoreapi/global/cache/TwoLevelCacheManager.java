@@ -0,0 +1,104 @@
+package com.wsd.bookstoreapi.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wsd.bookstoreapi.global.cache.dto.CacheStatsResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 2단 캐시 매니저
+ * - 등록된 CacheSpec 만 생성 (오타난 캐시 이름이 조용히 새 캐시가 되지 않도록)
+ * - transactionAware: 트랜잭션 안의 evict/put 은 커밋 이후에 반영
+ * - Redis pub/sub 으로 인스턴스 간 로컬 캐시 무효화 전파
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager implements MessageListener {
+
+    private static final String DELIMITER = "|";
+    private static final String ALL_KEYS = "*";
+
+    // 자기 자신이 발행한 무효화 메시지는 무시하기 위한 인스턴스 식별자
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final List<CacheSpec> specs;
+    private final String keyPrefix;
+    private final String channel;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // transactionAware 데코레이터로 감싸기 전 원본 캐시
+    private final Map<String, TwoLevelCache> twoLevelCaches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(List<CacheSpec> specs,
+                                String keyPrefix,
+                                String channel,
+                                StringRedisTemplate redisTemplate,
+                                ObjectMapper objectMapper) {
+        this.specs = specs;
+        this.keyPrefix = keyPrefix;
+        this.channel = channel;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        setTransactionAware(true);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return specs.stream()
+                .map(spec -> {
+                    TwoLevelCache cache = new TwoLevelCache(spec, keyPrefix, redisTemplate, objectMapper, this);
+                    twoLevelCaches.put(spec.name(), cache);
+                    return cache;
+                })
+                .toList();
+    }
+
+    public List<CacheStatsResponse> getStats() {
+        // 등록 순서대로 노출
+        return specs.stream()
+                .map(spec -> twoLevelCaches.get(spec.name()))
+                .filter(Objects::nonNull)
+                .map(cache -> cache.getStats().snapshot(cache.getName(), cache.localSize()))
+                .toList();
+    }
+
+    /**
+     * 메시지 형식: instanceId|cacheName|key (key 가 * 이면 전체)
+     */
+    void publishInvalidation(String cacheName, String cacheKey) {
+        String message = String.join(DELIMITER,
+                instanceId, cacheName, cacheKey != null ? cacheKey : ALL_KEYS);
+        try {
+            redisTemplate.convertAndSend(channel, message);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 인스턴스는 로컬 TTL 이 지나야 갱신됨
+            log.warn("Cache invalidation publish failed: cache={}, key={}, reason={}",
+                    cacheName, cacheKey, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length != 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = twoLevelCaches.get(parts[1]);
+        if (cache != null) {
+            cache.invalidateLocal(ALL_KEYS.equals(parts[2]) ? null : parts[2]);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.wsd.bookstoreapi.global.cache.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CacheStatsResponse {
+
+    @Schema(description = "캐시 이름", example = "books")
+    private String name;
+
+    @Schema(description = "로컬 캐시 항목 수 (이 인스턴스)", example = "120")
+    private long localSize;
+
+    @Schema(description = "로컬 캐시 hit", example = "9500")
+    private long localHits;
+
+    @Schema(description = "로컬 캐시 miss", example = "500")
+    private long localMisses;
+
+    @Schema(description = "Redis hit (로컬 miss 이후)", example = "420")
+    private long redisHits;
+
+    @Schema(description = "Redis miss → DB 조회", example = "80")
+    private long redisMisses;
+
+    @Schema(description = "Redis 오류 (miss 로 처리)", example = "0")
+    private long redisErrors;
+
+    @Schema(description = "이 인스턴스에서 발생한 무효화", example = "12")
+    private long evictions;
+
+    @Schema(description = "다른 인스턴스로부터 받은 무효화", example = "30")
+    private long remoteInvalidations;
+}
@@ -0,0 +1,124 @@
+package com.wsd.bookstoreapi.global.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wsd.bookstoreapi.global.api.ApiResult;
+import com.wsd.bookstoreapi.global.error.ErrorCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 과부하 시 요청 선제 거절 (503)
+ * - JWT 인증/DB 작업 전에 동작하도록 Security 필터 체인보다 앞에 등록
+ * - concurrency-limit.paths 에 해당하는 API 만 제한 (/health 등 그 외 경로는 항상 통과)
+ * - concurrency-limit.priority-paths(기본: 인증 API)는 HIGH 우선순위로 한도 전체 사용
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final ObjectMapper objectMapper;
+    private final List<PathPattern> limitedPaths;
+    private final List<PathPattern> priorityPaths;
+
+    public ConcurrencyLimitFilter(
+            ConcurrencyLimiter concurrencyLimiter,
+            ObjectMapper objectMapper,
+            @Value("${concurrency-limit.paths:/api/**}") List<String> limitedPaths,
+            @Value("${concurrency-limit.priority-paths:/api/v1/auth/**}") List<String> priorityPaths
+    ) {
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.objectMapper = objectMapper;
+        this.limitedPaths = parse(limitedPaths);
+        this.priorityPaths = parse(priorityPaths);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !concurrencyLimiter.isEnabled()
+                || !matchesAny(limitedPaths, request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String path = request.getRequestURI();
+        RequestPriority priority = matchesAny(priorityPaths, path)
+                ? RequestPriority.HIGH
+                : RequestPriority.NORMAL;
+
+        Optional<ConcurrencyLimiter.Token> acquired = concurrencyLimiter.tryAcquire(priority);
+        if (acquired.isEmpty()) {
+            log.warn("Request shed: path={} priority={} limit={} inFlight={}",
+                    path, priority, concurrencyLimiter.getLimit(), concurrencyLimiter.getInFlight());
+            writeServiceUnavailable(response);
+            return;
+        }
+
+        ConcurrencyLimiter.Token token = acquired.get();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (completed) {
+                token.onSuccess();
+            } else {
+                token.onDropped();
+            }
+        }
+    }
+
+    private void writeServiceUnavailable(HttpServletResponse response) throws IOException {
+        ErrorCode errorCode = ErrorCode.SERVICE_UNAVAILABLE;
+
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setHeader("Retry-After", "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        ApiResult<Void> body = ApiResult.error(errorCode, "서버가 혼잡합니다. 잠시 후 다시 시도해 주세요.");
+        objectMapper.writeValue(response.getWriter(), body);
+    }
+
+    private static List<PathPattern> parse(List<String> patterns) {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        return patterns.stream()
+                .map(String::trim)
+                .filter(pattern -> !pattern.isEmpty())
+                .map(parser::parse)
+                .toList();
+    }
+
+    private static boolean matchesAny(List<PathPattern> patterns, String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(container)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,99 @@
+package com.wsd.bookstoreapi.global.concurrency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인스턴스 단위 적응형 동시성 한도 (load shedding)
+ * - 동시에 처리 중인 요청 수가 한도를 넘으면 즉시 거절 → DB 커넥션 대기열이 길어지기 전에 차단
+ * - 한도는 GradientLimit 이 관측된 응답 시간으로 계속 조정
+ * - NORMAL 요청은 한도의 normal-share 까지만 사용, 남은 몫은 HIGH(인증) 요청 전용
+ */
+@Component
+public class ConcurrencyLimiter {
+
+    private final boolean enabled;
+    private final double normalShare;
+    private final GradientLimit gradientLimit;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    public ConcurrencyLimiter(
+            @Value("${concurrency-limit.enabled:true}") boolean enabled,
+            @Value("${concurrency-limit.initial-limit:20}") int initialLimit,
+            @Value("${concurrency-limit.min-limit:4}") int minLimit,
+            @Value("${concurrency-limit.max-limit:200}") int maxLimit,
+            @Value("${concurrency-limit.rtt-tolerance:1.5}") double rttTolerance,
+            @Value("${concurrency-limit.smoothing:0.2}") double smoothing,
+            @Value("${concurrency-limit.long-window:600}") int longWindow,
+            @Value("${concurrency-limit.normal-share:0.8}") double normalShare
+    ) {
+        this.enabled = enabled;
+        this.normalShare = normalShare;
+        this.gradientLimit = new GradientLimit(initialLimit, minLimit, maxLimit, rttTolerance, smoothing, longWindow);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 처리 슬롯 획득 (한도 초과면 Optional.empty())
+     * 획득한 Token 은 요청 종료 시 반드시 onSuccess / onDropped 중 하나로 반환
+     */
+    public Optional<Token> tryAcquire(RequestPriority priority) {
+        int limit = gradientLimit.getLimit();
+        int capacity = priority == RequestPriority.HIGH
+                ? limit
+                : Math.max(1, (int) (limit * normalShare));
+
+        while (true) {
+            int current = inFlight.get();
+            if (current >= capacity) {
+                rejected.increment();
+                return Optional.empty();
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return Optional.of(new Token(System.nanoTime(), current + 1));
+            }
+        }
+    }
+
+    public int getLimit() {
+        return gradientLimit.getLimit();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public final class Token {
+
+        private final long startNanos;
+        private final int inFlightAtStart;
+
+        private Token(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        public void onSuccess() {
+            inFlight.decrementAndGet();
+            gradientLimit.onSample(System.nanoTime() - startNanos, inFlightAtStart);
+        }
+
+        public void onDropped() {
+            inFlight.decrementAndGet();
+            gradientLimit.onDropped();
+        }
+    }
+}
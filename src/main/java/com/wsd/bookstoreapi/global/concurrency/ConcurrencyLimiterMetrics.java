@@ -0,0 +1,31 @@
+package com.wsd.bookstoreapi.global.concurrency;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동시성 한도 상태 지표 (현재 한도, 처리 중 요청 수, 거절 건수)
+ */
+@Component
+@RequiredArgsConstructor
+public class ConcurrencyLimiterMetrics implements MeterBinder {
+
+    private final ConcurrencyLimiter concurrencyLimiter;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("bookstore.concurrency.limit", concurrencyLimiter, ConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .register(registry);
+        Gauge.builder("bookstore.concurrency.in-flight", concurrencyLimiter, ConcurrencyLimiter::getInFlight)
+                .description("Requests currently holding a concurrency slot")
+                .register(registry);
+        FunctionCounter.builder("bookstore.concurrency.rejected", concurrencyLimiter, ConcurrencyLimiter::getRejectedCount)
+                .description("Requests shed with 503")
+                .register(registry);
+    }
+}
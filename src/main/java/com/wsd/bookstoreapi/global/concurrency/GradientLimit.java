@@ -0,0 +1,106 @@
+package com.wsd.bookstoreapi.global.concurrency;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 지연 시간 기울기 기반 동시성 한도 (Netflix concurrency-limits 의 Gradient2 방식)
+ * - 장기 RTT(지수 이동 평균) 대비 최근 RTT 가 늘어나면 한도를 줄이고,
+ *   비슷하면 큐 여유분(sqrt(limit))만큼 늘림
+ * - 한도를 다 쓰지 않는 구간(in-flight < limit/2)에서는 한도를 키우지 않음
+ * - 처리 실패(예외)는 지연과 무관하게 한도를 조금 줄임
+ * - 모든 요청 완료 시 호출되므로 synchronized 대신 ReentrantLock (가상 스레드가 대기 중 carrier 를 붙잡지 않도록)
+ */
+class GradientLimit {
+
+    private static final int WARMUP_SAMPLES = 10;
+    private static final double DROP_BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final double longRttFactor;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double estimatedLimit;
+    private double longRttNanos;
+    private long samples;
+
+    // 요청 경로에서는 락 없이 읽음
+    private volatile int limit;
+
+    GradientLimit(int initialLimit, int minLimit, int maxLimit,
+                  double rttTolerance, double smoothing, int longWindow) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.smoothing = smoothing;
+        this.longRttFactor = 2.0 / (longWindow + 1);
+        this.estimatedLimit = clamp(initialLimit);
+        this.limit = (int) estimatedLimit;
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    /**
+     * 정상 완료된 요청 1건의 RTT 반영
+     *
+     * @param inFlight 요청 시작 시점의 동시 처리 수 (자기 자신 포함)
+     */
+    void onSample(long rttNanos, int inFlight) {
+        lock.lock();
+        try {
+            applySample(rttNanos, inFlight);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onDropped() {
+        lock.lock();
+        try {
+            update(estimatedLimit * DROP_BACKOFF);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void applySample(long rttNanos, int inFlight) {
+        double shortRtt = Math.max(1, rttNanos);
+        samples++;
+
+        if (samples <= WARMUP_SAMPLES) {
+            // 초기 평균은 단순 평균으로 잡음
+            longRttNanos += (shortRtt - longRttNanos) / samples;
+            return;
+        }
+        longRttNanos += (shortRtt - longRttNanos) * longRttFactor;
+
+        // 부하가 빠진 뒤 장기 RTT 가 높게 남아 있으면 빠르게 끌어내림
+        if (longRttNanos / shortRtt > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        if (inFlight < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRttNanos / shortRtt));
+        double queueSize = Math.sqrt(estimatedLimit);
+        double newLimit = estimatedLimit * gradient + queueSize;
+
+        update(estimatedLimit * (1 - smoothing) + newLimit * smoothing);
+    }
+
+    private void update(double newLimit) {
+        estimatedLimit = clamp(newLimit);
+        limit = (int) estimatedLimit;
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
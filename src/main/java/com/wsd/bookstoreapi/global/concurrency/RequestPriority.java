@@ -0,0 +1,11 @@
+package com.wsd.bookstoreapi.global.concurrency;
+
+/**
+ * 과부하 시 요청 우선순위
+ * - HIGH: 동시성 한도 전체 사용 가능 (인증 API)
+ * - NORMAL: 한도의 일부(normal-share)까지만 사용 → 나머지는 HIGH 몫으로 남겨 둠
+ */
+public enum RequestPriority {
+    HIGH,
+    NORMAL
+}
@@ -0,0 +1,98 @@
+package com.wsd.bookstoreapi.global.config;
+
+import com.wsd.bookstoreapi.global.datasource.ReadWriteRoutingDataSource;
+import com.wsd.bookstoreapi.global.datasource.ReadYourWritesTracker;
+import com.wsd.bookstoreapi.global.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * primary + 읽기 replica 구성 (datasource.replica.urls 가 있을 때만)
+ * - primary: spring.datasource.* / spring.datasource.hikari.* 그대로
+ * - replica: 콤마로 구분한 JDBC URL 마다 별도 Hikari 풀 (계정은 기본적으로 primary 와 같음)
+ * replica 가 없으면 이 설정은 빠지고 Boot 기본 DataSource 하나만 사용
+ */
+@Configuration
+@ConditionalOnExpression("'${datasource.replica.urls:}' != ''")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            DataSourceProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${datasource.replica.urls}") String urls,
+            @Value("${datasource.replica.username:}") String username,
+            @Value("${datasource.replica.password:}") String password,
+            @Value("${datasource.replica.maximum-pool-size:20}") int maximumPoolSize,
+            @Value("${datasource.replica.connection-timeout:3s}") Duration connectionTimeout,
+            @Value("${datasource.replica.max-lag:5s}") Duration maxLag,
+            @Value("${datasource.replica.lag-check-timeout:2s}") Duration lagCheckTimeout
+    ) {
+        List<ReplicaLagMonitor.Replica> replicas = new ArrayList<>();
+        List<String> jdbcUrls = Arrays.stream(urls.split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .toList();
+        if (jdbcUrls.isEmpty()) {
+            throw new IllegalStateException("datasource.replica.urls has no JDBC URL: '" + urls + "'");
+        }
+
+        for (int i = 0; i < jdbcUrls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(jdbcUrls.get(i));
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setUsername(username.isEmpty() ? properties.determineUsername() : username);
+            replica.setPassword(password.isEmpty() ? properties.determinePassword() : password);
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replica.setConnectionTimeout(connectionTimeout.toMillis());
+            replica.setReadOnly(true);
+            // Bean 이 아니라서 Boot 의 hikaricp.* 지표 등록 대상이 아님 → 직접 연결
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new ReplicaLagMonitor.Replica(replica.getPoolName(), replica));
+        }
+
+        return new ReplicaLagMonitor(replicas, maxLag, lagCheckTimeout, meterRegistry);
+    }
+
+    /**
+     * JPA/JdbcTemplate/Flyway 가 쓰는 기본 DataSource
+     * 트랜잭션 시작 시점에는 readOnly 여부가 아직 등록되지 않으므로 실제 커넥션은 첫 쿼리 때 선택
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 ReadYourWritesTracker readYourWritesTracker,
+                                 MeterRegistry meterRegistry) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+                primaryDataSource, replicaLagMonitor, readYourWritesTracker, meterRegistry);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
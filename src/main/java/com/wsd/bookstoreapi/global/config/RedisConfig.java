@@ -1,17 +1,28 @@
 package com.wsd.bookstoreapi.global.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wsd.bookstoreapi.domain.auth.service.TokenBlacklistBloomFilter;
+import com.wsd.bookstoreapi.domain.auth.service.TokenVersionService;
+import com.wsd.bookstoreapi.domain.book.dto.BookResponse;
+import com.wsd.bookstoreapi.global.cache.CacheNames;
+import com.wsd.bookstoreapi.global.cache.CacheSpec;
+import com.wsd.bookstoreapi.global.cache.TwoLevelCacheManager;
+import com.wsd.bookstoreapi.global.datasource.ReadYourWritesTracker;
+import io.lettuce.core.resource.ClientResources;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.cache.RedisCacheConfiguration;
-import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 import java.time.Duration;
+import java.util.List;
 
 @Configuration
 @EnableCaching // 스프링 캐시 기능 활성화
@@ -23,20 +34,88 @@ public class RedisConfig {
     @Value("${spring.data.redis.port}")
     private int port;
 
+    @Value("${cache.redis.key-prefix:cache:}")
+    private String cacheKeyPrefix;
+
+    @Value("${cache.invalidation-channel:cache:invalidate}")
+    private String cacheInvalidationChannel;
+
+    @Value("${auth.blacklist.channel:auth:blacklist}")
+    private String blacklistChannel;
+
+    @Value("${auth.token-version.channel:auth:token-version}")
+    private String tokenVersionChannel;
+
+    @Value("${datasource.read-your-writes.channel:datasource:read-your-writes}")
+    private String readYourWritesChannel;
+
+    @Value("${cache.books.local-ttl:60s}")
+    private Duration booksLocalTtl;
+
+    @Value("${cache.books.local-max-size:10000}")
+    private long booksLocalMaxSize;
+
+    @Value("${cache.books.redis-ttl:10m}")
+    private Duration booksRedisTtl;
+
+    @Value("${cache.user-status.local-ttl:10s}")
+    private Duration userStatusLocalTtl;
+
+    @Value("${cache.user-status.local-max-size:100000}")
+    private long userStatusLocalMaxSize;
+
+    @Value("${cache.user-status.redis-ttl:5m}")
+    private Duration userStatusRedisTtl;
+
+    /**
+     * Boot 가 만든 ClientResources 를 사용 → Lettuce 명령 지연 지표(lettuce.command.*)가 Micrometer 로 수집됨
+     */
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
+    public RedisConnectionFactory redisConnectionFactory(ClientResources clientResources) {
         RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(host, port);
-        return new LettuceConnectionFactory(config);
+        LettuceClientConfiguration clientConfig = LettuceClientConfiguration.builder()
+                .clientResources(clientResources)
+                .build();
+        return new LettuceConnectionFactory(config, clientConfig);
     }
 
+    /**
+     * 로컬(Caffeine) + Redis 2단 캐시
+     * 로컬 TTL 은 짧게 두고, 변경 시에는 pub/sub 으로 모든 인스턴스의 로컬 캐시를 즉시 무효화
+     */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        RedisCacheConfiguration cacheConfig = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(10)) // 기본 TTL 10분
-                .disableCachingNullValues();
+    public TwoLevelCacheManager cacheManager(StringRedisTemplate stringRedisTemplate,
+                                             ObjectMapper objectMapper) {
+        List<CacheSpec> specs = List.of(
+                new CacheSpec(CacheNames.BOOKS, BookResponse.class,
+                        booksLocalTtl, booksLocalMaxSize, booksRedisTtl),
+                new CacheSpec(CacheNames.USER_STATUS, String.class,
+                        userStatusLocalTtl, userStatusLocalMaxSize, userStatusRedisTtl)
+        );
 
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(cacheConfig)
-                .build();
+        return new TwoLevelCacheManager(
+                specs,
+                cacheKeyPrefix,
+                cacheInvalidationChannel,
+                stringRedisTemplate,
+                objectMapper
+        );
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            TwoLevelCacheManager cacheManager,
+            TokenBlacklistBloomFilter blacklistBloomFilter,
+            TokenVersionService tokenVersionService,
+            ReadYourWritesTracker readYourWritesTracker
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(cacheInvalidationChannel));
+        container.addMessageListener(blacklistBloomFilter, new ChannelTopic(blacklistChannel));
+        container.addMessageListener(tokenVersionService, new ChannelTopic(tokenVersionChannel));
+        container.addMessageListener(readYourWritesTracker, new ChannelTopic(readYourWritesChannel));
+        return container;
     }
 }
@@ -0,0 +1,12 @@
+package com.wsd.bookstoreapi.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화 (검색 인덱스 동기화 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -5,6 +5,7 @@ import com.wsd.bookstoreapi.global.security.JwtAuthenticationEntryPoint;
 import com.wsd.bookstoreapi.global.security.jwt.JwtAuthenticationFilter;
 import com.wsd.bookstoreapi.global.security.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -28,8 +29,23 @@ public class SecurityConfig {
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
 
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
+    @Value("${server.port:8080}")
+    private int serverPort;
+
+    @Value("${management.server.base-path:}${management.endpoints.web.base-path:/actuator}")
+    private String actuatorBasePath;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        // 관리 포트가 API 포트와 같으면 아래 관리 포트 허용 규칙이 공개 API 와 섞임 → 기동 실패로 알림
+        if (managementPort > 0 && managementPort == serverPort) {
+            throw new IllegalStateException(
+                    "management.server.port must differ from server.port (both " + serverPort + ")");
+        }
+
         http
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session
@@ -43,11 +59,16 @@ public class SecurityConfig {
                         // 헬스체크, 문서, 인증용 엔드포인트는 항상 허용
                         .requestMatchers(
                                 "/health",
+                                "/health/**",
                                 "/swagger-ui/**",
                                 "/v3/api-docs/**",
                                 "/api/v1/auth/**"
                         ).permitAll()
 
+                        // 관리 포트(Actuator/Prometheus)는 내부망 전용 → 관리 포트의 Actuator 경로만 인증 없이 허용
+                        .requestMatchers(request -> request.getLocalPort() == managementPort
+                                && request.getRequestURI().startsWith(actuatorBasePath)).permitAll()
+
                         // 관리자 전용 API
                         .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/v1/books/**").permitAll()
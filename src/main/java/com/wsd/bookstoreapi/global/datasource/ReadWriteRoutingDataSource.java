@@ -0,0 +1,100 @@
+package com.wsd.bookstoreapi.global.datasource;
+
+import com.wsd.bookstoreapi.global.security.UserPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 트랜잭션 종류에 따라 primary / replica 커넥션 선택
+ * - @Transactional(readOnly = true) → 사용 가능한 replica 중 라운드 로빈
+ * - 그 외(쓰기, 트랜잭션 없음) → primary
+ * - readOnly 라도 primary: replica 가 없거나 모두 지연/장애, 최근 쓰기한 사용자(read-your-writes), ReplicaRouting.primaryOnly()
+ * readOnly 여부는 트랜잭션 시작 후에 정해지므로 LazyConnectionDataSourceProxy 로 감싸 첫 쿼리 시점에 결정해야 함
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWrites;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Map<String, Counter> routes = new HashMap<>();
+
+    public ReadWriteRoutingDataSource(DataSource primary,
+                                      ReplicaLagMonitor lagMonitor,
+                                      ReadYourWritesTracker readYourWrites,
+                                      MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        lagMonitor.getReplicas().forEach(replica -> targets.put(replica.name(), replica.dataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        // reason: 이 커넥션이 해당 대상으로 간 이유
+        for (String reason : List.of("write", "primary-only", "read-your-writes", "replica-unavailable")) {
+            routes.put(reason, routeCounter(meterRegistry, PRIMARY, reason));
+        }
+        routes.put("read", routeCounter(meterRegistry, "replica", "read"));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return primary("write");
+        }
+        if (ReplicaRouting.isPrimaryOnly()) {
+            return primary("primary-only");
+        }
+        if (readYourWrites.isRecentWriter(currentUserId())) {
+            return primary("read-your-writes");
+        }
+
+        List<ReplicaLagMonitor.Replica> replicas = lagMonitor.getReplicas();
+        if (replicas.isEmpty()) {
+            return primary("replica-unavailable");
+        }
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            ReplicaLagMonitor.Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.isAvailable()) {
+                routes.get("read").increment();
+                return replica.name();
+            }
+        }
+        return primary("replica-unavailable");
+    }
+
+    private String primary(String reason) {
+        routes.get(reason).increment();
+        return PRIMARY;
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getUserId();
+        }
+        return null;
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("datasource.routing")
+                .description("Connections handed out by target data source")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,92 @@
+package com.wsd.bookstoreapi.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * read-your-writes: 장바구니/주문을 변경한 사용자는 일정 시간(window) 동안 읽기도 primary 로
+ * - 커밋 후 기록 → replica 복제 지연 동안 본인이 방금 쓴 내용이 사라져 보이지 않음
+ * - 다른 인스턴스로 다음 요청이 가도 적용되도록 pub/sub 으로 전파
+ * - replica 가 설정되지 않았으면 아무 것도 하지 않음
+ */
+@Slf4j
+@Component
+public class ReadYourWritesTracker implements MessageListener {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String channel;
+    private final boolean enabled;
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${datasource.read-your-writes.channel:datasource:read-your-writes}") String channel,
+            @Value("${datasource.read-your-writes.window:10s}") Duration window,
+            @Value("${datasource.read-your-writes.max-size:100000}") long maxSize,
+            @Value("${datasource.replica.urls:}") String replicaUrls
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.channel = channel;
+        this.enabled = !replicaUrls.isBlank();
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    /**
+     * 사용자의 쓰기 기록 (트랜잭션 안이면 커밋 후, 롤백되면 기록하지 않음)
+     */
+    public void markWrite(Long userId) {
+        if (!enabled || userId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(userId);
+            }
+        });
+    }
+
+    public boolean isRecentWriter(Long userId) {
+        return userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+
+    /**
+     * 메시지 형식: userId
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            recentWriters.put(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)), Boolean.TRUE);
+        } catch (NumberFormatException e) {
+            log.warn("Invalid read-your-writes message: {}", e.getMessage());
+        }
+    }
+
+    private void record(Long userId) {
+        recentWriters.put(userId, Boolean.TRUE);
+        try {
+            stringRedisTemplate.convertAndSend(channel, userId.toString());
+        } catch (Exception e) {
+            // 전파 실패 시 다른 인스턴스에서는 이 사용자의 읽기가 replica 로 갈 수 있음
+            log.warn("Read-your-writes publish failed: userId={}, reason={}", userId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.wsd.bookstoreapi.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * replica 복제 지연 확인 (SHOW REPLICA STATUS 의 Seconds_Behind_Source)
+ * - 지연이 max-lag 를 넘거나, 복제가 멈췄거나(NULL), 확인 자체가 실패하면 읽기에서 제외 → primary 로 대체
+ * - 복제 설정이 없는 서버(빈 결과)는 지연 0 으로 봄 (로컬에서 별도 스키마로 흉내 낼 때)
+ * - 첫 확인 전에는 모든 replica 를 제외
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final List<Replica> replicas;
+    private final long maxLagSeconds;
+    private final int queryTimeoutSeconds;
+
+    public ReplicaLagMonitor(List<Replica> replicas,
+                             Duration maxLag,
+                             Duration queryTimeout,
+                             MeterRegistry meterRegistry) {
+        this.replicas = List.copyOf(replicas);
+        this.maxLagSeconds = maxLag.toSeconds();
+        this.queryTimeoutSeconds = (int) Math.max(1, queryTimeout.toSeconds());
+
+        for (Replica replica : this.replicas) {
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .baseUnit("seconds")
+                    .tag("replica", replica.name())
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.available", replica, r -> r.available ? 1 : 0)
+                    .tag("replica", replica.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${datasource.replica.lag-check-interval:1s}")
+    public void check() {
+        for (Replica replica : replicas) {
+            Long lag = readLagSeconds(replica);
+            boolean available = lag != null && lag <= maxLagSeconds;
+
+            if (available != replica.available) {
+                log.info("Replica {} {} for reads (lag={}s, max={}s)",
+                        replica.name(), available ? "enabled" : "disabled", lag, maxLagSeconds);
+            }
+            replica.lagSeconds = lag != null ? lag : -1;
+            replica.available = available;
+        }
+    }
+
+    /**
+     * 종료 시 replica 풀 정리 (@Bean 의 close 메서드로 자동 호출)
+     */
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Replica {} close failed: {}", replica.name(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 복제 지연(초), 알 수 없으면 null
+     */
+    private Long readLagSeconds(Replica replica) {
+        try (Connection connection = replica.dataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(queryTimeoutSeconds);
+            try (ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+                if (!rs.next()) {
+                    return 0L;
+                }
+                long lag = rs.getLong(lagColumn(rs));
+                return rs.wasNull() ? null : lag;
+            }
+        } catch (SQLException e) {
+            log.warn("Replica {} lag check failed: {}", replica.name(), e.getMessage());
+            return null;
+        }
+    }
+
+    // MySQL 8.0.22+: Seconds_Behind_Source, MariaDB: Seconds_Behind_Master
+    private static String lagColumn(ResultSet rs) throws SQLException {
+        try {
+            rs.findColumn("Seconds_Behind_Source");
+            return "Seconds_Behind_Source";
+        } catch (SQLException e) {
+            return "Seconds_Behind_Master";
+        }
+    }
+
+    public static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean available;
+        private volatile long lagSeconds = -1;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public DataSource dataSource() {
+            return dataSource;
+        }
+
+        public boolean isAvailable() {
+            return available;
+        }
+
+        // 테스트에서 지연 상황 재현용 (다음 check() 에서 다시 판정)
+        void markUnavailable() {
+            available = false;
+        }
+    }
+}
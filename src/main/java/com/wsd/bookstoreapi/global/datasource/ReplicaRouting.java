@@ -0,0 +1,44 @@
+package com.wsd.bookstoreapi.global.datasource;
+
+/**
+ * 읽기 전용 트랜잭션이라도 primary 에서 읽어야 하는 구간 지정
+ * - 공유 캐시 적재: 무효화는 primary 커밋 기준이므로, 지연된 replica 값을 다시 캐시에 넣지 않도록
+ * - 로그인: 방금 가입한 계정을 사용자 ID 없이(이메일로) 조회
+ *
+ * <pre>
+ * try (ReplicaRouting.Scope ignored = ReplicaRouting.primaryOnly()) {
+ *     ...
+ * }
+ * </pre>
+ * 커넥션은 트랜잭션의 첫 쿼리 시점에 정해지므로, 트랜잭션 시작 후라도 첫 쿼리 전에만 열면 적용됨
+ */
+public final class ReplicaRouting {
+
+    private static final ThreadLocal<Integer> PRIMARY_ONLY_DEPTH = ThreadLocal.withInitial(() -> 0);
+
+    private ReplicaRouting() {
+    }
+
+    public static Scope primaryOnly() {
+        PRIMARY_ONLY_DEPTH.set(PRIMARY_ONLY_DEPTH.get() + 1);
+        return () -> {
+            int depth = PRIMARY_ONLY_DEPTH.get() - 1;
+            if (depth <= 0) {
+                PRIMARY_ONLY_DEPTH.remove();
+            } else {
+                PRIMARY_ONLY_DEPTH.set(depth);
+            }
+        };
+    }
+
+    static boolean isPrimaryOnly() {
+        return PRIMARY_ONLY_DEPTH.get() > 0;
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,25 @@
+package com.wsd.bookstoreapi.global.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * id_sequences 블록에서 ID 를 받아 INSERT 전에 지정 (IDENTITY 대신)
+ * - value: id_sequences 의 sequence_name (엔티티 테이블명과 같게)
+ * <pre>
+ * &#64;Id
+ * &#64;PooledId("users")
+ * private Long id;
+ * </pre>
+ */
+@IdGeneratorType(PooledIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface PooledId {
+
+    String value();
+}
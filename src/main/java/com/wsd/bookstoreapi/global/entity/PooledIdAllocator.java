@@ -0,0 +1,175 @@
+package com.wsd.bookstoreapi.global.entity;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.id.IdentifierGenerationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 테이블별 ID 블록 할당 (id_sequences)
+ * - next_val = 지금까지 나간 블록의 상한, 블록을 받을 때 (next_val, next_val + allocation-size] 를 예약
+ * - 예약은 행 잠금 + 즉시 커밋이라 인스턴스/재시작 사이에 겹치지 않음, 쓰지 못한 나머지는 건너뜀
+ * - 전용 소형 풀 사용: 요청 트랜잭션이 커넥션을 쥔 채 블록을 기다려도 요청용 풀이 고갈되지 않음
+ * - 행이 없으면 해당 테이블의 MAX(id) 에서 시작 (create-drop 테스트 DB, 새 테이블)
+ */
+@Slf4j
+@Component
+public class PooledIdAllocator {
+
+    static final String TABLE = "id_sequences";
+
+    private final HikariDataSource dataSource;
+    private final int allocationSize;
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    public PooledIdAllocator(DataSourceProperties properties,
+                             MeterRegistry meterRegistry,
+                             @Value("${pooled-id.allocation-size:50}") int allocationSize,
+                             @Value("${pooled-id.pool-size:2}") int poolSize,
+                             @Value("${spring.flyway.enabled:true}") boolean flywayEnabled) {
+        this.allocationSize = allocationSize;
+
+        this.dataSource = new HikariDataSource();
+        dataSource.setPoolName("id-allocator");
+        dataSource.setJdbcUrl(properties.determineUrl());
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setUsername(properties.determineUsername());
+        dataSource.setPassword(properties.determinePassword());
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setAutoCommit(false);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        // Flyway 가 스키마를 관리하면 V6 가 테이블을 만듦 (여기서 먼저 만들면 새 DB 에서 V6 가 실패)
+        if (!flywayEnabled) {
+            createTableIfMissing();
+        }
+    }
+
+    public long next(String sequenceName) {
+        return blocks.computeIfAbsent(sequenceName, Block::new).next();
+    }
+
+    @PreDestroy
+    void close() {
+        dataSource.close();
+    }
+
+    /**
+     * 블록 1개 예약 후 커밋, 이전 상한을 반환
+     */
+    private long reserve(String sequenceName) {
+        try (Connection connection = dataSource.getConnection()) {
+            try {
+                Long current = selectForUpdate(connection, sequenceName);
+                if (current == null) {
+                    insertFromMaxId(connection, sequenceName);
+                    current = selectForUpdate(connection, sequenceName);
+                }
+
+                try (PreparedStatement update = connection.prepareStatement(
+                        "UPDATE " + TABLE + " SET next_val = ? WHERE sequence_name = ?")) {
+                    update.setLong(1, current + allocationSize);
+                    update.setString(2, sequenceName);
+                    update.executeUpdate();
+                }
+                connection.commit();
+                return current;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IdentifierGenerationException("Could not reserve id block for " + sequenceName, e);
+        }
+    }
+
+    private static Long selectForUpdate(Connection connection, String sequenceName) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT next_val FROM " + TABLE + " WHERE sequence_name = ? FOR UPDATE")) {
+            select.setString(1, sequenceName);
+            try (ResultSet rs = select.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : null;
+            }
+        }
+    }
+
+    /**
+     * 처음 쓰는 시퀀스: 동시에 여러 인스턴스가 만들어도 한 행만 남도록 INSERT IGNORE
+     * sequence_name 은 @PooledId 에 적은 테이블명 (사용자 입력 아님)
+     */
+    private static void insertFromMaxId(Connection connection, String sequenceName) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT IGNORE INTO " + TABLE + " (sequence_name, next_val) "
+                        + "SELECT ?, COALESCE(MAX(id), 0) FROM " + sequenceName)) {
+            insert.setString(1, sequenceName);
+            insert.executeUpdate();
+        }
+    }
+
+    /**
+     * Flyway(V6)를 쓰지 않는 환경(spring.flyway.enabled=false, create-drop 테스트 DB)에서만 호출
+     * Hibernate 가 모르는 테이블이라 create-drop 으로 지워지지 않음 → 컨텍스트가 여러 개여도 블록이 겹치지 않음
+     */
+    private void createTableIfMissing() {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            try (ResultSet rs = statement.executeQuery(
+                    "SELECT COUNT(*) FROM information_schema.tables "
+                            + "WHERE table_schema = DATABASE() AND table_name = '" + TABLE + "'")) {
+                if (rs.next() && rs.getInt(1) > 0) {
+                    return;
+                }
+            }
+            log.info("Creating {} table (schema not managed by Flyway)", TABLE);
+            statement.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " ("
+                    + "sequence_name VARCHAR(255) NOT NULL PRIMARY KEY, "
+                    + "next_val BIGINT NOT NULL) ENGINE = InnoDB");
+            connection.commit();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not prepare " + TABLE + " table", e);
+        }
+    }
+
+    /**
+     * 시퀀스별 현재 블록, 소진되면 잠금을 쥔 스레드가 다음 블록을 예약
+     */
+    private final class Block {
+
+        private final String sequenceName;
+        private final ReentrantLock lock = new ReentrantLock();
+        private long next = 1;
+        private long max = 0;
+
+        private Block(String sequenceName) {
+            this.sequenceName = sequenceName;
+        }
+
+        long next() {
+            lock.lock();
+            try {
+                if (next > max) {
+                    long reserved = reserve(sequenceName);
+                    next = reserved + 1;
+                    max = reserved + allocationSize;
+                }
+                return next++;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.wsd.bookstoreapi.global.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.AnnotationBasedGenerator;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.generator.GeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+/**
+ * {@link PooledId} 용 Hibernate ID 생성기
+ * hibernate.cdi.extensions=true 라서 Spring 이 생성 → 할당기 Bean 주입
+ */
+public class PooledIdGenerator implements BeforeExecutionGenerator, AnnotationBasedGenerator<PooledId> {
+
+    private final PooledIdAllocator allocator;
+    private String sequenceName;
+
+    public PooledIdGenerator(PooledIdAllocator allocator) {
+        this.allocator = allocator;
+    }
+
+    @Override
+    public void initialize(PooledId annotation, Member member, GeneratorCreationContext context) {
+        this.sequenceName = annotation.value();
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner,
+                           Object currentValue, EventType eventType) {
+        return allocator.next(sequenceName);
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -1,6 +1,7 @@
 package com.wsd.bookstoreapi.global.health;
 
 import com.wsd.bookstoreapi.global.api.ApiResult;
+import com.wsd.bookstoreapi.global.error.ErrorCode;
 import com.wsd.bookstoreapi.global.health.dto.HealthResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -20,7 +21,8 @@ public class HealthController {
 
     @Operation(
             summary = "헬스체크",
-            description = "인증 없이 호출 가능. 애플리케이션/DB/Redis 상태를 반환합니다."
+            description = "인증 없이 호출 가능. 애플리케이션/DB/Redis 상태를 반환합니다. "
+                    + "DB/Redis 상태는 백그라운드에서 주기적으로 확인한 결과입니다."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "서비스 정상 동작 중")
@@ -34,4 +36,35 @@ public class HealthController {
         );
         return ResponseEntity.ok(apiResult);
     }
+
+    @Operation(
+            summary = "Liveness 프로브",
+            description = "프로세스가 요청을 처리할 수 있으면 항상 200. 의존성(DB/Redis) 상태와 무관합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "프로세스 동작 중")
+    })
+    @GetMapping("/health/live")
+    public ResponseEntity<ApiResult<Void>> live() {
+        return ResponseEntity.ok(ApiResult.successMessage("OK"));
+    }
+
+    @Operation(
+            summary = "Readiness 프로브",
+            description = "최근 확인 결과 DB/Redis 가 모두 UP 이면 200, 아니면 503. 로드밸런서 트래픽 투입 판단용."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "트래픽 처리 가능"),
+            @ApiResponse(responseCode = "503", description = "의존성 장애 또는 확인 전")
+    })
+    @GetMapping("/health/ready")
+    public ResponseEntity<ApiResult<HealthResponse>> ready() {
+        HealthResponse health = healthService.getHealth();
+        if (!healthService.isReady()) {
+            ErrorCode errorCode = ErrorCode.SERVICE_UNAVAILABLE;
+            return ResponseEntity.status(errorCode.getHttpStatus())
+                    .body(ApiResult.error(errorCode, "의존성 서비스가 준비되지 않았습니다.", health));
+        }
+        return ResponseEntity.ok(ApiResult.success(health, "READY"));
+    }
 }
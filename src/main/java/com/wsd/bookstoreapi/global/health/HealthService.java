@@ -1,20 +1,57 @@
 package com.wsd.bookstoreapi.global.health;
 
 import com.wsd.bookstoreapi.global.health.dto.HealthResponse;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.concurrent.*;
 
+/**
+ * DB/Redis 상태 확인
+ * - 요청 스레드에서는 확인하지 않음: 전용 스케줄러 스레드가 주기적으로 확인하고 결과를 메모리에 보관
+ *   (공용 @Scheduled 스레드를 쓰면 오래 걸리는 다른 작업 뒤에 밀려 stale-after 를 넘기고 정상 인스턴스가 빠질 수 있음)
+ * - 각 확인은 전용 스레드에서 timeout 안에 끝나야 UP (DB 커넥션 대기 등으로 멈추면 DOWN)
+ * - 마지막 확인이 오래되면(stale-after) 스케줄러가 멈춘 것으로 보고 DOWN
+ * - 지표: health.probe (의존성별 확인 소요 시간), health.dependency.up (1/0)
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class HealthService {
 
+    static final String DB = "db";
+    static final String REDIS = "redis";
+
     private final JdbcTemplate jdbcTemplate;
     private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration interval;
+    private final Duration timeout;
+    private final Duration staleAfter;
+
+    private final ScheduledExecutorService probeScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "health-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ExecutorService probeExecutor = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "health-probe");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     @Value("${spring.application.name:bookstore-backend}")
     private String appName;
@@ -28,13 +65,52 @@ public class HealthService {
     // 애플리케이션 기동 시각
     private final Instant startedAt = Instant.now();
 
+    // 확인 전에는 UNKNOWN (readiness 는 DOWN 취급)
+    private volatile ProbeResult db = ProbeResult.unknown();
+    private volatile ProbeResult redis = ProbeResult.unknown();
+
+    public HealthService(
+            JdbcTemplate jdbcTemplate,
+            RedisTemplate<String, String> redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${health.probe.interval:5s}") Duration interval,
+            @Value("${health.probe.timeout:2s}") Duration timeout,
+            @Value("${health.probe.stale-after:30s}") Duration staleAfter
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.interval = interval;
+        this.timeout = timeout;
+        this.staleAfter = staleAfter;
+
+        Gauge.builder("health.dependency.up", () -> isUp(db) ? 1 : 0)
+                .tag("dependency", DB)
+                .description("1 if the last dependency probe succeeded")
+                .register(meterRegistry);
+        Gauge.builder("health.dependency.up", () -> isUp(redis) ? 1 : 0)
+                .tag("dependency", REDIS)
+                .description("1 if the last dependency probe succeeded")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 상태 (DB/Redis 를 호출하지 않음)
+     */
     public HealthResponse getHealth() {
-        String dbStatus = checkDb();
-        String redisStatus = checkRedis();
+        ProbeResult dbResult = db;
+        ProbeResult redisResult = redis;
+
+        String dbStatus = statusOf(dbResult);
+        String redisStatus = statusOf(redisResult);
 
         // 하나라도 DOWN이면 전체 상태 DOWN
         String overallStatus = ("UP".equals(dbStatus) && "UP".equals(redisStatus)) ? "UP" : "DOWN";
 
+        Instant checkedAt = dbResult.checkedAt() == null || redisResult.checkedAt() == null
+                ? null
+                : min(dbResult.checkedAt(), redisResult.checkedAt());
+
         return HealthResponse.builder()
                 .appName(appName)
                 .version(version)
@@ -43,29 +119,130 @@ public class HealthService {
                 .status(overallStatus)
                 .dbStatus(dbStatus)
                 .redisStatus(redisStatus)
+                .checkedAt(checkedAt != null ? checkedAt.toString() : null)
                 .build();
     }
 
-    private String checkDb() {
+    /**
+     * 트래픽을 받아도 되는지 (모든 의존성이 최근 확인에서 UP)
+     */
+    public boolean isReady() {
+        return isUp(db) && isUp(redis);
+    }
+
+    /**
+     * 전용 스케줄러로 주기 확인 시작 (기동 직후 1회 + interval 마다)
+     */
+    @PostConstruct
+    void start() {
+        probeScheduler.scheduleWithFixedDelay(() -> {
+            // 예외가 나가면 이후 실행이 멈추므로 여기서 막음
+            try {
+                refresh();
+            } catch (Exception e) {
+                log.warn("Health refresh failed: {}", e.toString());
+            }
+        }, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 의존성 재확인
+     */
+    public void refresh() {
+        // 두 확인을 동시에 시작 → 스케줄러 스레드를 최대 timeout 만큼만 점유 (다음 확인이 밀리지 않도록)
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Future<Boolean> dbCheck = probeExecutor.submit(() -> timed(DB, this::pingDb));
+        Future<Boolean> redisCheck = probeExecutor.submit(() -> timed(REDIS, this::pingRedis));
+
+        db = await(DB, dbCheck, deadline);
+        redis = await(REDIS, redisCheck, deadline);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        probeScheduler.shutdownNow();
+        probeExecutor.shutdownNow();
+    }
+
+    /**
+     * 확인 1회 실행 + 소요 시간 기록 (probe 스레드에서 실행)
+     */
+    private boolean timed(String dependency, Callable<Boolean> check) throws Exception {
+        long start = System.nanoTime();
+        boolean up = false;
         try {
-            jdbcTemplate.execute("SELECT 1");
-            return "UP";
-        } catch (Exception ex) {
-            return "DOWN";
+            up = check.call();
+            return up;
+        } finally {
+            // timeout 으로 취소된 확인은 await 쪽에서 timeout 으로 기록
+            if (!Thread.currentThread().isInterrupted()) {
+                recordProbe(dependency, up ? "up" : "down", System.nanoTime() - start);
+            }
         }
     }
 
-    private String checkRedis() {
+    private ProbeResult await(String dependency, Future<Boolean> future, long deadline) {
+        boolean up;
         try {
-            if (redisTemplate.getConnectionFactory() == null) {
-                return "DOWN";
-            }
-            String pingResult = redisTemplate.getConnectionFactory()
-                    .getConnection()
-                    .ping();
-            return ("PONG".equalsIgnoreCase(pingResult)) ? "UP" : "DOWN";
-        } catch (Exception ex) {
-            return "DOWN";
+            up = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            recordProbe(dependency, "timeout", timeout.toNanos());
+            log.warn("Health probe timed out: dependency={} timeout={}", dependency, timeout);
+            up = false;
+        } catch (ExecutionException e) {
+            log.warn("Health probe failed: dependency={} error={}", dependency, e.getCause().toString());
+            up = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            up = false;
+        }
+        return new ProbeResult(up, Instant.now());
+    }
+
+    private void recordProbe(String dependency, String outcome, long nanos) {
+        Timer.builder("health.probe")
+                .description("Dependency health probe latency")
+                .tag("dependency", dependency)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private boolean pingDb() {
+        int seconds = (int) Math.max(1, timeout.toSeconds());
+        Boolean valid = jdbcTemplate.execute(
+                (ConnectionCallback<Boolean>) connection -> connection.isValid(seconds));
+        return Boolean.TRUE.equals(valid);
+    }
+
+    // execute(RedisCallback) 이 커넥션을 반환까지 처리
+    private boolean pingRedis() {
+        String pong = redisTemplate.execute((RedisCallback<String>) RedisConnection::ping);
+        return "PONG".equalsIgnoreCase(pong);
+    }
+
+    private boolean isUp(ProbeResult result) {
+        return result.up()
+                && result.checkedAt() != null
+                && result.checkedAt().isAfter(Instant.now().minus(staleAfter));
+    }
+
+    private String statusOf(ProbeResult result) {
+        if (result.checkedAt() == null) {
+            return "UNKNOWN";
+        }
+        return isUp(result) ? "UP" : "DOWN";
+    }
+
+    private static Instant min(Instant a, Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private record ProbeResult(boolean up, Instant checkedAt) {
+
+        static ProbeResult unknown() {
+            return new ProbeResult(false, null);
         }
     }
 }
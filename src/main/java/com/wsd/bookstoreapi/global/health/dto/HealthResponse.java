@@ -28,4 +28,7 @@ public class HealthResponse {
 
     @Schema(description = "Redis 연결 상태", example = "UP")
     private final String redisStatus;
+
+    @Schema(description = "DB/Redis 상태를 마지막으로 확인한 시각 (둘 중 오래된 쪽)", example = "2025-12-07T03:00:05Z")
+    private final String checkedAt;
 }
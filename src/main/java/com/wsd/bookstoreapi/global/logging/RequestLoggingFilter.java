@@ -3,15 +3,44 @@ package com.wsd.bookstoreapi.global.logging;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
 
-@Slf4j
+/**
+ * 요청 1건당 access 로그 1줄 (ACCESS 로거 → logback-spring.xml 의 비동기 JSON appender)
+ * - 일반 요청은 logging.access.sample-rate 비율만 기록
+ * - 느린 요청(slow-threshold 이상)과 오류 응답(error-status 이상)은 항상 기록
+ * - 필드는 key-value 로 남겨 JSON 로그의 개별 필드가 됨
+ */
 @Component
 public class RequestLoggingFilter implements Filter {
 
+    static final String ACCESS_LOGGER = "ACCESS";
+
+    private static final Logger accessLog = LoggerFactory.getLogger(ACCESS_LOGGER);
+
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+    private final int errorStatus;
+
+    public RequestLoggingFilter(
+            @Value("${logging.access.sample-rate:1.0}") double sampleRate,
+            @Value("${logging.access.slow-threshold:500ms}") Duration slowThreshold,
+            @Value("${logging.access.error-status:400}") int errorStatus
+    ) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.errorStatus = errorStatus;
+    }
+
     @Override
     public void doFilter(
             ServletRequest request,
@@ -19,21 +48,51 @@ public class RequestLoggingFilter implements Filter {
             FilterChain chain
     ) throws IOException, ServletException {
 
-        HttpServletRequest httpRequest = (HttpServletRequest) request;
-
-        long startTime = System.currentTimeMillis();
-        String method = httpRequest.getMethod();
-        String uri = httpRequest.getRequestURI();
+        long startTime = System.nanoTime();
 
         try {
             chain.doFilter(request, response);
         } finally {
-            HttpServletResponse httpResponse = (HttpServletResponse) response;
-            int status = httpResponse.getStatus();
-            long elapsed = System.currentTimeMillis() - startTime;
+            long elapsedNanos = System.nanoTime() - startTime;
+            int status = ((HttpServletResponse) response).getStatus();
+
+            String reason = logReason(status, elapsedNanos);
+            if (reason != null && accessLog.isInfoEnabled()) {
+                log((HttpServletRequest) request, status, elapsedNanos, reason);
+            }
+        }
+    }
+
+    /**
+     * 기록 사유 (기록하지 않으면 null)
+     */
+    private String logReason(int status, long elapsedNanos) {
+        if (status >= errorStatus) {
+            return "error";
+        }
+        if (elapsedNanos >= slowThresholdNanos) {
+            return "slow";
+        }
+        if (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            return "sampled";
+        }
+        return null;
+    }
+
+    private void log(HttpServletRequest request, int status, long elapsedNanos, String reason) {
+        // 매칭된 라우트 템플릿 (/api/v1/books/{id}), 매칭 전에 끝난 요청은 없음
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
 
-            log.info("[REQUEST] {} {} -> status={} elapsed={}ms",
-                    method, uri, status, elapsed);
+        LoggingEventBuilder event = accessLog.atInfo()
+                .addKeyValue("method", request.getMethod())
+                .addKeyValue("path", request.getRequestURI());
+        if (route != null) {
+            event = event.addKeyValue("route", route);
         }
+        event.addKeyValue("status", status)
+                // μs 단위까지만
+                .addKeyValue("durationMs", (elapsedNanos / 1_000) / 1_000.0)
+                .addKeyValue("reason", reason)
+                .log("request completed");
     }
 }
@@ -0,0 +1,67 @@
+package com.wsd.bookstoreapi.global.rate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인스턴스 내부 GCRA - Redis 장애 시 대체용 (한도는 인스턴스별로 적용됨)
+ * - 키 수 상한 + 마지막 접근 후 일정 시간 지나면 제거 → 위조 IP 로 키를 늘려도 메모리 일정
+ *   (한 주기 동안 요청이 없던 키는 버킷이 가득 찬 상태와 같으므로 지워도 판정이 바뀌지 않음)
+ * - 키별 TAT 는 AtomicLong CAS 로 갱신 (락 없음)
+ */
+@Component
+public class LocalRateLimiter {
+
+    // key → TAT(μs)
+    private final Cache<String, AtomicLong> tats;
+
+    public LocalRateLimiter(
+            @Value("${rate-limit.local.max-keys:100000}") long maxKeys,
+            @Value("${rate-limit.local.idle-timeout:60s}") Duration idleTimeout
+    ) {
+        this.tats = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    public RateLimitDecision tryAcquire(String key, RateLimitPolicy policy) {
+        long now = System.currentTimeMillis() * 1000;
+        long emission = Math.max(1, Math.round(policy.emissionIntervalMs() * 1000));
+        long tolerance = emission * policy.limit();
+
+        AtomicLong stored = tats.get(key, k -> new AtomicLong(now));
+        while (true) {
+            long storedTat = stored.get();
+            long tat = Math.max(storedTat, now);
+            long newTat = tat + emission;
+            long allowAt = newTat - tolerance;
+
+            if (allowAt > now) {
+                return new RateLimitDecision(false, policy.limit(), 0,
+                        toMillisCeil(allowAt - now), toMillisCeil(tat - now));
+            }
+            if (stored.compareAndSet(storedTat, newTat)) {
+                return new RateLimitDecision(true, policy.limit(),
+                        (now - allowAt) / emission, 0, toMillisCeil(newTat - now));
+            }
+        }
+    }
+
+    /**
+     * 현재 보관 중인 키 수 (만료/초과분 정리 후)
+     */
+    public long size() {
+        tats.cleanUp();
+        return tats.estimatedSize();
+    }
+
+    private static long toMillisCeil(long micros) {
+        return (micros + 999) / 1000;
+    }
+}
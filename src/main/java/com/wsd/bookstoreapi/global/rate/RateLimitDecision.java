@@ -0,0 +1,16 @@
+package com.wsd.bookstoreapi.global.rate;
+
+/**
+ * 레이트리밋 판정 결과 (RateLimit-* 헤더 값)
+ * @param remaining     지금 바로 더 보낼 수 있는 요청 수
+ * @param retryAfterMs  거절 시 다음 요청이 허용되기까지 대기 시간
+ * @param resetAfterMs  버킷이 가득 찰 때까지 남은 시간
+ */
+public record RateLimitDecision(
+        boolean allowed,
+        int limit,
+        long remaining,
+        long retryAfterMs,
+        long resetAfterMs
+) {
+}
@@ -0,0 +1,20 @@
+package com.wsd.bookstoreapi.global.rate;
+
+import java.time.Duration;
+
+/**
+ * period 동안 limit 회 (버스트도 최대 limit 회까지)
+ * GCRA 기준 요청 1건당 간격 = period / limit
+ */
+public record RateLimitPolicy(int limit, Duration period) {
+
+    public RateLimitPolicy {
+        if (limit <= 0 || period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("rate limit policy must be positive: " + limit + "/" + period);
+        }
+    }
+
+    public double emissionIntervalMs() {
+        return (double) period.toMillis() / limit;
+    }
+}
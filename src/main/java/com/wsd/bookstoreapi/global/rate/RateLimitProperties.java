@@ -0,0 +1,42 @@
+package com.wsd.bookstoreapi.global.rate;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * rate-limit.* 설정 (RateLimitRules 가 주기적으로 다시 바인딩)
+ * routes 는 위에서부터 처음 일치하는 규칙 하나만 적용
+ */
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    private List<Route> routes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+
+        // 버킷 키에 쓰이는 규칙 이름 (같은 규칙의 경로들은 한도를 공유)
+        private String name;
+
+        // PathPattern 문법 (예: /api/v1/orders/**)
+        private List<String> patterns = new ArrayList<>();
+
+        // 비어 있으면 모든 메서드
+        private List<String> methods = new ArrayList<>();
+
+        private Duration period = Duration.ofMinutes(1);
+
+        // 등급별 period 당 허용 횟수 (0 이하 = 제한 없음)
+        private int anonymous;
+        private int user;
+        private int admin;
+    }
+}
@@ -0,0 +1,185 @@
+package com.wsd.bookstoreapi.global.rate;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySource;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 경로/등급별 레이트리밋 규칙
+ * - application.properties 의 rate-limit.* + (선택) rate-limit.config-file 외부 파일
+ * - 외부 파일이 바뀌면 재시작 없이 다시 읽음 (잘못된 설정이면 기존 규칙 유지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitRules {
+
+    private static final String PREFIX = "rate-limit";
+
+    private final ConfigurableEnvironment environment;
+    private final ResourceLoader resourceLoader;
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    @Value("${rate-limit.config-file:}")
+    private String configFile;
+
+    private volatile Snapshot snapshot = new Snapshot(false, List.of());
+    private volatile long configFileModified = -1L;
+
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+
+    public boolean isEnabled() {
+        return snapshot.enabled();
+    }
+
+    /**
+     * 요청에 적용할 규칙 (없으면 제한 없음)
+     */
+    public Optional<CompiledRoute> match(String method, String path) {
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (CompiledRoute route : snapshot.routes()) {
+            if (route.matches(method, pathContainer)) {
+                return Optional.of(route);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 외부 설정 파일이 바뀌었으면 다시 읽음
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.reload-interval-ms:10000}")
+    public void reloadIfChanged() {
+        Resource resource = configResource();
+        if (resource == null) {
+            return;
+        }
+        try {
+            long modified = resource.exists() ? resource.lastModified() : 0L;
+            if (modified != configFileModified) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.warn("Rate limit config check failed: {}", e.getMessage());
+        }
+    }
+
+    public void reload() {
+        // 동시 reload 직렬화 (파일을 읽는 동안 가상 스레드의 carrier 를 붙잡지 않는 락)
+        reloadLock.lock();
+        try {
+            List<ConfigurationPropertySource> sources = new ArrayList<>();
+            Resource resource = configResource();
+            long modified = 0L;
+            if (resource != null && resource.exists()) {
+                modified = resource.lastModified();
+                Map<Object, Object> overrides = new HashMap<>(PropertiesLoaderUtils.loadProperties(resource));
+                sources.add(new MapConfigurationPropertySource(overrides));
+            }
+            ConfigurationPropertySources.get(environment).forEach(sources::add);
+
+            RateLimitProperties properties = new Binder(sources)
+                    .bind(PREFIX, RateLimitProperties.class)
+                    .orElseGet(RateLimitProperties::new);
+
+            snapshot = compile(properties);
+            configFileModified = modified;
+            log.info("Rate limit rules loaded: enabled={}, routes={}",
+                    snapshot.enabled(),
+                    snapshot.routes().stream().map(CompiledRoute::name).toList());
+        } catch (Exception e) {
+            log.error("Rate limit rules reload failed, keeping previous rules: {}", e.getMessage());
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private Resource configResource() {
+        return StringUtils.hasText(configFile) ? resourceLoader.getResource(configFile) : null;
+    }
+
+    private static Snapshot compile(RateLimitProperties properties) {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        List<CompiledRoute> routes = new ArrayList<>();
+
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            if (!StringUtils.hasText(route.getName()) || route.getPatterns().isEmpty()) {
+                throw new IllegalArgumentException("rate limit route needs a name and at least one pattern");
+            }
+            List<PathPattern> patterns = route.getPatterns().stream()
+                    .map(String::trim)
+                    .map(parser::parse)
+                    .toList();
+            Set<String> methods = new HashSet<>();
+            route.getMethods().forEach(method -> methods.add(method.trim().toUpperCase(Locale.ROOT)));
+
+            Map<RateLimitTier, RateLimitPolicy> policies = new EnumMap<>(RateLimitTier.class);
+            putPolicy(policies, RateLimitTier.ANONYMOUS, route.getAnonymous(), route);
+            putPolicy(policies, RateLimitTier.USER, route.getUser(), route);
+            putPolicy(policies, RateLimitTier.ADMIN, route.getAdmin(), route);
+
+            routes.add(new CompiledRoute(route.getName(), patterns, methods, policies));
+        }
+        return new Snapshot(properties.isEnabled(), List.copyOf(routes));
+    }
+
+    private static void putPolicy(Map<RateLimitTier, RateLimitPolicy> policies,
+                                  RateLimitTier tier,
+                                  int limit,
+                                  RateLimitProperties.Route route) {
+        if (limit > 0) {
+            policies.put(tier, new RateLimitPolicy(limit, route.getPeriod()));
+        }
+    }
+
+    private record Snapshot(boolean enabled, List<CompiledRoute> routes) {
+    }
+
+    public record CompiledRoute(
+            String name,
+            List<PathPattern> patterns,
+            Set<String> methods,
+            Map<RateLimitTier, RateLimitPolicy> policies
+    ) {
+
+        boolean matches(String method, PathContainer path) {
+            if (!methods.isEmpty() && !methods.contains(method)) {
+                return false;
+            }
+            for (PathPattern pattern : patterns) {
+                if (pattern.matches(path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 등급별 정책 (없으면 제한 없음)
+         */
+        public Optional<RateLimitPolicy> policyFor(RateLimitTier tier) {
+            return Optional.ofNullable(policies.get(tier));
+        }
+    }
+}
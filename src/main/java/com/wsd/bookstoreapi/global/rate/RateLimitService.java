@@ -0,0 +1,40 @@
+package com.wsd.bookstoreapi.global.rate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * 레이트리밋 판정 - Redis(클러스터 전체 한도) 우선, 장애 시 로컬로 대체
+ * Redis 실패 후 일정 시간은 Redis 를 건너뛰어 요청마다 타임아웃을 기다리지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RateLimitService {
+
+    private final RedisRateLimiter redisRateLimiter;
+    private final LocalRateLimiter localRateLimiter;
+
+    @Value("${rate-limit.redis-retry-after:5s}")
+    private Duration redisRetryAfter;
+
+    private volatile long redisSkipUntil = 0L;
+
+    public RateLimitDecision tryAcquire(String key, RateLimitPolicy policy) {
+        long now = System.currentTimeMillis();
+        if (now >= redisSkipUntil) {
+            try {
+                return redisRateLimiter.tryAcquire(key, policy);
+            } catch (Exception e) {
+                redisSkipUntil = now + redisRetryAfter.toMillis();
+                log.warn("Redis rate limiter unavailable, using local limiter for {}ms: {}",
+                        redisRetryAfter.toMillis(), e.getMessage());
+            }
+        }
+        return localRateLimiter.tryAcquire(key, policy);
+    }
+}
@@ -0,0 +1,10 @@
+package com.wsd.bookstoreapi.global.rate;
+
+/**
+ * 호출자 등급 - 로그인 전(IP 기준) / 일반 사용자 / 관리자
+ */
+public enum RateLimitTier {
+    ANONYMOUS,
+    USER,
+    ADMIN
+}
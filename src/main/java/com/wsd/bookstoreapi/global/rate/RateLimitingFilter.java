@@ -1,42 +1,52 @@
 package com.wsd.bookstoreapi.global.rate;
 
-import com.wsd.bookstoreapi.global.error.BusinessException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wsd.bookstoreapi.global.api.ApiResult;
 import com.wsd.bookstoreapi.global.error.ErrorCode;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import com.wsd.bookstoreapi.global.security.UserPrincipal;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.annotation.Profile;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.time.Instant;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
+import java.nio.charset.StandardCharsets;
+
+/**
+ * API 경로별/호출자별 레이트리밋
+ * - 인증 이후에 동작 → 로그인 사용자는 userId, 익명은 IP 기준
+ * - 관리자는 별도(더 높은) 등급 한도
+ * - 규칙은 RateLimitRules (rate-limit.routes[*], 재시작 없이 갱신)
+ */
 @Slf4j
 @Component
-@Profile("!test")
-@Order(2) // LoggingFilter 다음에 동작
+@Order(2) // Security 필터 체인(JWT 인증) 이후, LoggingFilter 다음에 동작
 public class RateLimitingFilter extends OncePerRequestFilter {
 
-    private static final int MAX_REQUESTS_PER_MINUTE = 30; // 필요에 따라 조정
-    private static final long WINDOW_MILLIS = 60_000L;
-
-    // key: IP + path, value: 카운터
-    private final Map<String, WindowCounter> counters = new ConcurrentHashMap<>();
+    private final RateLimitService rateLimitService;
+    private final RateLimitRules rateLimitRules;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitingFilter(
+            RateLimitService rateLimitService,
+            RateLimitRules rateLimitRules,
+            ObjectMapper objectMapper
+    ) {
+        this.rateLimitService = rateLimitService;
+        this.rateLimitRules = rateLimitRules;
+        this.objectMapper = objectMapper;
+    }
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        String path = request.getRequestURI();
-
-        // 레이트리밋을 적용할 경로만 선별
-        return !(path.startsWith("/api/v1/auth/login")
-                || path.startsWith("/api/v1/auth/refresh")
-                || path.startsWith("/api/v1/auth/signup"));
+        return !rateLimitRules.isEnabled();
     }
 
     @Override
@@ -46,34 +56,77 @@ public class RateLimitingFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
 
-        String clientIp = getClientIp(request);
         String path = request.getRequestURI();
-        String key = clientIp + ":" + path;
-
-        long now = Instant.now().toEpochMilli();
-
-        WindowCounter counter = counters.computeIfAbsent(key, k -> new WindowCounter(0, now));
-        synchronized (counter) {
-            // 윈도우 만료시 초기화
-            if (now - counter.windowStart >= WINDOW_MILLIS) {
-                counter.windowStart = now;
-                counter.count = 0;
-            }
-
-            counter.count++;
-
-            if (counter.count > MAX_REQUESTS_PER_MINUTE) {
-                log.warn("Rate limit exceeded: ip={} path={}", clientIp, path);
-                throw new BusinessException(
-                        ErrorCode.TOO_MANY_REQUESTS,
-                        "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."
-                );
-            }
+        RateLimitRules.CompiledRoute route = rateLimitRules.match(request.getMethod(), path).orElse(null);
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        UserPrincipal principal = currentPrincipal();
+        RateLimitTier tier = tierOf(principal);
+        RateLimitPolicy policy = route.policyFor(tier).orElse(null);
+        if (policy == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String caller = principal != null
+                ? "u:" + principal.getUserId()
+                : "ip:" + getClientIp(request);
+
+        RateLimitDecision decision = rateLimitService.tryAcquire(route.name() + ":" + caller, policy);
+        writeRateLimitHeaders(response, decision);
+
+        if (!decision.allowed()) {
+            log.warn("Rate limit exceeded: route={} caller={} path={}", route.name(), caller, path);
+            writeTooManyRequests(response, decision);
+            return;
         }
 
         filterChain.doFilter(request, response);
     }
 
+    private UserPrincipal currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal;
+        }
+        return null;
+    }
+
+    private RateLimitTier tierOf(UserPrincipal principal) {
+        if (principal == null) {
+            return RateLimitTier.ANONYMOUS;
+        }
+        return "ROLE_ADMIN".equals(principal.getRole()) ? RateLimitTier.ADMIN : RateLimitTier.USER;
+    }
+
+    /**
+     * IETF RateLimit 헤더 (초 단위, 올림)
+     */
+    private void writeRateLimitHeaders(HttpServletResponse response, RateLimitDecision decision) {
+        response.setHeader("RateLimit-Limit", String.valueOf(decision.limit()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(decision.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(toSeconds(decision.resetAfterMs())));
+    }
+
+    private void writeTooManyRequests(HttpServletResponse response, RateLimitDecision decision) throws IOException {
+        ErrorCode errorCode = ErrorCode.TOO_MANY_REQUESTS;
+
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setHeader("Retry-After", String.valueOf(toSeconds(decision.retryAfterMs())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        ApiResult<Void> body = ApiResult.error(errorCode, "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        objectMapper.writeValue(response.getWriter(), body);
+    }
+
+    private static long toSeconds(long millis) {
+        return Math.max(0, (millis + 999) / 1000);
+    }
+
     private String getClientIp(HttpServletRequest request) {
         String xf = request.getHeader("X-Forwarded-For");
         if (xf != null && !xf.isBlank()) {
@@ -81,14 +134,4 @@ public class RateLimitingFilter extends OncePerRequestFilter {
         }
         return request.getRemoteAddr();
     }
-
-    private static class WindowCounter {
-        int count;
-        long windowStart;
-
-        WindowCounter(int count, long windowStart) {
-            this.count = count;
-            this.windowStart = windowStart;
-        }
-    }
 }
@@ -0,0 +1,70 @@
+package com.wsd.bookstoreapi.global.rate;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redis Lua 기반 GCRA(토큰 버킷과 동일한 결과) - 모든 인스턴스가 같은 한도를 공유
+ * - 키 하나(TAT: 이론상 다음 도착 시각)만 저장, 판정은 스크립트 1회로 원자적
+ * - 시각은 Redis TIME 사용 → 인스턴스 간 시계 차이 영향 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisRateLimiter {
+
+    /**
+     * KEYS[1]: 버킷 키 / ARGV: 요청 간격(ms), 한도
+     * 반환: {허용 여부, 남은 요청 수, 재시도 대기(ms), 버킷 회복까지(ms)}
+     */
+    private static final RedisScript<List> GCRA_SCRIPT = new DefaultRedisScript<>("""
+            local emission = tonumber(ARGV[1])
+            local limit = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+            local tat = tonumber(redis.call('GET', KEYS[1]) or now)
+            if tat < now then
+                tat = now
+            end
+
+            local new_tat = tat + emission
+            local allow_at = new_tat - emission * limit
+            if allow_at > now then
+                return {0, 0, math.ceil(allow_at - now), math.ceil(tat - now)}
+            end
+
+            redis.call('SET', KEYS[1], tostring(new_tat), 'PX', math.ceil(new_tat - now))
+            return {1, math.floor((now - allow_at) / emission), 0, math.ceil(new_tat - now)}
+            """, List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${rate-limit.key-prefix:RL:}")
+    private String keyPrefix;
+
+    @SuppressWarnings("unchecked")
+    public RateLimitDecision tryAcquire(String key, RateLimitPolicy policy) {
+        List<Long> result = stringRedisTemplate.execute(
+                GCRA_SCRIPT,
+                List.of(keyPrefix + key),
+                String.valueOf(policy.emissionIntervalMs()),
+                String.valueOf(policy.limit())
+        );
+        if (result == null || result.size() != 4) {
+            throw new IllegalStateException("rate limit script returned no result");
+        }
+        return new RateLimitDecision(
+                result.get(0) == 1L,
+                policy.limit(),
+                result.get(1),
+                result.get(2),
+                result.get(3)
+        );
+    }
+}
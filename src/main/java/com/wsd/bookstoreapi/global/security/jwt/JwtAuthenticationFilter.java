@@ -1,7 +1,6 @@
 package com.wsd.bookstoreapi.global.security.jwt;
 
-import com.wsd.bookstoreapi.domain.user.entity.User;
-import com.wsd.bookstoreapi.domain.user.repository.UserRepository;
+import com.wsd.bookstoreapi.domain.user.service.UserStatusService;
 import com.wsd.bookstoreapi.global.security.UserPrincipal;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -15,6 +14,7 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 import com.wsd.bookstoreapi.domain.auth.service.RedisAuthTokenService;
+import com.wsd.bookstoreapi.domain.auth.service.TokenVersionService;
 import com.wsd.bookstoreapi.global.error.BusinessException;
 import com.wsd.bookstoreapi.global.error.ErrorCode;
 import org.springframework.stereotype.Component;
@@ -28,7 +28,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final RedisAuthTokenService redisAuthTokenService;
-    private final UserRepository userRepository;
+    private final TokenVersionService tokenVersionService;
+    private final UserStatusService userStatusService;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
@@ -66,17 +67,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     return; // 더 이상 체인 진행 X
                 }
 
-                // 2) 토큰 유효성 검증
-                jwtTokenProvider.validateToken(token);
+                // 2) 토큰 유효성 검증 (서명 검증/파싱은 한 번만)
+                JwtClaims claims = jwtTokenProvider.verify(token);
 
-                Long userId = jwtTokenProvider.getUserId(token);
-                String role = jwtTokenProvider.getRole(token);
-                String email = jwtTokenProvider.getEmail(token);
+                Long userId = claims.userId();
+                String role = claims.role();
+                String email = claims.email();
 
-                // 비활성화된 사용자 체크 (특정 경로는 예외 허용)
+                // 3) 토큰 버전 체크 (로그아웃/관리자 비활성화 시 사용자 토큰 일괄 폐기)
+                if (tokenVersionService.isRevoked(userId, claims.tokenVersion())) {
+                    writeUnauthorizedError(response, requestUri,
+                            "폐기된 토큰입니다. 다시 로그인해주세요.");
+                    return;
+                }
+
+                // 비활성화된 사용자 체크 (특정 경로는 예외 허용, 상태는 캐시에서 조회)
                 if (!isAllowedPathForInactiveUser(requestUri)) {
-                    User user = userRepository.findById(userId).orElse(null);
-                    if (user != null && "INACTIVE".equalsIgnoreCase(user.getStatus())) {
+                    String status = userStatusService.getStatus(userId);
+                    if (UserStatusService.INACTIVE.equalsIgnoreCase(status)) {
                         writeUnauthorizedError(response, requestUri,
                                 "비활성화된 계정입니다. 계정을 활성화한 후 이용해주세요.");
                         return;
@@ -0,0 +1,25 @@
+package com.wsd.bookstoreapi.global.security.jwt;
+
+/**
+ * 서명/만료 검증을 마친 토큰의 클레임
+ * (요청마다 토큰을 여러 번 파싱하지 않도록 한 번 꺼내서 재사용)
+ */
+public record JwtClaims(
+        Long userId,
+        String email,
+        String role,
+        long tokenVersion,
+        long expiresAtMillis
+) {
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+
+    /**
+     * 토큰의 남은 유효시간(ms)
+     */
+    public long remainingValidityInMs() {
+        return expiresAtMillis - System.currentTimeMillis();
+    }
+}
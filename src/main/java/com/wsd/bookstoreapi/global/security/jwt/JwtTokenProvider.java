@@ -1,9 +1,13 @@
 package com.wsd.bookstoreapi.global.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.wsd.bookstoreapi.global.error.BusinessException;
 import com.wsd.bookstoreapi.global.error.ErrorCode;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import lombok.AccessLevel;
 import lombok.extern.slf4j.Slf4j;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,6 +16,7 @@ import org.springframework.stereotype.Component;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 
 @Slf4j
@@ -19,35 +24,54 @@ import java.util.Date;
 @Component
 public class JwtTokenProvider {
 
+    private static final String VERSION_CLAIM = "ver";
+
     private final Key key;
     private final long accessTokenValidityInMs;
     private final long refreshTokenValidityInMs;
 
+    // 파서는 불변(thread-safe) → 한 번만 만들어 재사용
+    @Getter(AccessLevel.NONE)
+    private final JwtParser parser;
+
+    // 최근 검증된 토큰 (키: 토큰 SHA-256, 토큰 만료 시각까지만 보관)
+    @Getter(AccessLevel.NONE)
+    private final Cache<String, JwtClaims> verifiedTokens;
+
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secretKey,
             @Value("${jwt.access-token-expire-time}") long accessTokenValidityInMs,
-            @Value("${jwt.refresh-token-expire-time}") long refreshTokenValidityInMs
+            @Value("${jwt.refresh-token-expire-time}") long refreshTokenValidityInMs,
+            @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize
     ) {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
         this.accessTokenValidityInMs = accessTokenValidityInMs;
         this.refreshTokenValidityInMs = refreshTokenValidityInMs;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
     }
 
     /**
      * Access Token 생성
+     * @param tokenVersion 발급 시점의 사용자 토큰 버전 (버전이 올라가면 폐기)
      */
-    public String generateAccessToken(Long userId, String email, String role) {
-        return generateToken(userId, email, role, accessTokenValidityInMs);
+    public String generateAccessToken(Long userId, String email, String role, long tokenVersion) {
+        return generateToken(userId, email, role, tokenVersion, accessTokenValidityInMs);
     }
 
     /**
      * Refresh Token 생성
      */
-    public String generateRefreshToken(Long userId, String email, String role) {
-        return generateToken(userId, email, role, refreshTokenValidityInMs);
+    public String generateRefreshToken(Long userId, String email, String role, long tokenVersion) {
+        return generateToken(userId, email, role, tokenVersion, refreshTokenValidityInMs);
     }
 
-    private String generateToken(Long userId, String email, String role, long validityInMs) {
+    private String generateToken(Long userId, String email, String role, long tokenVersion, long validityInMs) {
         long now = System.currentTimeMillis();
         Date issuedAt = new Date(now);
         Date expiry = new Date(now + validityInMs);
@@ -56,6 +80,7 @@ public class JwtTokenProvider {
                 .setSubject(String.valueOf(userId))      // userId를 subject로
                 .claim("email", email)
                 .claim("role", role)
+                .claim(VERSION_CLAIM, tokenVersion)
                 .setIssuedAt(issuedAt)
                 .setExpiration(expiry)
                 .signWith(key, SignatureAlgorithm.HS256)
@@ -63,41 +88,41 @@ public class JwtTokenProvider {
     }
 
     /**
-     * 토큰에서 userId 추출
+     * 토큰 검증 후 클레임 반환
+     * - 서명 검증
+     * - 만료 시간 체크
+     * - 최근 검증한 토큰이면 서명 검증/파싱 생략
      */
-    public Long getUserId(String token) {
-        Claims claims = parseClaims(token);
-        return Long.valueOf(claims.getSubject());
-    }
+    public JwtClaims verify(String token) {
+        if (token == null || token.isBlank()) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED, "유효하지 않은 토큰입니다.");
+        }
 
-    /**
-     * 토큰에서 role 추출
-     */
-    public String getRole(String token) {
-        Claims claims = parseClaims(token);
-        return claims.get("role", String.class);
-    }
+        String cacheKey = TokenHash.sha256(token);
+        JwtClaims cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached != null) {
+            if (!cached.isExpired(System.currentTimeMillis())) {
+                return cached;
+            }
+            verifiedTokens.invalidate(cacheKey);
+            throw new BusinessException(ErrorCode.TOKEN_EXPIRED, "토큰이 만료되었습니다.");
+        }
 
-    /**
-     * 토큰에서 email 추출 (필요시 사용)
-     */
-    public String getEmail(String token) {
-        Claims claims = parseClaims(token);
-        return claims.get("email", String.class);
+        JwtClaims claims = parse(token);
+        verifiedTokens.put(cacheKey, claims);
+        return claims;
     }
 
-    /**
-     * 토큰 유효성 검증
-     * - 서명 검증
-     * - 만료 시간 체크
-     */
-    public boolean validateToken(String token) {
+    private JwtClaims parse(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            Claims body = parser.parseClaimsJws(token).getBody();
+            return new JwtClaims(
+                    Long.valueOf(body.getSubject()),
+                    body.get("email", String.class),
+                    body.get("role", String.class),
+                    tokenVersionOf(body),
+                    body.getExpiration().getTime()
+            );
         } catch (ExpiredJwtException e) {
             log.warn("JWT expired: {}", e.getMessage());
             throw new BusinessException(ErrorCode.TOKEN_EXPIRED, "토큰이 만료되었습니다.");
@@ -106,25 +131,32 @@ public class JwtTokenProvider {
             throw new BusinessException(ErrorCode.UNAUTHORIZED, "유효하지 않은 토큰입니다.");
         }
     }
+
+    // "ver" 클레임이 없는 (도입 이전) 토큰은 0
+    private static long tokenVersionOf(Claims body) {
+        Number version = body.get(VERSION_CLAIM, Number.class);
+        return version != null ? version.longValue() : 0L;
+    }
+
     /**
-     * 토큰의 남은 유효시간(ms) 계산
+     * 캐시 항목 수명 = 토큰 남은 유효시간
      */
-    public long getRemainingValidityInMs(String token) {
-        Claims claims = parseClaims(token);
-        Date expiration = claims.getExpiration();
-        long now = System.currentTimeMillis();
-        return expiration.getTime() - now;
-    }
+    private static class UntilTokenExpiry implements Expiry<String, JwtClaims> {
 
-    private Claims parseClaims(String token) {
-        try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-        } catch (ExpiredJwtException e) {
-            return e.getClaims(); // 만료된 토큰이더라도 claims 확인은 필요할 수 있음
+        @Override
+        public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+            long remainingMs = Math.max(0, claims.remainingValidityInMs());
+            return TimeUnit.MILLISECONDS.toNanos(remainingMs);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
 }
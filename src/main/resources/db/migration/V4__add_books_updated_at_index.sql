@@ -0,0 +1,2 @@
+-- 검색 인덱스 주기 동기화(updated_at 이후 변경분 조회)용
+CREATE INDEX idx_books_updated_at ON books (updated_at);
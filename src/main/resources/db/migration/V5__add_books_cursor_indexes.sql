@@ -0,0 +1,4 @@
+-- 커서(keyset) 페이지네이션용 정렬 인덱스
+-- InnoDB 보조 인덱스는 PK(id)를 포함하므로 (정렬 키, id) 순서로 바로 seek 가능
+CREATE INDEX idx_books_created_at ON books (created_at);
+CREATE INDEX idx_books_price ON books (price);
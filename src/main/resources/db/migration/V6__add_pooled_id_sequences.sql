@@ -0,0 +1,32 @@
+-- ============================
+-- V6__add_pooled_id_sequences.sql
+-- ID 발급을 IDENTITY → 테이블 기반 pooled 방식으로 전환 (JDBC 배치 INSERT 가능)
+-- ============================
+
+-- 테이블별 ID 블록 카운터 (PooledIdAllocator / @PooledId)
+CREATE TABLE id_sequences (
+                              sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+                              next_val      BIGINT       NOT NULL
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
+
+-- 기존 ID 유지: next_val 은 이미 나간 ID 의 상한 → 현재 최대 id 로 시작하면 첫 블록이 최대 id + 1 부터
+-- AUTO_INCREMENT 는 그대로 두지만 애플리케이션은 항상 ID 를 지정해 INSERT 함
+-- (수동 INSERT 시에는 id 를 직접 지정하지 말고 애플리케이션 API 사용)
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'users', COALESCE(MAX(id), 0) FROM users
+UNION ALL
+SELECT 'books', COALESCE(MAX(id), 0) FROM books
+UNION ALL
+SELECT 'favorites', COALESCE(MAX(id), 0) FROM favorites
+UNION ALL
+SELECT 'carts', COALESCE(MAX(id), 0) FROM carts
+UNION ALL
+SELECT 'cart_items', COALESCE(MAX(id), 0) FROM cart_items
+UNION ALL
+SELECT 'orders', COALESCE(MAX(id), 0) FROM orders
+UNION ALL
+SELECT 'order_items', COALESCE(MAX(id), 0) FROM order_items
+UNION ALL
+SELECT 'reviews', COALESCE(MAX(id), 0) FROM reviews;
@@ -0,0 +1,21 @@
+-- 장바구니 항목 (cart_id, book_id) 유일 키
+-- 동시 담기로 생긴 중복 행은 수량을 합쳐 가장 작은 id 한 행으로 정리한 뒤 키 추가
+
+UPDATE cart_items ci
+    JOIN (SELECT MIN(id) AS keep_id, SUM(quantity) AS total_quantity
+          FROM cart_items
+          GROUP BY cart_id, book_id
+          HAVING COUNT(*) > 1) dup ON ci.id = dup.keep_id
+SET ci.quantity = dup.total_quantity;
+
+DELETE ci
+FROM cart_items ci
+    JOIN (SELECT cart_id, book_id, MIN(id) AS keep_id
+          FROM cart_items
+          GROUP BY cart_id, book_id
+          HAVING COUNT(*) > 1) dup
+         ON ci.cart_id = dup.cart_id
+             AND ci.book_id = dup.book_id
+             AND ci.id <> dup.keep_id;
+
+CREATE UNIQUE INDEX uk_cart_items_cart_book ON cart_items (cart_id, book_id);
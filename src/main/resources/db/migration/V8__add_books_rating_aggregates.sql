@@ -0,0 +1,29 @@
+-- 도서별 리뷰 평점 집계 (목록/상세에서 reviews 집계 없이 평균/리뷰 수/분포 표시)
+-- 이후에는 리뷰 작성/수정/삭제 시 증감 UPDATE 로 유지
+ALTER TABLE books
+    ADD COLUMN rating_sum   BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN rating_count INT    NOT NULL DEFAULT 0,
+    ADD COLUMN rating_1     INT    NOT NULL DEFAULT 0,
+    ADD COLUMN rating_2     INT    NOT NULL DEFAULT 0,
+    ADD COLUMN rating_3     INT    NOT NULL DEFAULT 0,
+    ADD COLUMN rating_4     INT    NOT NULL DEFAULT 0,
+    ADD COLUMN rating_5     INT    NOT NULL DEFAULT 0;
+
+UPDATE books b
+    JOIN (SELECT book_id,
+                 SUM(rating)     AS rating_sum,
+                 COUNT(*)        AS rating_count,
+                 SUM(rating = 1) AS rating_1,
+                 SUM(rating = 2) AS rating_2,
+                 SUM(rating = 3) AS rating_3,
+                 SUM(rating = 4) AS rating_4,
+                 SUM(rating = 5) AS rating_5
+          FROM reviews
+          GROUP BY book_id) r ON r.book_id = b.id
+SET b.rating_sum   = r.rating_sum,
+    b.rating_count = r.rating_count,
+    b.rating_1     = r.rating_1,
+    b.rating_2     = r.rating_2,
+    b.rating_3     = r.rating_3,
+    b.rating_4     = r.rating_4,
+    b.rating_5     = r.rating_5;
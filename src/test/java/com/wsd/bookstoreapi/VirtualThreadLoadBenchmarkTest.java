@@ -0,0 +1,151 @@
+package com.wsd.bookstoreapi;
+
+import com.wsd.bookstoreapi.domain.book.entity.Book;
+import com.wsd.bookstoreapi.domain.book.repository.BookRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tomcat 요청 처리 스레드 모델 비교 (실제 HTTP, 동시 클라이언트 1,000)
+ * - platform: 기본 스레드 풀 (server.tomcat.threads.max=200)
+ * - virtual: spring.threads.virtual.enabled=true
+ * - 대상: 도서 목록 조회 (DB 페이지 조회 + count)
+ */
+@Tag("benchmark")
+class VirtualThreadLoadBenchmarkTest {
+
+    private static final int CLIENTS = 1_000;
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration MEASURE = Duration.ofSeconds(15);
+    private static final String PATH = "/api/v1/books?page=0&size=20";
+
+    @Test
+    @DisplayName("[benchmark] 플랫폼 스레드 풀 vs 가상 스레드 - 처리량/p99")
+    void platformVsVirtual() throws Exception {
+        LoadResult platform = run(false);
+        LoadResult virtual = run(true);
+
+        System.out.printf("[threads] clients=%d platform: %.0f req/s p50=%.1fms p99=%.1fms errors=%d%n",
+                CLIENTS, platform.throughput(), platform.p50Ms(), platform.p99Ms(), platform.errors());
+        System.out.printf("[threads] clients=%d virtual:  %.0f req/s p50=%.1fms p99=%.1fms errors=%d%n",
+                CLIENTS, virtual.throughput(), virtual.p50Ms(), virtual.p99Ms(), virtual.errors());
+
+        assertThat(platform.throughput()).isPositive();
+        assertThat(virtual.throughput()).isPositive();
+    }
+
+    private LoadResult run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BookstoreApiApplication.class)
+                .run(
+                        "--spring.profiles.active=test",
+                        "--server.port=0",
+                        "--management.server.port=-1",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--logging.level.ACCESS=WARN"
+                )) {
+
+            seedBooks(context.getBean(BookRepository.class));
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            return load(URI.create("http://localhost:" + port + PATH));
+        }
+    }
+
+    private void seedBooks(BookRepository bookRepository) {
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            books.add(Book.builder()
+                    .title("부하 테스트 도서 " + i)
+                    .author("테스트 저자")
+                    .publisher("테스트 출판사")
+                    .isbn("L" + (System.nanoTime() % 1_000_000_000L) + i)
+                    .category("TEST_CATEGORY")
+                    .price(BigDecimal.valueOf(15000))
+                    .stockQuantity(100)
+                    .is_active(true)
+                    .build());
+        }
+        bookRepository.saveAll(books);
+    }
+
+    private LoadResult load(URI uri) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+
+        long warmupEnd = System.nanoTime() + WARMUP.toNanos();
+        long measureEnd = warmupEnd + MEASURE.toNanos();
+        AtomicLong errors = new AtomicLong();
+        ConcurrentLinkedQueue<long[]> latencies = new ConcurrentLinkedQueue<>();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < CLIENTS; c++) {
+                clients.submit(() -> {
+                    long[] samples = new long[4096];
+                    int count = 0;
+                    while (true) {
+                        long start = System.nanoTime();
+                        if (start >= measureEnd) {
+                            break;
+                        }
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            long end = System.nanoTime();
+                            if (start < warmupEnd) {
+                                continue;
+                            }
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                            if (count == samples.length) {
+                                samples = Arrays.copyOf(samples, count * 2);
+                            }
+                            samples[count++] = end - start;
+                        } catch (Exception e) {
+                            if (start >= warmupEnd) {
+                                errors.incrementAndGet();
+                            }
+                        }
+                    }
+                    latencies.add(Arrays.copyOf(samples, count));
+                    return null;
+                });
+            }
+        }
+
+        long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        double seconds = MEASURE.toNanos() / 1e9;
+        return new LoadResult(all.length / seconds, percentileMs(all, 0.50), percentileMs(all, 0.99), errors.get());
+    }
+
+    private static double percentileMs(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private record LoadResult(double throughput, double p50Ms, double p99Ms, long errors) {
+    }
+}
@@ -1,15 +1,21 @@
 package com.wsd.bookstoreapi.domain.auth;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.wsd.bookstoreapi.domain.auth.service.TokenVersionService;
+import com.wsd.bookstoreapi.domain.user.entity.User;
+import com.wsd.bookstoreapi.global.security.jwt.TokenHash;
 import com.wsd.bookstoreapi.support.IntegrationTestSupport;
 import com.wsd.bookstoreapi.support.TestDataFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.MediaType;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -18,6 +24,15 @@ class AuthControllerTest extends IntegrationTestSupport {
     @Autowired
     private TestDataFactory testDataFactory;
 
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private TokenVersionService tokenVersionService;
+
+    @Value("${auth.token-version.key-prefix}")
+    private String tokenVersionKeyPrefix;
+
     @BeforeEach
     void setUp() {
         // 관리자 계정 생성
@@ -84,4 +99,60 @@ class AuthControllerTest extends IntegrationTestSupport {
                 .andExpect(jsonPath("$.isSuccess").value(false))
                 .andExpect(jsonPath("$.code").value("UNAUTHORIZED"));
     }
+
+    @Test
+    @DisplayName("로그아웃 - 토큰 버전이 올라가 사용자의 기존 토큰이 모두 401, 다시 로그인하면 정상")
+    void logout_revokesAllTokensOfUser() throws Exception {
+        testDataFactory.createNormalUser("logout@example.com");
+        testDataFactory.createNormalUser("stay@example.com");
+        String token = obtainAccessToken("logout@example.com", "1q2w3e4r");
+        String otherToken = obtainAccessToken("stay@example.com", "1q2w3e4r");
+
+        mockMvc.perform(post("/api/v1/auth/logout")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // 로그아웃에 쓴 토큰은 원문 대신 SHA-256 으로 블랙리스트 등록
+        assertThat(stringRedisTemplate.hasKey("BL:" + TokenHash.sha256(token))).isTrue();
+        assertThat(stringRedisTemplate.hasKey("BL:" + token)).isFalse();
+
+        mockMvc.perform(get("/api/v1/favorites")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+
+        // 다른 사용자는 영향 없음
+        mockMvc.perform(get("/api/v1/favorites")
+                        .header("Authorization", "Bearer " + otherToken))
+                .andExpect(status().isOk());
+
+        // 다시 로그인하면 현재 버전으로 발급
+        String newToken = obtainAccessToken("logout@example.com", "1q2w3e4r");
+        mockMvc.perform(get("/api/v1/favorites")
+                        .header("Authorization", "Bearer " + newToken))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("토큰 버전 키가 만료된 뒤에 로그아웃해도 그 전에 발급된 토큰(ver >= 1)은 401")
+    void logout_afterVersionKeyExpired_stillRevokesOlderTokens() throws Exception {
+        User user = testDataFactory.createNormalUser("expiredver@example.com");
+        String first = obtainAccessToken("expiredver@example.com", "1q2w3e4r");
+        mockMvc.perform(post("/api/v1/auth/logout")
+                        .header("Authorization", "Bearer " + first))
+                .andExpect(status().isOk());
+
+        // 버전이 1 이상인 상태에서 발급된 토큰
+        String token = obtainAccessToken("expiredver@example.com", "1q2w3e4r");
+        long issuedVersion = jwtTokenProvider.verify(token).tokenVersion();
+        assertThat(issuedVersion).isPositive();
+
+        // TV 키 만료 재현 후 다시 로그아웃(버전 증가)
+        stringRedisTemplate.delete(tokenVersionKeyPrefix + user.getId());
+        assertThat(tokenVersionService.bump(user.getId())).isGreaterThan(issuedVersion);
+
+        assertThat(tokenVersionService.isRevoked(user.getId(), issuedVersion)).isTrue();
+        mockMvc.perform(get("/api/v1/favorites")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
 }
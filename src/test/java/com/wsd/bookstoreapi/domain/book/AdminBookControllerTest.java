@@ -16,6 +16,7 @@ import java.math.BigDecimal;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -198,4 +199,39 @@ class AdminBookControllerTest extends IntegrationTestSupport {
         assertThat(root.path("payload").path("content").get(0).path("title").asText())
                 .isEqualTo("재활성화 도서");
     }
+
+    @Test
+    @DisplayName("관리자 - 도서 수정 시 상세 조회 캐시가 무효화된다")
+    void updateBook_evictsDetailCache() throws Exception {
+        Book book = testDataFactory.createSampleBook("캐시 전 제목");
+
+        // 1. 상세 조회 2회 → 두 번째는 로컬 캐시 hit
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/v1/books/{id}", book.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.payload.title").value("캐시 전 제목"));
+        }
+
+        mockMvc.perform(get("/api/v1/admin/cache/stats")
+                        .header("Authorization", "Bearer " + adminAccessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.payload[0].name").value("books"))
+                .andExpect(jsonPath("$.payload[0].localHits").value(greaterThanOrEqualTo(1)));
+
+        // 2. 수정 → 커밋 이후 캐시 무효화
+        mockMvc.perform(patch("/api/v1/admin/books/{id}", book.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + adminAccessToken)
+                        .content("""
+                                {
+                                  "title": "캐시 후 제목"
+                                }
+                                """))
+                .andExpect(status().isOk());
+
+        // 3. 다시 조회하면 변경된 제목
+        mockMvc.perform(get("/api/v1/books/{id}", book.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.payload.title").value("캐시 후 제목"));
+    }
 }
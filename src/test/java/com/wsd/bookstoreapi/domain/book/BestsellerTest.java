@@ -0,0 +1,159 @@
+package com.wsd.bookstoreapi.domain.book;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.wsd.bookstoreapi.domain.book.entity.Book;
+import com.wsd.bookstoreapi.domain.book.service.BestsellerRanking;
+import com.wsd.bookstoreapi.domain.book.service.BestsellerRebuildJob;
+import com.wsd.bookstoreapi.support.IntegrationTestSupport;
+import com.wsd.bookstoreapi.support.TestDataFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 베스트셀러 순위 (Redis sorted set)
+ * - 테스트마다 고유 카테고리로 조회해서 다른 테스트의 주문과 섞이지 않게 함
+ * - day/week 결과는 잠시 캐시되므로 같은 테스트 안에서는 조회마다 다른 기간을 사용
+ */
+class BestsellerTest extends IntegrationTestSupport {
+
+    @Autowired
+    private TestDataFactory testDataFactory;
+
+    @Autowired
+    private BestsellerRanking bestsellerRanking;
+
+    @Autowired
+    private BestsellerRebuildJob bestsellerRebuildJob;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Value("${bestseller.key-prefix}")
+    private String keyPrefix;
+
+    @Test
+    @DisplayName("주문 수량 순으로 순위가 매겨지고, 취소된 주문은 빠진다")
+    void ranking_followsOrdersAndCancellations() throws Exception {
+        String category = "BEST_" + System.nanoTime();
+        Book book1 = createBook(category, "베스트셀러 도서 1");
+        Book book2 = createBook(category, "베스트셀러 도서 2");
+
+        String token1 = buyer("best1");
+        String token2 = buyer("best2");
+        long canceledOrderId = order(token1, book1, 3);
+        order(token2, book2, 2);
+
+        popular(category, "week")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.payload.length()").value(2))
+                .andExpect(jsonPath("$.payload[0].rank").value(1))
+                .andExpect(jsonPath("$.payload[0].book.id").value(book1.getId().intValue()))
+                .andExpect(jsonPath("$.payload[0].sales").value(3))
+                .andExpect(jsonPath("$.payload[1].book.id").value(book2.getId().intValue()))
+                .andExpect(jsonPath("$.payload[1].sales").value(2));
+
+        mockMvc.perform(patch("/api/v1/orders/{id}/cancel", canceledOrderId)
+                        .header("Authorization", "Bearer " + token1))
+                .andExpect(status().isOk());
+
+        popular(category, "day")
+                .andExpect(jsonPath("$.payload.length()").value(1))
+                .andExpect(jsonPath("$.payload[0].book.id").value(book2.getId().intValue()))
+                .andExpect(jsonPath("$.payload[0].sales").value(2));
+
+        popular(category, "month")
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Redis 가 비면 재구축 작업이 최근 주문(취소 제외)으로 순위를 다시 채운다")
+    void rebuild_restoresRankingFromOrders() throws Exception {
+        String category = "BEST_" + System.nanoTime();
+        Book book1 = createBook(category, "재구축 도서 1");
+        Book book2 = createBook(category, "재구축 도서 2");
+        Book book3 = createBook(category, "재구축 도서 3");
+
+        String token1 = buyer("rebuild1");
+        String token2 = buyer("rebuild2");
+        order(token1, book1, 1);
+        order(token2, book2, 4);
+        long canceledOrderId = order(token1, book3, 5);
+        mockMvc.perform(patch("/api/v1/orders/{id}/cancel", canceledOrderId)
+                        .header("Authorization", "Bearer " + token1))
+                .andExpect(status().isOk());
+        order(token1, book1, 2);
+
+        // Redis 초기화 상황 재현
+        Set<String> keys = stringRedisTemplate.keys(keyPrefix + "*");
+        stringRedisTemplate.delete(keys);
+        assertThat(bestsellerRanking.isBuilt()).isFalse();
+
+        assertThat(bestsellerRebuildJob.rebuild()).isPositive();
+        assertThat(bestsellerRanking.isBuilt()).isTrue();
+
+        popular(category, "week")
+                .andExpect(jsonPath("$.payload.length()").value(2))
+                .andExpect(jsonPath("$.payload[0].book.id").value(book2.getId().intValue()))
+                .andExpect(jsonPath("$.payload[0].sales").value(4))
+                .andExpect(jsonPath("$.payload[1].book.id").value(book1.getId().intValue()))
+                .andExpect(jsonPath("$.payload[1].sales").value(3));
+    }
+
+    private ResultActions popular(String category, String window) throws Exception {
+        return mockMvc.perform(get("/api/v1/books/popular")
+                .param("category", category)
+                .param("window", window));
+    }
+
+    private Book createBook(String category, String title) {
+        return testDataFactory.createBookWithIsbn("BS" + System.nanoTime(), title, category);
+    }
+
+    private String buyer(String name) throws Exception {
+        String email = name + "-" + System.nanoTime() + "@example.com";
+        testDataFactory.createNormalUser(email);
+        return obtainAccessToken(email, "1q2w3e4r");
+    }
+
+    /**
+     * 장바구니에 한 권 담아 주문하고 주문 ID 반환
+     */
+    private long order(String token, Book book, int quantity) throws Exception {
+        mockMvc.perform(post("/api/v1/cart/items")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "bookId": %d, "quantity": %d }
+                                """.formatted(book.getId(), quantity)))
+                .andExpect(status().isCreated());
+
+        String responseBody = mockMvc.perform(post("/api/v1/orders")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "receiverName": "홍길동",
+                                  "address": "서울시 베스트셀러로 1"
+                                }
+                                """))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        JsonNode root = objectMapper.readTree(responseBody);
+        return root.path("payload").path("id").asLong();
+    }
+}
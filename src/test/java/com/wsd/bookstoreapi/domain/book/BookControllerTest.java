@@ -1,9 +1,15 @@
 package com.wsd.bookstoreapi.domain.book;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.wsd.bookstoreapi.domain.book.dto.BookResponse;
 import com.wsd.bookstoreapi.domain.book.entity.Book;
+import com.wsd.bookstoreapi.domain.book.repository.BookRepository;
+import com.wsd.bookstoreapi.domain.book.service.BookService;
 import com.wsd.bookstoreapi.support.IntegrationTestSupport;
 import com.wsd.bookstoreapi.support.TestDataFactory;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,7 +17,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -22,6 +30,15 @@ class BookControllerTest extends IntegrationTestSupport {
     @Autowired
     private TestDataFactory testDataFactory;
 
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private List<Book> sampleBooks;
 
     @BeforeEach
@@ -111,6 +128,31 @@ class BookControllerTest extends IntegrationTestSupport {
                 .andExpect(jsonPath("$.payload.title").value(sampleBooks.get(0).getTitle()));
     }
 
+    @Test
+    @DisplayName("도서 상세 조회 - 캐시에 없는 도서를 동시에 조회해도 DB 로딩은 1번")
+    void getBook_concurrentMiss_loadsOnce() throws Exception {
+        Book book = testDataFactory.createSampleBook("동시 조회 도서");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<BookResponse>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 32; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return bookService.getBook(book.getId());
+                }));
+            }
+            start.countDown();
+            for (Future<BookResponse> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS).getTitle()).isEqualTo("동시 조회 도서");
+            }
+        }
+
+        assertThat(statistics.getEntityStatistics(Book.class.getName()).getLoadCount()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("도서 상세 조회 실패 - 존재하지 않는 ID이면 404 반환")
     void getBook_detail_notFound() throws Exception {
@@ -122,4 +164,94 @@ class BookControllerTest extends IntegrationTestSupport {
                 .andExpect(jsonPath("$.isSuccess").value(false))
                 .andExpect(jsonPath("$.code").value("RESOURCE_NOT_FOUND"));
     }
+
+    @Test
+    @DisplayName("도서 목록 조회 - 제목 변경/비활성화가 keyword 검색에 바로 반영된다")
+    void getBooks_keywordReflectsBookChanges() throws Exception {
+        String suffix = String.valueOf(System.nanoTime());
+        Book book = testDataFactory.createSampleBook("색인검증 " + suffix);
+
+        assertThat(searchTitles("색인검증 " + suffix)).containsExactly("색인검증 " + suffix);
+
+        // 제목 변경 → 이전 키워드로는 검색되지 않음
+        book.setTitle("제목변경 " + suffix);
+        bookRepository.save(book);
+
+        assertThat(searchTitles("색인검증 " + suffix)).isEmpty();
+        assertThat(searchTitles("제목변경 " + suffix)).containsExactly("제목변경 " + suffix);
+
+        // 비활성화(soft delete) → 검색 결과에서 제외
+        book.set_active(false);
+        bookRepository.save(book);
+
+        assertThat(searchTitles("제목변경 " + suffix)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("도서 목록 커서 조회 - 동일 정렬 값이 있어도 누락/중복 없이 끝까지 조회된다")
+    void getBooksByCursor_traversesAllPages() throws Exception {
+        String category = "CURSOR_" + System.nanoTime();
+        List<Long> expectedIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            // 가격이 모두 같으므로 id 가 보조 정렬 키로 사용되어야 함
+            expectedIds.add(testDataFactory.createBookWithIsbn("C" + System.nanoTime(), "커서 도서 " + i, category).getId());
+        }
+
+        List<Long> actualIds = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            var request = get("/api/v1/books/cursor")
+                    .param("category", category)
+                    .param("size", "2")
+                    .param("sort", "price,asc");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+
+            String responseBody = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.isSuccess").value(true))
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+
+            JsonNode payload = objectMapper.readTree(responseBody).path("payload");
+            payload.path("content").forEach(node -> actualIds.add(node.path("id").asLong()));
+
+            cursor = payload.path("hasNext").asBoolean() ? payload.path("nextCursor").asText() : null;
+            pages++;
+        } while (cursor != null);
+
+        assertThat(actualIds).containsExactlyElementsOf(expectedIds);
+        assertThat(pages).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("도서 목록 커서 조회 실패 - 잘못된 cursor 이면 400 반환")
+    void getBooksByCursor_invalidCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/books/cursor")
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.isSuccess").value(false))
+                .andExpect(jsonPath("$.code").value("INVALID_QUERY_PARAM"));
+    }
+
+    private List<String> searchTitles(String keyword) throws Exception {
+        String responseBody = mockMvc.perform(get("/api/v1/books")
+                        .param("keyword", keyword)
+                        .param("page", "0")
+                        .param("size", "10")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        JsonNode content = objectMapper.readTree(responseBody).path("payload").path("content");
+
+        List<String> titles = new ArrayList<>();
+        content.forEach(node -> titles.add(node.path("title").asText()));
+        return titles;
+    }
 }
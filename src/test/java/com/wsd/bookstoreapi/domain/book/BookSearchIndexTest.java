@@ -0,0 +1,74 @@
+package com.wsd.bookstoreapi.domain.book;
+
+import com.wsd.bookstoreapi.domain.book.search.BookSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookSearchIndexTest {
+
+    private BookSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new BookSearchIndex(2);
+
+        BookSearchIndex.Builder builder = index.newBuilder();
+        builder.add(1L, "이펙티브 자바", "PROGRAMMING");
+        builder.add(2L, "자바의 정석", "PROGRAMMING");
+        builder.add(3L, "Clean Code", "PROGRAMMING");
+        builder.add(4L, "미분적분학 개론", "MATH");
+        index.replaceWith(builder);
+    }
+
+    @Test
+    @DisplayName("적재 전에는 인덱스로 답하지 않는다")
+    void search_beforeRebuild() {
+        assertThat(new BookSearchIndex(10).search("자바", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("부분 문자열/대소문자 무시 검색 + 카테고리 필터")
+    void search_substringAndCategory() {
+        assertThat(index.search("자바", null)).contains(List.of(1L, 2L));
+        assertThat(index.search("CLEAN co", null)).contains(List.of(3L));
+        assertThat(index.search("자바", "MATH")).contains(List.of());
+    }
+
+    @Test
+    @DisplayName("n-gram 은 모두 포함하지만 연속되지 않은 제목은 제외된다")
+    void search_verifiesContiguousMatch() {
+        // "자바의" 의 bigram(자바, 바의)은 1번 제목에 없으므로 2번만
+        assertThat(index.search("자바의", null)).contains(List.of(2L));
+        // 제목 안에서 반복되는 글자가 있어도 정상 처리
+        assertThat(index.search("분적분", null)).contains(List.of(4L));
+    }
+
+    @Test
+    @DisplayName("짧은 키워드나 후보가 너무 많으면 DB 검색으로 넘긴다")
+    void search_fallbackCases() {
+        assertThat(index.search("자", null)).isEmpty();
+
+        index.upsert(5L, "자바 웹 프로그래밍", "PROGRAMMING", true);
+        assertThat(index.search("자바", null)).isEmpty(); // 3건 > maxCandidates(2)
+    }
+
+    @Test
+    @DisplayName("변경/비활성화가 즉시 반영된다")
+    void upsertAndRemove() {
+        index.upsert(1L, "모던 자바 인 액션", "PROGRAMMING", true);
+        assertThat(index.search("이펙티브", null)).contains(List.of());
+        assertThat(index.search("모던", null)).contains(List.of(1L));
+
+        index.upsert(2L, "자바의 정석", "PROGRAMMING", false);
+        assertThat(index.search("정석", null)).contains(List.of());
+
+        index.remove(4L);
+        assertThat(index.search("개론", null)).contains(List.of());
+        assertThat(index.size()).isEqualTo(2);
+    }
+}
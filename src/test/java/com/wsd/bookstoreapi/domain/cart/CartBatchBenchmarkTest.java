@@ -0,0 +1,113 @@
+package com.wsd.bookstoreapi.domain.cart;
+
+import com.wsd.bookstoreapi.domain.book.entity.Book;
+import com.wsd.bookstoreapi.domain.user.entity.User;
+import com.wsd.bookstoreapi.support.IntegrationTestSupport;
+import com.wsd.bookstoreapi.support.TestDataFactory;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 장바구니 복원(도서 20권 담기): 항목별 POST 20회 vs 일괄 PATCH 1회
+ * - 매 회차 새 사용자(빈 장바구니)로 측정, 처음 몇 회는 워밍업으로 제외
+ * - 걸린 시간(중앙값)과 JDBC 문장 수(Hibernate Statistics)를 출력
+ */
+@Tag("benchmark")
+class CartBatchBenchmarkTest extends IntegrationTestSupport {
+
+    private static final int BOOKS = 20;
+    private static final int WARMUP = 3;
+    private static final int ROUNDS = 15;
+
+    @Autowired
+    private TestDataFactory testDataFactory;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("[benchmark] 장바구니 20권 복원 - 개별 담기 vs 일괄 변경")
+    void restoreCart_perItemVsBatch() throws Exception {
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < BOOKS; i++) {
+            books.add(testDataFactory.createBookWithIsbn(
+                    "CB" + System.nanoTime() % 1_000_000_000L + i, "일괄 담기 도서 " + i, "TEST_CATEGORY"));
+        }
+        String operations = books.stream()
+                .map(book -> "{ \"op\": \"ADD\", \"bookId\": %d, \"quantity\": 1 }".formatted(book.getId()))
+                .collect(Collectors.joining(",", "{ \"operations\": [", "] }"));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<Long> perItemMicros = new ArrayList<>();
+        List<Long> batchMicros = new ArrayList<>();
+        long perItemStatements = 0;
+        long batchStatements = 0;
+
+        for (int round = 0; round < WARMUP + ROUNDS; round++) {
+            String perItemToken = tokenForNewUser("cartbench-item" + round);
+            statistics.clear();
+            long startedAt = System.nanoTime();
+            for (Book book : books) {
+                mockMvc.perform(post("/api/v1/cart/items")
+                                .header("Authorization", "Bearer " + perItemToken)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{ \"bookId\": %d, \"quantity\": 1 }".formatted(book.getId())))
+                        .andExpect(status().isCreated());
+            }
+            long perItemElapsed = System.nanoTime() - startedAt;
+            long perItemCount = statistics.getPrepareStatementCount();
+
+            String batchToken = tokenForNewUser("cartbench-batch" + round);
+            statistics.clear();
+            startedAt = System.nanoTime();
+            mockMvc.perform(patch("/api/v1/cart/items:batch")
+                            .header("Authorization", "Bearer " + batchToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(operations))
+                    .andExpect(status().isOk());
+            long batchElapsed = System.nanoTime() - startedAt;
+            long batchCount = statistics.getPrepareStatementCount();
+
+            if (round >= WARMUP) {
+                perItemMicros.add(TimeUnit.NANOSECONDS.toMicros(perItemElapsed));
+                batchMicros.add(TimeUnit.NANOSECONDS.toMicros(batchElapsed));
+                perItemStatements = perItemCount;
+                batchStatements = batchCount;
+            }
+        }
+
+        Collections.sort(perItemMicros);
+        Collections.sort(batchMicros);
+        long perItemMedian = perItemMicros.get(ROUNDS / 2);
+        long batchMedian = batchMicros.get(ROUNDS / 2);
+        System.out.printf("[cart-batch] books=%d rounds=%d per-item: median=%.1fms statements=%d | "
+                        + "batch: median=%.1fms statements=%d | speedup=%.1fx%n",
+                BOOKS, ROUNDS, perItemMedian / 1000.0, perItemStatements,
+                batchMedian / 1000.0, batchStatements, (double) perItemMedian / batchMedian);
+
+        assertThat(batchStatements).isLessThan(perItemStatements);
+        assertThat(batchMedian).isLessThan(perItemMedian);
+    }
+
+    private String tokenForNewUser(String name) {
+        User user = testDataFactory.createNormalUser(name + "-" + System.nanoTime() + "@example.com");
+        return generateAccessToken(user.getId(), user.getEmail(), user.getRole().name());
+    }
+}
@@ -0,0 +1,184 @@
+package com.wsd.bookstoreapi.domain.cart;
+
+import com.wsd.bookstoreapi.domain.book.entity.Book;
+import com.wsd.bookstoreapi.domain.cart.dto.CartQuantity;
+import com.wsd.bookstoreapi.domain.cart.repository.CartItemRepository;
+import com.wsd.bookstoreapi.domain.user.entity.User;
+import com.wsd.bookstoreapi.support.IntegrationTestSupport;
+import com.wsd.bookstoreapi.support.TestDataFactory;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 장바구니 담기 동시성/쿼리 수 검증 (JPA 저장소)
+ * - 같은 도서를 동시에 담아도 (cart_id, book_id) 행은 하나, 수량은 모두 합산
+ */
+class CartConcurrencyTest extends IntegrationTestSupport {
+
+    @Autowired
+    private TestDataFactory testDataFactory;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("동시 담기 - 같은 도서를 동시에 담아도 항목 한 행에 수량이 합쳐진다")
+    void concurrentAdds_noDuplicateRows() throws Exception {
+        int requests = 40;
+        int threads = 16;
+
+        String email = "cartrace" + System.nanoTime() + "@example.com";
+        User user = testDataFactory.createNormalUser(email);
+        Book book = testDataFactory.createBookWithIsbn("CR" + System.nanoTime(), "동시 담기 도서", "CART_TEST");
+        String token = generateAccessToken(user.getId(), user.getEmail(), user.getRole().name());
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger created = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // 장바구니도 없는 상태에서 시작 → 장바구니 생성 경합 포함
+        for (int i = 0; i < requests; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                int httpStatus = add(token, book, 1).andReturn().getResponse().getStatus();
+                if (httpStatus == 201) {
+                    created.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(created.get()).isEqualTo(requests);
+        assertThat(cartItemRepository.findQuantitiesByUserId(user.getId()))
+                .containsExactly(new CartQuantity(book.getId(), requests));
+    }
+
+    @Test
+    @DisplayName("일괄 변경과 담기가 동시에 들어와도 수량이 모두 합쳐지고 실패가 없다")
+    void concurrentBatchAndAdds_noLostUpdates() throws Exception {
+        int rounds = 10;
+        int threads = 16;
+
+        String email = "cartbatchrace" + System.nanoTime() + "@example.com";
+        User user = testDataFactory.createNormalUser(email);
+        Book book1 = testDataFactory.createBookWithIsbn("CB1" + System.nanoTime(), "동시 일괄 도서 1", "CART_TEST");
+        Book book2 = testDataFactory.createBookWithIsbn("CB2" + System.nanoTime(), "동시 일괄 도서 2", "CART_TEST");
+        String token = generateAccessToken(user.getId(), user.getEmail(), user.getRole().name());
+        add(token, book1, 1).andExpect(status().isCreated());
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        // 라운드마다 book1 담기, book2 담기(새 항목 경합), 두 도서 일괄 ADD
+        for (int i = 0; i < rounds; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return add(token, book1, 1).andReturn().getResponse().getStatus();
+            }));
+            futures.add(executor.submit(() -> {
+                start.await();
+                return add(token, book2, 1).andReturn().getResponse().getStatus();
+            }));
+            futures.add(executor.submit(() -> {
+                start.await();
+                return mockMvc.perform(patch("/api/v1/cart/items:batch")
+                                .header("Authorization", "Bearer " + token)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        { "operations": [
+                                          { "op": "ADD", "bookId": %d, "quantity": 1 },
+                                          { "op": "ADD", "bookId": %d, "quantity": 1 }
+                                        ] }
+                                        """.formatted(book1.getId(), book2.getId())))
+                        .andReturn().getResponse().getStatus();
+            }));
+        }
+
+        start.countDown();
+        List<Integer> statuses = new ArrayList<>();
+        for (Future<Integer> future : futures) {
+            statuses.add(future.get(60, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        assertThat(statuses).allMatch(httpStatus -> httpStatus == 200 || httpStatus == 201);
+        assertThat(cartItemRepository.findQuantitiesByUserId(user.getId()))
+                .containsExactlyInAnyOrder(
+                        new CartQuantity(book1.getId(), 1 + rounds * 2),
+                        new CartQuantity(book2.getId(), rounds * 2));
+    }
+
+    @Test
+    @DisplayName("담기 쿼리 수 - 이미 있는 장바구니에 담을 때 upsert 1 + 응답 조회 1")
+    void addItem_usesUpsertAndOneRead() throws Exception {
+        String email = "cartquery" + System.nanoTime() + "@example.com";
+        User user = testDataFactory.createNormalUser(email);
+        Book book1 = testDataFactory.createBookWithIsbn("CQ1" + System.nanoTime(), "쿼리 수 도서 1", "CART_TEST");
+        Book book2 = testDataFactory.createBookWithIsbn("CQ2" + System.nanoTime(), "쿼리 수 도서 2", "CART_TEST");
+        String token = generateAccessToken(user.getId(), user.getEmail(), user.getRole().name());
+        add(token, book1, 1);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // 새 항목
+        statistics.clear();
+        add(token, book2, 2)
+                .andExpect(jsonPath("$.payload.items.length()").value(2));
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+
+        // 기존 항목 수량 증가
+        statistics.clear();
+        add(token, book1, 3)
+                .andExpect(jsonPath("$.payload.totalQuantity").value(6));
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+
+        // 없는 도서는 그대로 404
+        mockMvc.perform(post("/api/v1/cart/items")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "bookId": 99999999, "quantity": 1 }
+                                """))
+                .andExpect(status().isNotFound());
+    }
+
+    private ResultActions add(String token, Book book, int quantity) throws Exception {
+        return mockMvc.perform(post("/api/v1/cart/items")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {
+                          "bookId": %d,
+                          "quantity": %d
+                        }
+                        """.formatted(book.getId(), quantity)));
+    }
+}
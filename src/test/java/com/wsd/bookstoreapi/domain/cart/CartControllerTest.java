@@ -196,4 +196,72 @@ class CartControllerTest extends IntegrationTestSupport {
         CartItem updated = cartItemRepository.findById(cartItem.getId()).orElseThrow();
         assertThat(updated.getQuantity()).isEqualTo(5);
     }
+
+    @Test
+    @DisplayName("장바구니 - 일괄 변경(추가/수량 변경/삭제)이 순서대로 적용된다")
+    void applyBatch_success() throws Exception {
+        // 다른 테스트와 장바구니를 공유하지 않도록 별도 사용자
+        User batchUser = testDataFactory.createNormalUser("batch1@example.com");
+        Cart batchCart = testDataFactory.createCartForUser(batchUser);
+        String token = obtainAccessToken("batch1@example.com", "1q2w3e4r");
+
+        Book other = testDataFactory.createBookWithIsbn("B" + System.nanoTime(), "일괄 변경 도서", "TEST_CATEGORY");
+        Book removed = testDataFactory.createBookWithIsbn("R" + System.nanoTime(), "일괄 삭제 도서", "TEST_CATEGORY");
+        cartItemRepository.save(CartItem.builder().cart(batchCart).book(book).quantity(1).build());
+        cartItemRepository.save(CartItem.builder().cart(batchCart).book(removed).quantity(1).build());
+
+        String requestBody = """
+                {
+                  "operations": [
+                    { "op": "ADD", "bookId": %d, "quantity": 2 },
+                    { "op": "ADD", "bookId": %d, "quantity": 1 },
+                    { "op": "UPDATE", "bookId": %d, "quantity": 4 },
+                    { "op": "REMOVE", "bookId": %d }
+                  ]
+                }
+                """.formatted(other.getId(), other.getId(), book.getId(), removed.getId());
+
+        mockMvc.perform(patch("/api/v1/cart/items:batch")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isSuccess").value(true))
+                .andExpect(jsonPath("$.payload.items.length()").value(2))
+                .andExpect(jsonPath("$.payload.totalQuantity").value(7));
+
+        assertThat(cartItemRepository.findQuantitiesByUserId(batchUser.getId()))
+                .extracting(line -> line.bookId() + ":" + line.quantity())
+                .containsExactlyInAnyOrder(book.getId() + ":4", other.getId() + ":3");
+    }
+
+    @Test
+    @DisplayName("장바구니 - 일괄 변경 중 하나라도 실패하면 아무것도 적용되지 않는다")
+    void applyBatch_allOrNothing() throws Exception {
+        User batchUser = testDataFactory.createNormalUser("batch2@example.com");
+        Cart batchCart = testDataFactory.createCartForUser(batchUser);
+        String token = obtainAccessToken("batch2@example.com", "1q2w3e4r");
+
+        Book notInCart = testDataFactory.createBookWithIsbn("N" + System.nanoTime(), "장바구니에 없는 도서", "TEST_CATEGORY");
+        cartItemRepository.save(CartItem.builder().cart(batchCart).book(book).quantity(1).build());
+
+        String requestBody = """
+                {
+                  "operations": [
+                    { "op": "UPDATE", "bookId": %d, "quantity": 9 },
+                    { "op": "REMOVE", "bookId": %d }
+                  ]
+                }
+                """.formatted(book.getId(), notInCart.getId());
+
+        mockMvc.perform(patch("/api/v1/cart/items:batch")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isNotFound());
+
+        assertThat(cartItemRepository.findQuantitiesByUserId(batchUser.getId()))
+                .extracting(line -> line.quantity())
+                .containsExactly(1);
+    }
 }
@@ -0,0 +1,245 @@
+package com.wsd.bookstoreapi.domain.cart;
+
+import com.wsd.bookstoreapi.domain.book.entity.Book;
+import com.wsd.bookstoreapi.domain.book.repository.BookRepository;
+import com.wsd.bookstoreapi.domain.cart.dto.CartQuantity;
+import com.wsd.bookstoreapi.domain.cart.entity.Cart;
+import com.wsd.bookstoreapi.domain.cart.entity.CartItem;
+import com.wsd.bookstoreapi.domain.cart.repository.CartItemRepository;
+import com.wsd.bookstoreapi.domain.cart.service.CartWriteBehindJob;
+import com.wsd.bookstoreapi.domain.user.entity.User;
+import com.wsd.bookstoreapi.support.IntegrationTestSupport;
+import com.wsd.bookstoreapi.support.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Redis 장바구니 모드 (cart.redis.enabled=true)
+ * write-behind 는 주기를 길게 두고 테스트에서 직접 flush() 호출
+ */
+@TestPropertySource(properties = {
+        "cart.redis.enabled=true",
+        "cart.redis.write-behind-interval-ms=600000"
+})
+class RedisCartStoreTest extends IntegrationTestSupport {
+
+    private static final AtomicInteger SEQ = new AtomicInteger();
+
+    @Autowired
+    private TestDataFactory testDataFactory;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private CartWriteBehindJob cartWriteBehindJob;
+
+    private User user;
+    private String token;
+    private Book book1;
+    private Book book2;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        int seq = SEQ.incrementAndGet();
+        String email = "rediscart" + seq + "@example.com";
+        user = testDataFactory.createNormalUser(email);
+        book1 = testDataFactory.createBookWithIsbn("RC-" + System.nanoTime(), "Redis 장바구니 도서 1", "TEST_CATEGORY");
+        book2 = testDataFactory.createBookWithIsbn("RC-" + System.nanoTime(), "Redis 장바구니 도서 2", "TEST_CATEGORY");
+        token = obtainAccessToken(email, "1q2w3e4r");
+    }
+
+    @Test
+    @DisplayName("같은 도서를 두 번 담으면 수량이 합쳐지고, DB 에는 write-behind 때 반영")
+    void addItem_incrementsInRedis_persistsOnFlush() throws Exception {
+        add(book1, 2);
+        add(book1, 3)
+                .andExpect(jsonPath("$.payload.items.length()").value(1))
+                .andExpect(jsonPath("$.payload.items[0].bookId").value(book1.getId().intValue()))
+                .andExpect(jsonPath("$.payload.items[0].quantity").value(5))
+                .andExpect(jsonPath("$.payload.totalAmount").value(book1.getPrice().intValue() * 5));
+
+        assertThat(cartItemRepository.findQuantitiesByUserId(user.getId())).isEmpty();
+
+        cartWriteBehindJob.flush();
+
+        assertThat(cartItemRepository.findQuantitiesByUserId(user.getId()))
+                .containsExactly(new CartQuantity(book1.getId(), 5));
+    }
+
+    @Test
+    @DisplayName("수량 변경/삭제도 write-behind 로 DB 사본에 그대로 반영")
+    void updateAndRemove_syncedToDb() throws Exception {
+        add(book1, 1);
+        add(book2, 1);
+        cartWriteBehindJob.flush();
+
+        mockMvc.perform(patch("/api/v1/cart/items/book/{bookId}", book1.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "quantity": 4 }
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.payload.items[0].quantity").value(4));
+        mockMvc.perform(delete("/api/v1/cart/items/book/{bookId}", book2.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.payload.items.length()").value(1));
+        mockMvc.perform(delete("/api/v1/cart/items/book/{bookId}", book2.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNotFound());
+
+        cartWriteBehindJob.flush();
+
+        assertThat(cartItemRepository.findQuantitiesByUserId(user.getId()))
+                .containsExactly(new CartQuantity(book1.getId(), 4));
+    }
+
+    @Test
+    @DisplayName("Redis 에 없는 장바구니는 DB 사본에서 한 번 적재")
+    void existingDbCart_loadedOnFirstRead() throws Exception {
+        Cart cart = testDataFactory.createCartForUser(user);
+        cartItemRepository.save(CartItem.builder().cart(cart).book(book2).quantity(3).build());
+
+        mockMvc.perform(get("/api/v1/cart")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.payload.items[0].bookId").value(book2.getId().intValue()))
+                .andExpect(jsonPath("$.payload.items[0].quantity").value(3));
+
+        add(book2, 1)
+                .andExpect(jsonPath("$.payload.items[0].quantity").value(4));
+    }
+
+    @Test
+    @DisplayName("주문은 Redis 장바구니로 생성되고, 성공한 주문만 장바구니를 비움")
+    void order_consumesRedisCart_onlyOnCommit() throws Exception {
+        add(book1, 2);
+        add(book2, 20); // 재고(5) 초과 → 주문 실패
+
+        order().andExpect(status().isConflict());
+        mockMvc.perform(get("/api/v1/cart")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(jsonPath("$.payload.items.length()").value(2));
+
+        mockMvc.perform(delete("/api/v1/cart/items/book/{bookId}", book2.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        order()
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.payload.items[0].quantity").value(2));
+
+        mockMvc.perform(get("/api/v1/cart")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(jsonPath("$.payload.items.length()").value(0));
+        assertThat(bookRepository.findById(book1.getId()).orElseThrow().getStockQuantity()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("같은 장바구니로 동시에 주문하면 하나만 생성되고 재고도 한 번만 차감")
+    void concurrentOrders_sameCart_onlyOneSucceeds() throws Exception {
+        add(book1, 2);
+
+        int attempts = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(attempts);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < attempts; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return order().andReturn().getResponse().getStatus();
+            }));
+        }
+        start.countDown();
+
+        List<Integer> statuses = new ArrayList<>();
+        for (Future<Integer> future : futures) {
+            statuses.add(future.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        assertThat(statuses).filteredOn(status -> status == 200).hasSize(1);
+        assertThat(statuses).filteredOn(status -> status == 409).hasSize(attempts - 1);
+        assertThat(bookRepository.findById(book1.getId()).orElseThrow().getStockQuantity()).isEqualTo(3);
+        mockMvc.perform(get("/api/v1/cart")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(jsonPath("$.payload.items.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("일괄 변경은 스크립트 한 번에 적용되고, 실패하면 Redis 장바구니도 그대로")
+    void applyBatch_atomicInRedis() throws Exception {
+        add(book1, 1);
+
+        batch("""
+                { "op": "ADD", "bookId": %d, "quantity": 2 },
+                { "op": "REMOVE", "bookId": %d },
+                { "op": "ADD", "bookId": %d, "quantity": 5 }
+                """.formatted(book2.getId(), book2.getId(), book1.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.payload.items.length()").value(1))
+                .andExpect(jsonPath("$.payload.items[0].quantity").value(6));
+
+        batch("""
+                { "op": "UPDATE", "bookId": %d, "quantity": 9 },
+                { "op": "UPDATE", "bookId": %d, "quantity": 1 }
+                """.formatted(book1.getId(), book2.getId()))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/api/v1/cart")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(jsonPath("$.payload.items[0].quantity").value(6));
+    }
+
+    private ResultActions batch(String operations) throws Exception {
+        return mockMvc.perform(patch("/api/v1/cart/items:batch")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"operations\": [" + operations + "] }"));
+    }
+
+    private ResultActions add(Book book, int quantity) throws Exception {
+        return mockMvc.perform(post("/api/v1/cart/items")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "bookId": %d,
+                                  "quantity": %d
+                                }
+                                """.formatted(book.getId(), quantity)))
+                .andExpect(status().isCreated());
+    }
+
+    private ResultActions order() throws Exception {
+        return mockMvc.perform(post("/api/v1/orders")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {
+                          "receiverName": "홍길동",
+                          "address": "서울시 장바구니로 1"
+                        }
+                        """));
+    }
+}
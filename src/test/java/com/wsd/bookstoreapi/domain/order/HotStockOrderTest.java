@@ -0,0 +1,274 @@
+package com.wsd.bookstoreapi.domain.order;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.wsd.bookstoreapi.domain.book.entity.Book;
+import com.wsd.bookstoreapi.domain.book.repository.BookRepository;
+import com.wsd.bookstoreapi.domain.book.service.HotStockSyncJob;
+import com.wsd.bookstoreapi.domain.book.service.RedisHotStockService;
+import com.wsd.bookstoreapi.domain.book.service.StockService;
+import com.wsd.bookstoreapi.domain.cart.entity.Cart;
+import com.wsd.bookstoreapi.domain.cart.entity.CartItem;
+import com.wsd.bookstoreapi.domain.cart.repository.CartItemRepository;
+import com.wsd.bookstoreapi.domain.user.entity.User;
+import com.wsd.bookstoreapi.support.IntegrationTestSupport;
+import com.wsd.bookstoreapi.support.TestDataFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 핫 재고 모드(Redis 예약 + DB write-behind) 검증
+ * - 동기화 주기를 길게 두고 테스트에서 직접 sync() 호출
+ */
+@TestPropertySource(properties = {
+        "inventory.hot-stock.enabled=true",
+        "inventory.hot-stock.sync-interval-ms=600000"
+})
+class HotStockOrderTest extends IntegrationTestSupport {
+
+    private static final String ORDER_REQUEST = """
+            {
+              "receiverName": "홍길동",
+              "address": "서울시 핫딜로 1"
+            }
+            """;
+
+    @Autowired
+    private TestDataFactory testDataFactory;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private RedisHotStockService redisHotStockService;
+
+    @Autowired
+    private HotStockSyncJob hotStockSyncJob;
+
+    private final List<Long> hotBookIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        // Redis 는 테스트 간 공유되므로 핫 모드를 정리
+        for (Long bookId : hotBookIds) {
+            if (redisHotStockService.getHotBookIds().contains(bookId)) {
+                stockService.disableHotStock(bookId);
+            }
+        }
+        hotBookIds.clear();
+    }
+
+    @Test
+    @DisplayName("핫 재고 - 동시 주문에도 초과 판매가 없고, 동기화 후 DB 재고가 맞는다")
+    void concurrentOrders_hotStock_noOversell() throws Exception {
+        int hotStock = 25;
+        int buyers = 60;
+
+        Book hotBook = createBook("핫딜 도서", hotStock);
+        Book otherBook = createBook("일반 도서", 1_000);
+        enableHotStock(hotBook);
+
+        List<String> tokens = createBuyers("hot", buyers, hotBook, otherBook);
+        RunResult result = placeOrdersConcurrently(tokens, 16);
+
+        assertThat(result.succeeded()).isEqualTo(hotStock);
+        assertThat(result.outOfStock()).isEqualTo(buyers - hotStock);
+        assertThat(redisHotStockService.getAvailable(hotBook.getId())).isZero();
+        // 일반 도서는 기존처럼 DB 에서 차감 (실패 주문분은 롤백)
+        assertThat(stockOf(otherBook)).isEqualTo(1_000 - hotStock);
+
+        // write-behind 전에는 DB 재고가 그대로
+        assertThat(stockOf(hotBook)).isEqualTo(hotStock);
+        hotStockSyncJob.sync();
+        assertThat(stockOf(hotBook)).isZero();
+    }
+
+    @Test
+    @DisplayName("핫 재고 - 주문 취소 시 Redis 재고가 복구되고, 해제 시 DB 에 반영된다")
+    void cancelOrder_hotStock_restocks() throws Exception {
+        User buyer = testDataFactory.createNormalUser("hotcancel@example.com");
+        Book book = createBook("핫딜 취소 도서", 10);
+        enableHotStock(book);
+
+        Cart cart = testDataFactory.createCartForUser(buyer);
+        addToCart(cart, book, 3);
+
+        String token = obtainAccessToken("hotcancel@example.com", "1q2w3e4r");
+        long orderId = placeOrder(token);
+        assertThat(redisHotStockService.getAvailable(book.getId())).isEqualTo(7);
+
+        hotStockSyncJob.sync();
+        assertThat(stockOf(book)).isEqualTo(7);
+
+        mockMvc.perform(patch("/api/v1/orders/{id}/cancel", orderId)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        assertThat(redisHotStockService.getAvailable(book.getId())).isEqualTo(10);
+
+        // 해제하면 미반영분(+3)이 DB 에 반영되고 이후 주문은 DB 경로
+        mockMvc.perform(delete("/api/v1/admin/books/{id}/hot-stock", book.getId())
+                        .header("Authorization", "Bearer " + adminToken()))
+                .andExpect(status().isOk());
+        assertThat(stockOf(book)).isEqualTo(10);
+        assertThat(redisHotStockService.getAvailable(book.getId())).isNull();
+    }
+
+    @Test
+    @DisplayName("핫 재고 전환 실패 - 이미 핫 모드인 도서는 409")
+    void enableHotStock_fail_alreadyHot() throws Exception {
+        Book book = createBook("중복 전환 도서", 5);
+        enableHotStock(book);
+
+        mockMvc.perform(post("/api/v1/admin/books/{id}/hot-stock", book.getId())
+                        .header("Authorization", "Bearer " + adminToken()))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("STATE_CONFLICT"));
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("[benchmark] 인기 도서 하나에 몰린 주문 - MySQL 조건부 UPDATE vs Redis 핫 재고")
+    void benchmark_singleSku_mysqlVsRedis() throws Exception {
+        int buyers = 200;
+        int threads = 32;
+
+        Book mysqlBook = createBook("벤치 MySQL 도서", buyers);
+        RunResult mysql = placeOrdersConcurrently(
+                createBuyers("bench-db", buyers, mysqlBook, null), threads);
+
+        Book redisBook = createBook("벤치 Redis 도서", buyers);
+        enableHotStock(redisBook);
+        RunResult redis = placeOrdersConcurrently(
+                createBuyers("bench-hot", buyers, redisBook, null), threads);
+
+        System.out.printf("[hot-stock] buyers=%d threads=%d mysql=%.1f orders/sec redis=%.1f orders/sec%n",
+                buyers, threads, mysql.throughput(), redis.throughput());
+
+        assertThat(mysql.succeeded()).isEqualTo(buyers);
+        assertThat(redis.succeeded()).isEqualTo(buyers);
+    }
+
+    private List<String> createBuyers(String prefix, int count, Book first, Book second) {
+        List<String> tokens = new ArrayList<>();
+        String unique = prefix + System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            User buyer = testDataFactory.createNormalUser(unique + "-" + i + "@example.com");
+            Cart cart = testDataFactory.createCartForUser(buyer);
+            addToCart(cart, first, 1);
+            if (second != null) {
+                addToCart(cart, second, 1);
+            }
+            tokens.add(generateAccessToken(buyer.getId(), buyer.getEmail(), buyer.getRole().name()));
+        }
+        return tokens;
+    }
+
+    private RunResult placeOrdersConcurrently(List<String> tokens, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger outOfStock = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (String token : tokens) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                MvcResult result = mockMvc.perform(post("/api/v1/orders")
+                                .header("Authorization", "Bearer " + token)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(ORDER_REQUEST))
+                        .andReturn();
+
+                int httpStatus = result.getResponse().getStatus();
+                if (httpStatus == 200) {
+                    succeeded.incrementAndGet();
+                } else if (httpStatus == 409
+                        && result.getResponse().getContentAsString().contains("OUT_OF_STOCK")) {
+                    outOfStock.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(120, TimeUnit.SECONDS);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        return new RunResult(succeeded.get(), outOfStock.get(),
+                tokens.size() / (elapsedNanos / 1_000_000_000.0));
+    }
+
+    private long placeOrder(String token) throws Exception {
+        String responseBody = mockMvc.perform(post("/api/v1/orders")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ORDER_REQUEST))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        JsonNode root = objectMapper.readTree(responseBody);
+        return root.path("payload").path("id").asLong();
+    }
+
+    private void enableHotStock(Book book) throws Exception {
+        mockMvc.perform(post("/api/v1/admin/books/{id}/hot-stock", book.getId())
+                        .header("Authorization", "Bearer " + adminToken()))
+                .andExpect(status().isOk());
+        hotBookIds.add(book.getId());
+    }
+
+    private String adminToken() throws Exception {
+        testDataFactory.createAdminUser();
+        return obtainAccessToken("admin@example.com", "1q2w3e4r");
+    }
+
+    private Book createBook(String title, int stock) {
+        Book book = testDataFactory.createBookWithIsbn("H" + System.nanoTime(), title, "STOCK_TEST");
+        book.setStockQuantity(stock);
+        return bookRepository.save(book);
+    }
+
+    private void addToCart(Cart cart, Book book, int quantity) {
+        cartItemRepository.save(CartItem.builder()
+                .cart(cart)
+                .book(book)
+                .quantity(quantity)
+                .build());
+    }
+
+    private int stockOf(Book book) {
+        return bookRepository.findById(book.getId()).orElseThrow().getStockQuantity();
+    }
+
+    private record RunResult(int succeeded, int outOfStock, double throughput) {
+    }
+}
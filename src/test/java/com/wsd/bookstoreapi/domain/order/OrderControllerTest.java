@@ -12,6 +12,7 @@ import com.wsd.bookstoreapi.domain.order.repository.OrderRepository;
 import com.wsd.bookstoreapi.domain.user.entity.User;
 import com.wsd.bookstoreapi.support.IntegrationTestSupport;
 import com.wsd.bookstoreapi.support.TestDataFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -38,6 +39,9 @@ class OrderControllerTest extends IntegrationTestSupport {
     @Autowired
     private CartItemRepository cartItemRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private User user;
     private Book book1;
     private Book book2;
@@ -148,6 +152,40 @@ class OrderControllerTest extends IntegrationTestSupport {
                 .andExpect(jsonPath("$.code").value("STATE_CONFLICT"));
     }
 
+    @Test
+    @DisplayName("주문 지표 - 커밋된 주문은 created, 실패한 주문은 rejected 로 집계")
+    void createOrder_recordsMetrics() throws Exception {
+        double createdBefore = meterRegistry.counter("bookstore.orders.created").count();
+        double rejectedBefore = meterRegistry.counter("bookstore.orders.rejected", "reason", "STATE_CONFLICT").count();
+
+        String requestBody = """
+        {
+          "receiverName": "홍길동",
+          "address": "서울시 테스트로 123"
+        }
+        """;
+
+        mockMvc.perform(post("/api/v1/orders")
+                        .header("Authorization", "Bearer " + userAccessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isOk());
+
+        // 장바구니가 비었으므로 두 번째 주문은 409
+        mockMvc.perform(post("/api/v1/orders")
+                        .header("Authorization", "Bearer " + userAccessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isConflict());
+
+        assertThat(meterRegistry.counter("bookstore.orders.created").count())
+                .isEqualTo(createdBefore + 1);
+        assertThat(meterRegistry.counter("bookstore.orders.rejected", "reason", "STATE_CONFLICT").count())
+                .isEqualTo(rejectedBefore + 1);
+        assertThat(meterRegistry.find("bookstore.order.create").tag("outcome", "success").timer())
+                .isNotNull();
+    }
+
     @Test
     @DisplayName("내 주문 목록 조회 성공")
     void getMyOrders_success() throws Exception {
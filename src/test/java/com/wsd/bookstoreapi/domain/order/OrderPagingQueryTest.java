@@ -0,0 +1,147 @@
+package com.wsd.bookstoreapi.domain.order;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.wsd.bookstoreapi.domain.book.entity.Book;
+import com.wsd.bookstoreapi.domain.order.entity.Order;
+import com.wsd.bookstoreapi.domain.order.entity.OrderItem;
+import com.wsd.bookstoreapi.domain.order.entity.OrderStatus;
+import com.wsd.bookstoreapi.domain.order.repository.OrderRepository;
+import com.wsd.bookstoreapi.domain.user.entity.User;
+import com.wsd.bookstoreapi.support.IntegrationTestSupport;
+import com.wsd.bookstoreapi.support.TestDataFactory;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 주문 목록 페이지 조회 시 전체 주문을 메모리에 올리지 않는지 검증
+ * (Hibernate Statistics 로 쿼리 수/엔티티 로드 수 측정)
+ */
+class OrderPagingQueryTest extends IntegrationTestSupport {
+
+    private static final int ORDER_COUNT = 12;
+    private static final int ITEMS_PER_ORDER = 2;
+    private static final int PAGE_SIZE = 5;
+
+    @Autowired
+    private TestDataFactory testDataFactory;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        user = testDataFactory.createNormalUser("orderpaging@example.com");
+        Book book1 = testDataFactory.createSampleBook("페이징 테스트 도서 1");
+        Book book2 = testDataFactory.createSampleBook("페이징 테스트 도서 2");
+
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Order order = Order.builder()
+                    .user(user)
+                    .status(i % 2 == 0 ? OrderStatus.PENDING : OrderStatus.COMPLETED)
+                    .shippingAddress("서울시 페이징로 " + i)
+                    .totalAmount(BigDecimal.valueOf(60000))
+                    .build();
+
+            for (Book book : new Book[]{book1, book2}) {
+                order.getOrderItems().add(OrderItem.builder()
+                        .order(order)
+                        .book(book)
+                        .quantity(1)
+                        .unitPrice(book.getPrice())
+                        .lineTotal(book.getPrice())
+                        .build());
+            }
+            orderRepository.save(order);
+        }
+    }
+
+    @Test
+    @DisplayName("내 주문 목록 - 페이지 크기만큼만 로드하고 쿼리 수는 주문 수와 무관하다")
+    void getMyOrders_loadsOnlyOnePage() throws Exception {
+        String token = obtainAccessToken("orderpaging@example.com", "1q2w3e4r");
+
+        statistics.clear();
+
+        String responseBody = mockMvc.perform(get("/api/v1/orders")
+                        .header("Authorization", "Bearer " + token)
+                        .param("page", "0")
+                        .param("size", String.valueOf(PAGE_SIZE))
+                        .param("sort", "id,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isSuccess").value(true))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        JsonNode payload = objectMapper.readTree(responseBody).path("payload");
+        JsonNode content = payload.path("content");
+        assertThat(content.size()).isEqualTo(PAGE_SIZE);
+        assertThat(payload.path("totalElements").asLong()).isGreaterThanOrEqualTo(ORDER_COUNT);
+        content.forEach(order -> assertThat(order.path("items").size()).isEqualTo(ITEMS_PER_ORDER));
+
+        // 요청한 정렬(id desc)이 유지되어야 함
+        long previousId = Long.MAX_VALUE;
+        for (JsonNode order : content) {
+            assertThat(order.path("id").asLong()).isLessThan(previousId);
+            previousId = order.path("id").asLong();
+        }
+
+        // 사용자 조회(인증/서비스) + ID 페이지 + count + 주문/항목 fetch
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(5);
+        assertThat(entityLoadCount(Order.class)).isEqualTo(PAGE_SIZE);
+        assertThat(entityLoadCount(OrderItem.class)).isEqualTo(PAGE_SIZE * ITEMS_PER_ORDER);
+    }
+
+    @Test
+    @DisplayName("관리자 주문 목록(상태 필터) - 페이지 크기만큼만 로드한다")
+    void getOrdersForAdmin_loadsOnlyOnePage() throws Exception {
+        testDataFactory.createAdminUser();
+        String adminToken = obtainAccessToken("admin@example.com", "1q2w3e4r");
+
+        statistics.clear();
+
+        String responseBody = mockMvc.perform(get("/api/v1/admin/orders")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .param("status", "PENDING")
+                        .param("page", "0")
+                        .param("size", String.valueOf(PAGE_SIZE)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.payload.content.length()").value(PAGE_SIZE))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // 다른 테스트(다른 컨텍스트의 ID 블록)에서 만든 주문이 섞일 수 있으므로 응답에 담긴 항목 수와 비교
+        int itemsOnPage = 0;
+        for (JsonNode order : objectMapper.readTree(responseBody).path("payload").path("content")) {
+            itemsOnPage += order.path("items").size();
+        }
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+        assertThat(entityLoadCount(Order.class)).isEqualTo(PAGE_SIZE);
+        assertThat(entityLoadCount(OrderItem.class)).isEqualTo(itemsOnPage);
+    }
+
+    private long entityLoadCount(Class<?> entityClass) {
+        return statistics.getEntityStatistics(entityClass.getName()).getLoadCount();
+    }
+}
@@ -0,0 +1,159 @@
+package com.wsd.bookstoreapi.domain.order;
+
+import com.mysql.cj.MysqlConnection;
+import com.mysql.cj.Query;
+import com.mysql.cj.interceptors.QueryInterceptor;
+import com.mysql.cj.log.Log;
+import com.mysql.cj.protocol.Message;
+import com.mysql.cj.protocol.Resultset;
+import com.mysql.cj.protocol.ServerSession;
+import com.wsd.bookstoreapi.domain.book.entity.Book;
+import com.wsd.bookstoreapi.domain.cart.entity.Cart;
+import com.wsd.bookstoreapi.domain.cart.entity.CartItem;
+import com.wsd.bookstoreapi.domain.cart.repository.CartItemRepository;
+import com.wsd.bookstoreapi.domain.user.entity.User;
+import com.wsd.bookstoreapi.support.IntegrationTestSupport;
+import com.wsd.bookstoreapi.support.TestDataFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 주문 1건(장바구니 20줄) 생성 시 DB 왕복 횟수
+ * - Connector/J 인터셉터로 요청 스레드가 서버에 보낸 명령 수를 셈 (배치/재작성된 INSERT 는 1회)
+ * - SQL 종류별(INSERT/UPDATE/DELETE/SELECT ...) 문장 수도 함께 출력
+ * - ID 블록 예약(50개당 1회)은 전용 풀에서 실행되므로 집계에서 빠짐
+ */
+@Tag("benchmark")
+@TestPropertySource(properties =
+        "spring.datasource.hikari.data-source-properties.queryInterceptors="
+                + "com.wsd.bookstoreapi.domain.order.OrderRoundTripBenchmarkTest$RoundTripCounter")
+class OrderRoundTripBenchmarkTest extends IntegrationTestSupport {
+
+    private static final int LINES = 20;
+    private static final int ORDERS = 5;
+
+    @Autowired
+    private TestDataFactory testDataFactory;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Test
+    @DisplayName("[benchmark] 주문 생성 1건당 DB 왕복 횟수 (장바구니 20줄)")
+    void roundTripsPerOrder() throws Exception {
+        List<Integer> roundTrips = new ArrayList<>();
+        Map<String, Integer> statements = Map.of();
+
+        for (int run = 0; run < ORDERS; run++) {
+            String email = "roundtrip" + run + "@example.com";
+            User user = testDataFactory.createNormalUser(email);
+            Cart cart = testDataFactory.createCartForUser(user);
+
+            List<CartItem> items = new ArrayList<>();
+            for (int i = 0; i < LINES; i++) {
+                Book book = testDataFactory.createBookWithIsbn(
+                        "RT" + System.nanoTime() % 1_000_000_000L + i, "왕복 테스트 도서 " + i, "TEST_CATEGORY");
+                items.add(CartItem.builder().cart(cart).book(book).quantity(1).build());
+            }
+            cartItemRepository.saveAll(items);
+            String token = obtainAccessToken(email, "1q2w3e4r");
+
+            RoundTripCounter.start();
+            mockMvc.perform(post("/api/v1/orders")
+                            .header("Authorization", "Bearer " + token)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                    {
+                                      "receiverName": "홍길동",
+                                      "address": "서울시 왕복로 1"
+                                    }
+                                    """))
+                    .andExpect(status().isOk());
+            roundTrips.add(RoundTripCounter.stop());
+            statements = RoundTripCounter.statements();
+        }
+
+        Collections.sort(roundTrips);
+        System.out.printf("[order-round-trips] lines=%d orders=%d round trips/order: median=%d all=%s%n",
+                LINES, ORDERS, roundTrips.get(ORDERS / 2), roundTrips);
+        System.out.println("[order-round-trips] statements (last order): " + new TreeMap<>(statements));
+
+        assertThat(roundTrips.get(0)).isPositive();
+    }
+
+    /**
+     * 측정 중인 스레드가 서버로 보낸 명령(패킷 단위 = 왕복)과 SQL 문장 종류를 셈
+     */
+    public static class RoundTripCounter implements QueryInterceptor {
+
+        private static volatile Thread measured;
+        private static final AtomicInteger packets = new AtomicInteger();
+        private static final Map<String, Integer> statements = new ConcurrentHashMap<>();
+
+        static void start() {
+            packets.set(0);
+            statements.clear();
+            measured = Thread.currentThread();
+        }
+
+        static int stop() {
+            measured = null;
+            return packets.get();
+        }
+
+        static Map<String, Integer> statements() {
+            return Map.copyOf(statements);
+        }
+
+        @Override
+        public QueryInterceptor init(MysqlConnection conn, Properties props, Log log) {
+            return this;
+        }
+
+        @Override
+        public <M extends Message> M preProcess(M queryPacket) {
+            if (measured == Thread.currentThread()) {
+                packets.incrementAndGet();
+            }
+            return null;
+        }
+
+        @Override
+        public <T extends Resultset> T preProcess(Supplier<String> sql, Query interceptedQuery) {
+            if (measured == Thread.currentThread()) {
+                String text = sql.get();
+                String verb = text == null ? "?" : text.strip().split("\\s+", 2)[0].toUpperCase(Locale.ROOT);
+                statements.merge(verb, 1, Integer::sum);
+            }
+            return null;
+        }
+
+        @Override
+        public boolean executeTopLevelOnly() {
+            return false;
+        }
+
+        @Override
+        public void destroy() {
+        }
+
+        @Override
+        public <T extends Resultset> T postProcess(Supplier<String> sql, Query interceptedQuery,
+                                                   T originalResultSet, ServerSession serverSession) {
+            return null;
+        }
+    }
+}
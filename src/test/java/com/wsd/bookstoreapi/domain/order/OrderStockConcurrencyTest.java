@@ -0,0 +1,260 @@
+package com.wsd.bookstoreapi.domain.order;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.wsd.bookstoreapi.domain.book.entity.Book;
+import com.wsd.bookstoreapi.domain.book.repository.BookRepository;
+import com.wsd.bookstoreapi.domain.cart.entity.Cart;
+import com.wsd.bookstoreapi.domain.cart.entity.CartItem;
+import com.wsd.bookstoreapi.domain.cart.repository.CartItemRepository;
+import com.wsd.bookstoreapi.domain.cart.repository.CartRepository;
+import com.wsd.bookstoreapi.domain.user.entity.User;
+import com.wsd.bookstoreapi.support.IntegrationTestSupport;
+import com.wsd.bookstoreapi.support.TestDataFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 주문 생성 시 재고 차감 동시성 검증
+ * - 인기 도서(재고 한정) 하나에 여러 사용자가 동시에 주문해도 초과 판매가 없어야 함
+ */
+class OrderStockConcurrencyTest extends IntegrationTestSupport {
+
+    private static final String ORDER_REQUEST = """
+            {
+              "receiverName": "홍길동",
+              "address": "서울시 재고로 1"
+            }
+            """;
+
+    @Autowired
+    private TestDataFactory testDataFactory;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Test
+    @DisplayName("동시 주문 - 인기 도서 재고만큼만 주문이 성공하고 초과 판매가 없다")
+    void concurrentOrders_noOversell() throws Exception {
+        int hotStock = 25;
+        int buyers = 60;
+        int threads = 16;
+
+        Book hotBook = createBook("재고 경합 도서", hotStock);
+        Book otherBook = createBook("재고 여유 도서", 1_000);
+
+        // 사용자마다 장바구니 담는 순서를 다르게 해도 (도서 ID 순서로 갱신하므로) 교착이 없어야 함
+        List<String> tokens = new ArrayList<>();
+        String prefix = "stock" + System.nanoTime();
+        for (int i = 0; i < buyers; i++) {
+            User buyer = testDataFactory.createNormalUser(prefix + "-" + i + "@example.com");
+            Cart cart = testDataFactory.createCartForUser(buyer);
+            if (i % 2 == 0) {
+                addToCart(cart, hotBook, 1);
+                addToCart(cart, otherBook, 1);
+            } else {
+                addToCart(cart, otherBook, 1);
+                addToCart(cart, hotBook, 1);
+            }
+            tokens.add(generateAccessToken(buyer.getId(), buyer.getEmail(), buyer.getRole().name()));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger outOfStock = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (String token : tokens) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                MvcResult result = mockMvc.perform(post("/api/v1/orders")
+                                .header("Authorization", "Bearer " + token)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(ORDER_REQUEST))
+                        .andReturn();
+
+                int httpStatus = result.getResponse().getStatus();
+                if (httpStatus == 200) {
+                    succeeded.incrementAndGet();
+                } else if (httpStatus == 409
+                        && result.getResponse().getContentAsString().contains("OUT_OF_STOCK")) {
+                    outOfStock.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(succeeded.get()).isEqualTo(hotStock);
+        assertThat(outOfStock.get()).isEqualTo(buyers - hotStock);
+        assertThat(stockOf(hotBook)).isZero();
+        // 실패한 주문의 다른 도서 차감도 함께 롤백되어야 함
+        assertThat(stockOf(otherBook)).isEqualTo(1_000 - hotStock);
+    }
+
+    @Test
+    @DisplayName("주문 생성 실패 - 한 항목이라도 재고가 부족하면 주문 전체가 실패하고 재고/장바구니는 그대로다")
+    void createOrder_fail_whenAnyLineShort() throws Exception {
+        User buyer = testDataFactory.createNormalUser("stockshort@example.com");
+        Book enough = createBook("재고 충분 도서", 10);
+        Book shortBook = createBook("재고 부족 도서", 2);
+
+        Cart cart = testDataFactory.createCartForUser(buyer);
+        addToCart(cart, enough, 1);
+        addToCart(cart, shortBook, 5);
+
+        mockMvc.perform(post("/api/v1/orders")
+                        .header("Authorization", "Bearer " + obtainAccessToken("stockshort@example.com", "1q2w3e4r"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ORDER_REQUEST))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("OUT_OF_STOCK"));
+
+        assertThat(stockOf(enough)).isEqualTo(10);
+        assertThat(stockOf(shortBook)).isEqualTo(2);
+        assertThat(cartRepository.findByUser(buyer).orElseThrow().getItems()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("주문 취소 - 주문 수량만큼 재고가 복구된다")
+    void cancelOrder_restocks() throws Exception {
+        User buyer = testDataFactory.createNormalUser("stockcancel@example.com");
+        Book book = createBook("취소 복구 도서", 10);
+
+        Cart cart = testDataFactory.createCartForUser(buyer);
+        addToCart(cart, book, 3);
+
+        String token = obtainAccessToken("stockcancel@example.com", "1q2w3e4r");
+
+        String responseBody = mockMvc.perform(post("/api/v1/orders")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ORDER_REQUEST))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(stockOf(book)).isEqualTo(7);
+
+        JsonNode root = objectMapper.readTree(responseBody);
+        long orderId = root.path("payload").path("id").asLong();
+
+        mockMvc.perform(patch("/api/v1/orders/{id}/cancel", orderId)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.payload.status").value("CANCELED"));
+
+        assertThat(stockOf(book)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("동시 취소 - 사용자 취소와 관리자 취소가 겹쳐도 재고는 한 번만 복구된다")
+    void concurrentCancels_restockOnce() throws Exception {
+        User buyer = testDataFactory.createNormalUser("stockdoublecancel@example.com");
+        User admin = testDataFactory.createAdminUser();
+        Book book = createBook("동시 취소 도서", 10);
+
+        Cart cart = testDataFactory.createCartForUser(buyer);
+        addToCart(cart, book, 3);
+
+        String token = obtainAccessToken("stockdoublecancel@example.com", "1q2w3e4r");
+        String adminToken = generateAccessToken(admin.getId(), admin.getEmail(), admin.getRole().name());
+
+        String responseBody = mockMvc.perform(post("/api/v1/orders")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ORDER_REQUEST))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        long orderId = objectMapper.readTree(responseBody).path("payload").path("id").asLong();
+        assertThat(stockOf(book)).isEqualTo(7);
+
+        int requests = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger userCanceled = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // 절반은 사용자 취소, 절반은 관리자 상태 변경(CANCELED)
+        for (int i = 0; i < requests; i++) {
+            boolean byAdmin = i % 2 == 1;
+            futures.add(executor.submit(() -> {
+                start.await();
+                if (byAdmin) {
+                    mockMvc.perform(patch("/api/v1/admin/orders/{id}/status", orderId)
+                                    .header("Authorization", "Bearer " + adminToken)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content("""
+                                            { "status": "CANCELED" }
+                                            """))
+                            .andExpect(status().isOk());
+                } else {
+                    int httpStatus = mockMvc.perform(patch("/api/v1/orders/{id}/cancel", orderId)
+                                    .header("Authorization", "Bearer " + token))
+                            .andReturn().getResponse().getStatus();
+                    if (httpStatus == 200) {
+                        userCanceled.incrementAndGet();
+                    } else {
+                        assertThat(httpStatus).isEqualTo(409);
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(userCanceled.get()).isLessThanOrEqualTo(1);
+        assertThat(stockOf(book)).isEqualTo(10);
+    }
+
+    private Book createBook(String title, int stock) {
+        Book book = testDataFactory.createBookWithIsbn("S" + System.nanoTime(), title, "STOCK_TEST");
+        book.setStockQuantity(stock);
+        return bookRepository.save(book);
+    }
+
+    private void addToCart(Cart cart, Book book, int quantity) {
+        cartItemRepository.save(CartItem.builder()
+                .cart(cart)
+                .book(book)
+                .quantity(quantity)
+                .build());
+    }
+
+    private int stockOf(Book book) {
+        return bookRepository.findById(book.getId()).orElseThrow().getStockQuantity();
+    }
+}
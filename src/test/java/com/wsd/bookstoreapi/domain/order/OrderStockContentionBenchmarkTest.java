@@ -0,0 +1,134 @@
+package com.wsd.bookstoreapi.domain.order;
+
+import com.wsd.bookstoreapi.domain.book.entity.Book;
+import com.wsd.bookstoreapi.domain.book.repository.BookRepository;
+import com.wsd.bookstoreapi.domain.cart.entity.Cart;
+import com.wsd.bookstoreapi.domain.cart.entity.CartItem;
+import com.wsd.bookstoreapi.domain.cart.repository.CartItemRepository;
+import com.wsd.bookstoreapi.domain.user.entity.User;
+import com.wsd.bookstoreapi.support.IntegrationTestSupport;
+import com.wsd.bookstoreapi.support.TestDataFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 인기 도서 재고 경합 시 주문 처리량
+ * - 재고 25권 도서 + 여유 도서를 담은 구매자 60명이 16 스레드로 동시에 주문
+ * - 회차마다 새 도서/구매자로 측정, 경과 시간 중앙값과 처리량 출력
+ * (정확성 검증은 OrderStockConcurrencyTest)
+ */
+@Tag("benchmark")
+class OrderStockContentionBenchmarkTest extends IntegrationTestSupport {
+
+    private static final int HOT_STOCK = 25;
+    private static final int BUYERS = 60;
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private TestDataFactory testDataFactory;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Test
+    @DisplayName("[benchmark] 재고 경합 주문 처리량 (구매자 60명, 재고 25)")
+    void contendedOrders_throughput() throws Exception {
+        List<Long> elapsedMillis = new ArrayList<>();
+        int succeeded = 0;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            Book hotBook = createBook("경합 벤치 도서 " + round, HOT_STOCK);
+            Book otherBook = createBook("여유 벤치 도서 " + round, 1_000);
+            List<String> tokens = createBuyers("stockbench" + round + "-" + System.nanoTime(), hotBook, otherBook);
+
+            AtomicInteger ok = new AtomicInteger();
+            long elapsed = placeOrdersConcurrently(tokens, ok);
+            elapsedMillis.add(TimeUnit.NANOSECONDS.toMillis(elapsed));
+            succeeded = ok.get();
+        }
+
+        Collections.sort(elapsedMillis);
+        long median = elapsedMillis.get(ROUNDS / 2);
+        System.out.printf("[stock] buyers=%d threads=%d rounds=%d elapsed median=%dms all=%s throughput=%.1f orders/sec%n",
+                BUYERS, THREADS, ROUNDS, median, elapsedMillis, BUYERS / (median / 1000.0));
+
+        assertThat(succeeded).isEqualTo(HOT_STOCK);
+    }
+
+    private long placeOrdersConcurrently(List<String> tokens, AtomicInteger succeeded) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (String token : tokens) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                int status = mockMvc.perform(post("/api/v1/orders")
+                                .header("Authorization", "Bearer " + token)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                          "receiverName": "홍길동",
+                                          "address": "서울시 재고로 1"
+                                        }
+                                        """))
+                        .andReturn().getResponse().getStatus();
+                if (status == 200) {
+                    succeeded.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        executor.shutdown();
+        return elapsed;
+    }
+
+    private List<String> createBuyers(String prefix, Book hotBook, Book otherBook) {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < BUYERS; i++) {
+            User buyer = testDataFactory.createNormalUser(prefix + "-" + i + "@example.com");
+            Cart cart = testDataFactory.createCartForUser(buyer);
+            addToCart(cart, i % 2 == 0 ? hotBook : otherBook);
+            addToCart(cart, i % 2 == 0 ? otherBook : hotBook);
+            tokens.add(generateAccessToken(buyer.getId(), buyer.getEmail(), buyer.getRole().name()));
+        }
+        return tokens;
+    }
+
+    private Book createBook(String title, int stock) {
+        Book book = testDataFactory.createBookWithIsbn("SB" + System.nanoTime(), title, "STOCK_TEST");
+        book.setStockQuantity(stock);
+        return bookRepository.save(book);
+    }
+
+    private void addToCart(Cart cart, Book book) {
+        cartItemRepository.save(CartItem.builder()
+                .cart(cart)
+                .book(book)
+                .quantity(1)
+                .build());
+    }
+}
@@ -2,6 +2,7 @@ package com.wsd.bookstoreapi.domain.review;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.wsd.bookstoreapi.domain.book.entity.Book;
+import com.wsd.bookstoreapi.domain.book.service.BookRatingRepairJob;
 import com.wsd.bookstoreapi.domain.review.entity.Review;
 import com.wsd.bookstoreapi.domain.review.repository.ReviewRepository;
 import com.wsd.bookstoreapi.domain.user.entity.User;
@@ -12,8 +13,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -25,6 +28,12 @@ class ReviewControllerTest extends IntegrationTestSupport {
     @Autowired
     private ReviewRepository reviewRepository;
 
+    @Autowired
+    private BookRatingRepairJob bookRatingRepairJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private User user;
     private Book book;
     private String userAccessToken;
@@ -199,4 +208,65 @@ class ReviewControllerTest extends IntegrationTestSupport {
 
         assertThat(reviewRepository.findById(review.getId())).isEmpty();
     }
+
+    @Test
+    @DisplayName("평점 집계 - 리뷰 작성/수정/삭제가 도서 응답의 평균/리뷰 수/분포에 바로 반영된다")
+    void ratingAggregates_followReviewChanges() throws Exception {
+        Book rated = testDataFactory.createBookWithIsbn("RA" + System.nanoTime(), "평점 집계 도서", "TEST_CATEGORY");
+        User other = testDataFactory.createNormalUser("reviewer2@example.com");
+        testDataFactory.createReview(other, rated, 2, "다른 사용자 리뷰");
+        jdbcTemplate.update("UPDATE books SET rating_sum = 2, rating_count = 1, rating_2 = 1 WHERE id = ?", rated.getId());
+
+        // 캐시에 먼저 올려 두고, 리뷰 변경 후 무효화되는지도 확인
+        mockMvc.perform(get("/api/v1/books/{id}", rated.getId()))
+                .andExpect(jsonPath("$.payload.ratingCount").value(1));
+
+        mockMvc.perform(post("/api/v1/books/{bookId}/reviews", rated.getId())
+                        .header("Authorization", "Bearer " + userAccessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "rating": 5, "content": "최고" }
+                                """))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/v1/books/{id}", rated.getId()))
+                .andExpect(jsonPath("$.payload.ratingCount").value(2))
+                .andExpect(jsonPath("$.payload.ratingAverage").value(3.5))
+                .andExpect(jsonPath("$.payload.ratingHistogram").value(contains(0, 1, 0, 0, 1)));
+
+        mockMvc.perform(patch("/api/v1/books/{bookId}/reviews/me", rated.getId())
+                        .header("Authorization", "Bearer " + userAccessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "rating": 3 }
+                                """))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/books/{id}", rated.getId()))
+                .andExpect(jsonPath("$.payload.ratingCount").value(2))
+                .andExpect(jsonPath("$.payload.ratingAverage").value(2.5))
+                .andExpect(jsonPath("$.payload.ratingHistogram").value(contains(0, 1, 1, 0, 0)));
+
+        mockMvc.perform(delete("/api/v1/books/{bookId}/reviews/me", rated.getId())
+                        .header("Authorization", "Bearer " + userAccessToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/books/{id}", rated.getId()))
+                .andExpect(jsonPath("$.payload.ratingCount").value(1))
+                .andExpect(jsonPath("$.payload.ratingAverage").value(2.0))
+                .andExpect(jsonPath("$.payload.ratingHistogram").value(contains(0, 1, 0, 0, 0)));
+    }
+
+    @Test
+    @DisplayName("평점 집계 복구 - 어긋난 집계를 reviews 기준으로 다시 계산한다")
+    void ratingRepair_rebuildsFromReviews() throws Exception {
+        Book drifted = testDataFactory.createBookWithIsbn("RR" + System.nanoTime(), "집계 복구 도서", "TEST_CATEGORY");
+        testDataFactory.createReview(user, drifted, 4, "복구 대상 리뷰 1");
+        testDataFactory.createReview(testDataFactory.createNormalUser("reviewer3@example.com"), drifted, 5, "복구 대상 리뷰 2");
+        jdbcTemplate.update("UPDATE books SET rating_sum = 100, rating_count = 7, rating_1 = 7 WHERE id = ?", drifted.getId());
+
+        assertThat(bookRatingRepairJob.repair()).isGreaterThanOrEqualTo(1);
+
+        mockMvc.perform(get("/api/v1/books/{id}", drifted.getId()))
+                .andExpect(jsonPath("$.payload.ratingCount").value(2))
+                .andExpect(jsonPath("$.payload.ratingAverage").value(4.5))
+                .andExpect(jsonPath("$.payload.ratingHistogram").value(contains(0, 0, 0, 1, 1)));
+    }
 }
@@ -1,5 +1,6 @@
 package com.wsd.bookstoreapi.domain.user;
 
+import com.wsd.bookstoreapi.domain.user.entity.User;
 import com.wsd.bookstoreapi.support.IntegrationTestSupport;
 import com.wsd.bookstoreapi.support.TestDataFactory;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 class AdminUserControllerTest extends IntegrationTestSupport {
@@ -65,4 +67,27 @@ class AdminUserControllerTest extends IntegrationTestSupport {
                 .andExpect(jsonPath("$.code").value("UNAUTHORIZED"));
     }
 
+
+    @Test
+    @DisplayName("관리자 - 회원 비활성화 시 기존 토큰이 모두 폐기되어 재활성화 후에도 다시 로그인해야 한다")
+    void deactivateUser_revokesOutstandingTokens() throws Exception {
+        User user = testDataFactory.createNormalUser("revoked@example.com");
+        String userToken = obtainAccessToken("revoked@example.com", "1q2w3e4r");
+
+        mockMvc.perform(patch("/api/v1/admin/users/{id}/deactivate", user.getId())
+                        .header("Authorization", "Bearer " + adminAccessToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(patch("/api/v1/admin/users/{id}/activate", user.getId())
+                        .header("Authorization", "Bearer " + adminAccessToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/favorites")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isUnauthorized());
+
+        String newToken = obtainAccessToken("revoked@example.com", "1q2w3e4r");
+        mockMvc.perform(get("/api/v1/favorites")
+                        .header("Authorization", "Bearer " + newToken))
+                .andExpect(status().isOk());
+    }
 }
@@ -2,6 +2,9 @@ package com.wsd.bookstoreapi.domain.user;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.wsd.bookstoreapi.support.IntegrationTestSupport;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import com.wsd.bookstoreapi.support.TestDataFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,9 +18,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 class UserMeControllerTest extends IntegrationTestSupport {
 
+    private static final String USER_STATUS_QUERY = "SELECT u.status FROM User u WHERE u.id = :id";
+
     @Autowired
     private TestDataFactory testDataFactory;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private String userAccessToken;
 
     @BeforeEach
@@ -90,4 +98,42 @@ class UserMeControllerTest extends IntegrationTestSupport {
         // 구현에 따라 401 / 404 / 409 등으로 정의해 두었을 것이라,
         // 별도 테스트 케이스로 분리해서 검증해도 좋습니다.
     }
+
+    @Test
+    @DisplayName("계정 상태 캐시 - 반복 요청은 DB 상태 조회 없이 처리되고, 비활성화 즉시 차단된다")
+    void userStatusCache_skipsDbAndInvalidatesOnDeactivate() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // 1. 첫 요청에서 상태를 캐시에 적재
+        mockMvc.perform(get("/api/v1/favorites")
+                        .header("Authorization", "Bearer " + userAccessToken))
+                .andExpect(status().isOk());
+
+        // 2. 이후 요청은 상태 조회 쿼리를 실행하지 않음
+        statistics.clear();
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(get("/api/v1/favorites")
+                            .header("Authorization", "Bearer " + userAccessToken))
+                    .andExpect(status().isOk());
+        }
+        assertThat(statistics.getQueryStatistics(USER_STATUS_QUERY).getExecutionCount()).isZero();
+
+        // 3. 비활성화하면 캐시가 무효화되어 바로 다음 요청부터 거부
+        mockMvc.perform(patch("/api/v1/users/me/deactivate")
+                        .header("Authorization", "Bearer " + userAccessToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/favorites")
+                        .header("Authorization", "Bearer " + userAccessToken))
+                .andExpect(status().isUnauthorized());
+
+        // 4. 재활성화하면 다시 허용
+        mockMvc.perform(patch("/api/v1/users/me/activate")
+                        .header("Authorization", "Bearer " + userAccessToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/favorites")
+                        .header("Authorization", "Bearer " + userAccessToken))
+                .andExpect(status().isOk());
+    }
 }
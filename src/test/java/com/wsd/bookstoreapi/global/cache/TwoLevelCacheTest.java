@@ -0,0 +1,86 @@
+package com.wsd.bookstoreapi.global.cache;
+
+import com.wsd.bookstoreapi.support.IntegrationTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * 2단 캐시 로딩 공유/무효화 검증 (문자열 값을 쓰는 userStatus 캐시, 테스트마다 고유 키)
+ */
+class TwoLevelCacheTest extends IntegrationTestSupport {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    @DisplayName("적재 중에 무효화되면 적재한 옛 값은 로컬/Redis 어디에도 남지 않는다")
+    void evictDuringLoad_doesNotCacheStaleValue() throws Exception {
+        Cache cache = cacheManager.getCache(CacheNames.USER_STATUS);
+        String key = "cache-evict-" + System.nanoTime();
+        CountDownLatch loaderEntered = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            // 쓰기 커밋 전에 DB 를 읽은 조회
+            Future<String> staleLoad = executor.submit(() -> cache.get(key, () -> {
+                loaderEntered.countDown();
+                releaseLoader.await();
+                return "old";
+            }));
+            assertThat(loaderEntered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // 커밋 후 무효화가 적재보다 먼저 끝남
+            cache.evict(key);
+            releaseLoader.countDown();
+            assertThat(staleLoad.get(5, TimeUnit.SECONDS)).isEqualTo("old");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(cache.get(key, () -> "new")).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("로더가 Error 를 던져도 같은 키를 기다리던 요청은 멈추지 않고 같은 Error 를 받는다")
+    void loaderError_propagatesToWaiters() throws Exception {
+        Cache cache = cacheManager.getCache(CacheNames.USER_STATUS);
+        String key = "cache-error-" + System.nanoTime();
+        CountDownLatch loaderEntered = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+
+        // 기다리는 요청이 멈추면 close() 도 끝나지 않으므로 try-with-resources 대신 shutdownNow
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            Future<String> owner = executor.submit(() -> cache.get(key, () -> {
+                loaderEntered.countDown();
+                releaseLoader.await();
+                throw new StackOverflowError("loader failed");
+            }));
+            assertThat(loaderEntered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Future<String> waiter = executor.submit(() -> cache.get(key, () -> "waiter-loaded"));
+            // waiter 가 진행 중인 로딩에 합류할 시간
+            Thread.sleep(200);
+            releaseLoader.countDown();
+
+            Throwable ownerFailure = catchThrowable(() -> owner.get(5, TimeUnit.SECONDS));
+            Throwable waiterFailure = catchThrowable(() -> waiter.get(5, TimeUnit.SECONDS));
+
+            assertThat(ownerFailure).isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(StackOverflowError.class);
+            assertThat(waiterFailure).isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(StackOverflowError.class);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.wsd.bookstoreapi.global.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("한도를 넘는 요청은 즉시 503 으로 거절되고, 인증 API 와 /health 는 통과한다")
+    void overload_shedsNormalRequests() throws Exception {
+        // 고정 한도 2, 일반 요청은 1개까지
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(true, 2, 2, 2, 1.5, 0.2, 600, 0.5);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+                limiter, objectMapper, List.of("/api/**"), List.of("/api/v1/auth/**"));
+
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<MockHttpServletResponse> slow = executor.submit(() -> {
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                filter.doFilter(request("/api/v1/orders"), response, (req, res) -> {
+                    entered.countDown();
+                    await(release);
+                });
+                return response;
+            });
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            MockHttpServletResponse shed = new MockHttpServletResponse();
+            filter.doFilter(request("/api/v1/books"), shed, (req, res) -> {
+                throw new AssertionError("shed request must not reach the controller");
+            });
+            assertThat(shed.getStatus()).isEqualTo(503);
+            assertThat(shed.getHeader("Retry-After")).isEqualTo("1");
+            assertThat(objectMapper.readTree(shed.getContentAsString()).get("code").asText())
+                    .isEqualTo("SERVICE_UNAVAILABLE");
+
+            MockHttpServletResponse login = new MockHttpServletResponse();
+            filter.doFilter(request("/api/v1/auth/login"), login, (req, res) -> { });
+            assertThat(login.getStatus()).isEqualTo(200);
+
+            MockHttpServletResponse health = new MockHttpServletResponse();
+            filter.doFilter(request("/health"), health, (req, res) -> { });
+            assertThat(health.getStatus()).isEqualTo(200);
+
+            release.countDown();
+            assertThat(slow.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(200);
+            assertThat(limiter.getInFlight()).isZero();
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setRequestURI(path);
+        return request;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
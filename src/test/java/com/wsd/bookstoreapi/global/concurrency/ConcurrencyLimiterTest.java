@@ -0,0 +1,82 @@
+package com.wsd.bookstoreapi.global.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimiterTest {
+
+    private static final long RTT_10MS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    @DisplayName("응답 시간이 안정적이고 한도를 다 쓰고 있으면 한도가 늘어난다")
+    void stableLatency_limitGrows() {
+        GradientLimit limit = new GradientLimit(20, 4, 200, 1.5, 0.2, 600);
+
+        for (int i = 0; i < 200; i++) {
+            limit.onSample(RTT_10MS, limit.getLimit());
+        }
+
+        assertThat(limit.getLimit()).isGreaterThan(20);
+    }
+
+    @Test
+    @DisplayName("응답 시간이 평소보다 크게 늘어나면 한도가 줄어든다 (최소값 아래로는 내려가지 않음)")
+    void latencySpike_limitShrinks() {
+        GradientLimit limit = new GradientLimit(50, 4, 200, 1.5, 0.2, 600);
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(RTT_10MS, limit.getLimit());
+        }
+        int before = limit.getLimit();
+
+        for (int i = 0; i < 30; i++) {
+            limit.onSample(RTT_10MS * 5, limit.getLimit());
+        }
+        int afterSpike = limit.getLimit();
+
+        for (int i = 0; i < 500; i++) {
+            limit.onSample(RTT_10MS * 50, limit.getLimit());
+        }
+
+        assertThat(afterSpike).isLessThan(before / 2);
+        assertThat(limit.getLimit()).isGreaterThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("한도의 절반도 쓰지 않는 구간에서는 한도를 키우지 않는다")
+    void lowUtilization_limitUnchanged() {
+        GradientLimit limit = new GradientLimit(20, 4, 200, 1.5, 0.2, 600);
+
+        for (int i = 0; i < 200; i++) {
+            limit.onSample(RTT_10MS, 2);
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("일반 요청은 한도의 normal-share 까지만, 우선 요청은 한도 전체를 사용한다")
+    void normalShare_reservesHeadroomForPriority() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(true, 10, 10, 10, 1.5, 0.2, 600, 0.8);
+        List<ConcurrencyLimiter.Token> held = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++) {
+            held.add(limiter.tryAcquire(RequestPriority.NORMAL).orElseThrow());
+        }
+        assertThat(limiter.tryAcquire(RequestPriority.NORMAL)).isEmpty();
+
+        held.add(limiter.tryAcquire(RequestPriority.HIGH).orElseThrow());
+        held.add(limiter.tryAcquire(RequestPriority.HIGH).orElseThrow());
+        assertThat(limiter.tryAcquire(RequestPriority.HIGH)).isEmpty();
+        assertThat(limiter.getRejectedCount()).isEqualTo(2);
+
+        held.forEach(ConcurrencyLimiter.Token::onSuccess);
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.tryAcquire(RequestPriority.NORMAL)).isPresent();
+    }
+}
@@ -0,0 +1,174 @@
+package com.wsd.bookstoreapi.global.datasource;
+
+import com.wsd.bookstoreapi.domain.book.entity.Book;
+import com.wsd.bookstoreapi.domain.book.service.BookService;
+import com.wsd.bookstoreapi.domain.user.entity.User;
+import com.wsd.bookstoreapi.global.security.UserPrincipal;
+import com.wsd.bookstoreapi.support.IntegrationTestSupport;
+import com.wsd.bookstoreapi.support.TestDataFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 검증
+ * - replica 대신 같은 서버의 별도 스키마 사용: 테이블 구조만 복사하고 데이터는 복제하지 않음
+ * - 어느 쪽 커넥션인지는 SELECT DATABASE() 로 확인
+ * - 지연 확인 주기를 길게 두고 테스트에서 직접 check() 호출
+ */
+@TestPropertySource(properties = {
+        "datasource.replica.urls=jdbc:mysql://localhost:3306/" + ReadWriteRoutingTest.REPLICA_SCHEMA
+                + "?createDatabaseIfNotExist=true&characterEncoding=UTF-8&serverTimezone=Asia/Seoul",
+        "datasource.replica.lag-check-interval=10m",
+        "book.search.index.enabled=false"
+})
+class ReadWriteRoutingTest extends IntegrationTestSupport {
+
+    static final String REPLICA_SCHEMA = "bookstore_test_replica";
+    private static final String PRIMARY_SCHEMA = "bookstore_test";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private TestDataFactory testDataFactory;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @BeforeEach
+    void setUp() {
+        // 트랜잭션 없는 JdbcTemplate 은 primary → primary 의 테이블 구조를 replica 스키마로 복사
+        jdbcTemplate.execute("CREATE DATABASE IF NOT EXISTS " + REPLICA_SCHEMA);
+        List<String> tables = jdbcTemplate.queryForList(
+                "SELECT table_name FROM information_schema.tables WHERE table_schema = DATABASE()", String.class);
+        jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 0");
+        for (String table : tables) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + REPLICA_SCHEMA + "." + table);
+            jdbcTemplate.execute("CREATE TABLE " + REPLICA_SCHEMA + "." + table + " LIKE " + table);
+        }
+        jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 1");
+
+        replicaLagMonitor.check();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        replicaLagMonitor.check();
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션만 replica, 쓰기/트랜잭션 없음은 primary")
+    void readOnlyTransaction_routesToReplica() {
+        assertThat(databaseIn(true)).isEqualTo(REPLICA_SCHEMA);
+        assertThat(databaseIn(false)).isEqualTo(PRIMARY_SCHEMA);
+        assertThat(jdbcTemplate.queryForObject("SELECT DATABASE()", String.class)).isEqualTo(PRIMARY_SCHEMA);
+    }
+
+    @Test
+    @DisplayName("replica 가 지연/장애로 제외되면 readOnly 도 primary")
+    void unavailableReplica_fallsBackToPrimary() {
+        replicaLagMonitor.getReplicas().forEach(ReplicaLagMonitor.Replica::markUnavailable);
+
+        assertThat(databaseIn(true)).isEqualTo(PRIMARY_SCHEMA);
+    }
+
+    @Test
+    @DisplayName("replica 목록이 비어 있으면 readOnly 도 primary")
+    void noReplicas_routesToPrimary() {
+        ReplicaLagMonitor noReplicas = new ReplicaLagMonitor(
+                List.of(), Duration.ofSeconds(5), Duration.ofSeconds(2), new SimpleMeterRegistry());
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+                jdbcTemplate.getDataSource(), noReplicas, readYourWritesTracker, new SimpleMeterRegistry());
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    @Test
+    @DisplayName("장바구니를 변경한 사용자는 이후 조회도 primary (다른 사용자는 replica)")
+    void cartWrite_readsOwnWritesFromPrimary() throws Exception {
+        User writer = testDataFactory.createNormalUser("ryw-writer@example.com");
+        User other = testDataFactory.createNormalUser("ryw-other@example.com");
+        Book book = testDataFactory.createSampleBook("복제 지연 테스트 도서");
+        String token = obtainAccessToken("ryw-writer@example.com", "1q2w3e4r");
+
+        mockMvc.perform(post("/api/v1/cart/items")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "bookId": %d,
+                                  "quantity": 1
+                                }
+                                """.formatted(book.getId())))
+                .andExpect(status().isCreated());
+
+        // replica 에는 장바구니가 없으므로 primary 에서 읽어야만 방금 담은 도서가 보임
+        mockMvc.perform(get("/api/v1/cart")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.payload.items[0].bookId").value(book.getId().intValue()));
+
+        authenticate(writer);
+        assertThat(databaseIn(true)).isEqualTo(PRIMARY_SCHEMA);
+
+        authenticate(other);
+        assertThat(databaseIn(true)).isEqualTo(REPLICA_SCHEMA);
+    }
+
+    @Test
+    @DisplayName("공유 캐시에 올리는 값은 replica 가 아니라 primary 에서 적재")
+    void cacheLoad_readsFromPrimary() {
+        Book book = testDataFactory.createSampleBook("캐시 적재 테스트 도서");
+
+        // replica 에서 읽었다면 도서가 없어 404
+        assertThat(bookService.getBook(book.getId()).getTitle()).isEqualTo("캐시 적재 테스트 도서");
+    }
+
+    private String databaseIn(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    private static void authenticate(User user) {
+        UserPrincipal principal = new UserPrincipal(user.getId(), user.getEmail(), user.getRole().name());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
@@ -0,0 +1,75 @@
+package com.wsd.bookstoreapi.global.health;
+
+import com.wsd.bookstoreapi.support.IntegrationTestSupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class HealthControllerTest extends IntegrationTestSupport {
+
+    @Autowired
+    private HealthService healthService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${management.server.port}")
+    private int managementPort;
+
+    @Test
+    @DisplayName("liveness 는 인증 없이 항상 200")
+    void live_ok() throws Exception {
+        mockMvc.perform(get("/health/live"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isSuccess").value(true));
+    }
+
+    @Test
+    @DisplayName("백그라운드 확인 후 /health, /health/ready 는 캐시된 결과로 UP 응답")
+    void ready_afterProbe() throws Exception {
+        healthService.refresh();
+
+        mockMvc.perform(get("/health/ready"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.payload.status").value("UP"));
+
+        mockMvc.perform(get("/health"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.payload.dbStatus").value("UP"))
+                .andExpect(jsonPath("$.payload.redisStatus").value("UP"))
+                .andExpect(jsonPath("$.payload.checkedAt").isNotEmpty());
+    }
+
+    @Test
+    @DisplayName("의존성별 확인 소요 시간이 health.probe 타이머로 기록된다")
+    void probe_recordsLatency() {
+        healthService.refresh();
+
+        for (String dependency : new String[]{HealthService.DB, HealthService.REDIS}) {
+            Timer timer = meterRegistry.find("health.probe")
+                    .tags("dependency", dependency, "outcome", "up")
+                    .timer();
+            assertThat(timer).isNotNull();
+            assertThat(timer.count()).isPositive();
+        }
+    }
+
+    @Test
+    @DisplayName("관리 포트로 들어온 요청이라도 Actuator 경로가 아니면 인증 필요")
+    void managementPort_onlyActuatorIsPublic() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/orders")
+                        .with(request -> {
+                            request.setLocalPort(managementPort);
+                            return request;
+                        }))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,213 @@
+package com.wsd.bookstoreapi.global.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * access 로그 경로별 요청당 오버헤드 (16 스레드, 파일 출력)
+ * - none: 로그 없음 (필터 없이 chain 만 호출한 기준값)
+ * - legacy: 기존 방식 - 매 요청 INFO 패턴 로그를 동기 FileAppender 로 기록
+ * - async 100%: 신규 필터, 모든 요청을 비동기 JSON 으로 기록
+ * - async 10%: 신규 필터, 10% 샘플링 (운영 기본값)
+ */
+@Tag("benchmark")
+class RequestLoggingBenchmarkTest {
+
+    private static final int THREADS = 16;
+    private static final int REQUESTS_PER_THREAD = 50_000;
+    private static final int ROUNDS = 3;
+    private static final String LEGACY_LOGGER = "LEGACY_ACCESS";
+
+    private final LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+    private final List<Appender<ILoggingEvent>> started = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        for (String name : List.of(RequestLoggingFilter.ACCESS_LOGGER, LEGACY_LOGGER)) {
+            context.getLogger(name).detachAndStopAllAppenders();
+            context.getLogger(name).setAdditive(true);
+        }
+        started.forEach(Appender::stop);
+    }
+
+    @Test
+    @DisplayName("[benchmark] 동기 INFO 로그 vs 비동기 JSON + 샘플링")
+    void legacyVsAsyncSampled() throws Exception {
+        context.putObject(Environment.class.getName(), new StandardEnvironment());
+
+        Path dir = Files.createTempDirectory("access-log-bench");
+        Filter none = (request, response, chain) -> chain.doFilter(request, response);
+        Filter legacy = new LegacyRequestLoggingFilter();
+        Filter asyncAll = new RequestLoggingFilter(1.0, Duration.ofMillis(500), 400);
+        Filter asyncSampled = new RequestLoggingFilter(0.1, Duration.ofMillis(500), 400);
+
+        double[] nanos = new double[4];
+        for (int round = 0; round < ROUNDS; round++) {
+            nanos[0] = measure(none);
+
+            Path legacyFile = dir.resolve("legacy-" + round + ".log");
+            route(LEGACY_LOGGER, fileAppender(legacyFile, patternEncoder()));
+            nanos[1] = measure(legacy);
+
+            Path asyncFile = dir.resolve("async-" + round + ".log");
+            route(RequestLoggingFilter.ACCESS_LOGGER, asyncAppender(fileAppender(asyncFile, jsonEncoder())));
+            nanos[2] = measure(asyncAll);
+
+            Path sampledFile = dir.resolve("sampled-" + round + ".log");
+            route(RequestLoggingFilter.ACCESS_LOGGER, asyncAppender(fileAppender(sampledFile, jsonEncoder())));
+            nanos[3] = measure(asyncSampled);
+            context.getLogger(RequestLoggingFilter.ACCESS_LOGGER).detachAndStopAllAppenders();
+
+            if (round == ROUNDS - 1) {
+                long total = (long) THREADS * REQUESTS_PER_THREAD;
+                System.out.printf("[access-log] written lines of %d: legacy=%d async100=%d async10=%d%n",
+                        total, lines(legacyFile), lines(asyncFile), lines(sampledFile));
+                System.out.println("[access-log] sample: " + Files.readAllLines(asyncFile).get(0));
+            }
+        }
+
+        System.out.printf("[access-log] threads=%d ns/request: none=%.0f legacy=%.0f async100=%.0f async10=%.0f%n",
+                THREADS, nanos[0], nanos[1], nanos[2], nanos[3]);
+        System.out.printf("[access-log] overhead ns/request: legacy=%.0f async100=%.0f async10=%.0f%n",
+                nanos[1] - nanos[0], nanos[2] - nanos[0], nanos[3] - nanos[0]);
+
+        assertThat(nanos[3]).isPositive();
+    }
+
+    /**
+     * 전체 요청 처리 시간 / 요청 수 (wall clock 기준 ns)
+     */
+    private double measure(Filter filter) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        FilterChain chain = (request, response) -> ((HttpServletResponse) response).setStatus(200);
+
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                HttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/books/42");
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                start.await();
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    filter.doFilter(request, response, chain);
+                }
+                return null;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+
+        return (double) elapsed / ((long) THREADS * REQUESTS_PER_THREAD);
+    }
+
+    private void route(String loggerName, Appender<ILoggingEvent> appender) {
+        Logger logger = context.getLogger(loggerName);
+        logger.detachAndStopAllAppenders();
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+    }
+
+    private FileAppender<ILoggingEvent> fileAppender(Path file, Encoder<ILoggingEvent> encoder) {
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setFile(file.toString());
+        appender.setEncoder(encoder);
+        appender.start();
+        started.add(appender);
+        return appender;
+    }
+
+    private AsyncAppender asyncAppender(Appender<ILoggingEvent> delegate) {
+        AsyncAppender appender = new AsyncAppender();
+        appender.setContext(context);
+        appender.setQueueSize(8192);
+        appender.setDiscardingThreshold(0);
+        appender.setNeverBlock(true);
+        appender.addAppender(delegate);
+        appender.start();
+        started.add(appender);
+        return appender;
+    }
+
+    private PatternLayoutEncoder patternEncoder() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p %t %logger{39} : %m%n");
+        encoder.start();
+        return encoder;
+    }
+
+    private StructuredLogEncoder jsonEncoder() {
+        StructuredLogEncoder encoder = new StructuredLogEncoder();
+        encoder.setContext(context);
+        encoder.setFormat("logstash");
+        encoder.start();
+        return encoder;
+    }
+
+    private static long lines(Path file) throws Exception {
+        try (var stream = Files.lines(file)) {
+            return stream.count();
+        }
+    }
+
+    /**
+     * 변경 전 RequestLoggingFilter 와 같은 동작 (currentTimeMillis + 매 요청 동기 INFO)
+     */
+    private static class LegacyRequestLoggingFilter implements Filter {
+
+        private static final org.slf4j.Logger log = LoggerFactory.getLogger(LEGACY_LOGGER);
+
+        @Override
+        public void doFilter(jakarta.servlet.ServletRequest request,
+                             jakarta.servlet.ServletResponse response,
+                             FilterChain chain) throws java.io.IOException, jakarta.servlet.ServletException {
+            HttpServletRequest httpRequest = (HttpServletRequest) request;
+            long startTime = System.currentTimeMillis();
+            String method = httpRequest.getMethod();
+            String uri = httpRequest.getRequestURI();
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                int status = ((HttpServletResponse) response).getStatus();
+                long elapsed = System.currentTimeMillis() - startTime;
+                log.info("[REQUEST] {} {} -> status={} elapsed={}ms", method, uri, status, elapsed);
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.wsd.bookstoreapi.global.rate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 limiter 처리량 비교 (64 스레드)
+ * - 기존: ConcurrentHashMap + synchronized 고정 윈도우 카운터 (제거 없음)
+ * - 신규: Caffeine(크기/유휴 제한) + AtomicLong CAS GCRA
+ */
+@Tag("benchmark")
+class LocalRateLimiterBenchmarkTest {
+
+    private static final int THREADS = 64;
+    private static final int CHECKS_PER_THREAD = 200_000;
+    private static final int CLIENTS = 256;
+    private static final int ROUNDS = 3;
+
+    @Test
+    @DisplayName("[benchmark] 기존 synchronized 카운터 vs Caffeine + CAS")
+    void legacyVsBounded() throws Exception {
+        RateLimitPolicy policy = new RateLimitPolicy(30, Duration.ofMinutes(1));
+
+        double legacy = 0;
+        double bounded = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            LegacyWindowLimiter legacyLimiter = new LegacyWindowLimiter(policy);
+            LocalRateLimiter boundedLimiter = new LocalRateLimiter(100_000, Duration.ofMinutes(1));
+
+            legacy = measure(legacyLimiter::tryAcquire);
+            bounded = measure(key -> boundedLimiter.tryAcquire(key, policy).allowed());
+        }
+
+        System.out.printf("[rate-limit local] threads=%d legacy=%.0f checks/sec bounded=%.0f checks/sec%n",
+                THREADS, legacy, bounded);
+
+        assertThat(bounded).isPositive();
+    }
+
+    private double measure(Predicate<String> limiter) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        String[] keys = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            keys[i] = "10.0." + i + ":/api/v1/auth/login";
+        }
+
+        for (int t = 0; t < THREADS; t++) {
+            int seed = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < CHECKS_PER_THREAD; i++) {
+                    limiter.test(keys[(seed * 31 + i) % CLIENTS]);
+                }
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(120, TimeUnit.SECONDS);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        return (double) THREADS * CHECKS_PER_THREAD / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    /**
+     * 변경 전 RateLimitingFilter 의 카운터 (비교용)
+     */
+    private static class LegacyWindowLimiter {
+
+        private final Map<String, WindowCounter> counters = new ConcurrentHashMap<>();
+        private final int limit;
+        private final long windowMillis;
+
+        LegacyWindowLimiter(RateLimitPolicy policy) {
+            this.limit = policy.limit();
+            this.windowMillis = policy.period().toMillis();
+        }
+
+        boolean tryAcquire(String key) {
+            long now = System.currentTimeMillis();
+            WindowCounter counter = counters.computeIfAbsent(key, k -> new WindowCounter(0, now));
+            synchronized (counter) {
+                if (now - counter.windowStart >= windowMillis) {
+                    counter.windowStart = now;
+                    counter.count = 0;
+                }
+                counter.count++;
+                return counter.count <= limit;
+            }
+        }
+
+        private static class WindowCounter {
+            int count;
+            long windowStart;
+
+            WindowCounter(int count, long windowStart) {
+                this.count = count;
+                this.windowStart = windowStart;
+            }
+        }
+    }
+}
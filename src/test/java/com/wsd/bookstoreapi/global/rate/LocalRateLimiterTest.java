@@ -0,0 +1,77 @@
+package com.wsd.bookstoreapi.global.rate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalRateLimiterTest {
+
+    private static final RateLimitPolicy POLICY = new RateLimitPolicy(30, Duration.ofMinutes(1));
+
+    @Test
+    @DisplayName("동시 요청에서도 한 키에 허용되는 요청 수는 한도를 넘지 않는다")
+    void concurrentAcquire_neverExceedsLimit() throws Exception {
+        LocalRateLimiter limiter = new LocalRateLimiter(1_000, Duration.ofMinutes(1));
+        AtomicInteger allowed = new AtomicInteger();
+
+        runConcurrently(16, 100, (thread, i) -> {
+            if (limiter.tryAcquire("same-client", POLICY).allowed()) {
+                allowed.incrementAndGet();
+            }
+        });
+
+        assertThat(allowed.get()).isEqualTo(POLICY.limit());
+    }
+
+    @Test
+    @DisplayName("위조 IP 로 키를 계속 늘려도 보관 키 수는 상한을 넘지 않는다")
+    void spoofedClients_retainedKeysStayBounded() throws Exception {
+        int maxKeys = 1_000;
+        LocalRateLimiter limiter = new LocalRateLimiter(maxKeys, Duration.ofMinutes(1));
+
+        for (int round = 0; round < 5; round++) {
+            int base = round * 10_000;
+            // 라운드마다 처음 보는 IP 1만 개
+            runConcurrently(8, 1_250, (thread, i) ->
+                    limiter.tryAcquire("10." + (base + thread * 1_250 + i) + ":/api/v1/auth/login", POLICY));
+            assertThat(limiter.size()).isLessThanOrEqualTo(maxKeys);
+        }
+
+        // 밀려난 뒤에도 새 클라이언트는 정상적으로 허용
+        assertThat(limiter.tryAcquire("fresh-client", POLICY).allowed()).isTrue();
+    }
+
+    private static void runConcurrently(int threads, int iterations, Task task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < iterations; i++) {
+                    task.run(thread, i);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        void run(int thread, int iteration);
+    }
+}
@@ -0,0 +1,80 @@
+package com.wsd.bookstoreapi.global.rate;
+
+import com.wsd.bookstoreapi.support.IntegrationTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 노드 1대 기준 레이트리밋 판정 처리량 (checks/sec)
+ */
+@Tag("benchmark")
+class RateLimiterBenchmarkTest extends IntegrationTestSupport {
+
+    private static final int THREADS = 16;
+    private static final int CHECKS_PER_THREAD = 5_000;
+    private static final int CLIENTS = 1_000;
+
+    @Autowired
+    private RedisRateLimiter redisRateLimiter;
+
+    @Autowired
+    private LocalRateLimiter localRateLimiter;
+
+    @Test
+    @DisplayName("[benchmark] Redis Lua GCRA vs 로컬 GCRA 판정 처리량")
+    void checksPerSecond() throws Exception {
+        RateLimitPolicy policy = new RateLimitPolicy(30, Duration.ofMinutes(1));
+        String run = "bench-" + System.nanoTime() + "-";
+
+        // 워밍업
+        measure((key, p) -> redisRateLimiter.tryAcquire(key, p), run + "warm-", policy);
+
+        double redis = measure((key, p) -> redisRateLimiter.tryAcquire(key, p), run + "redis-", policy);
+        double local = measure((key, p) -> localRateLimiter.tryAcquire(key, p), run + "local-", policy);
+
+        System.out.printf("[rate-limit] threads=%d checks=%d redis=%.0f checks/sec local=%.0f checks/sec%n",
+                THREADS, THREADS * CHECKS_PER_THREAD, redis, local);
+
+        assertThat(redis).isPositive();
+        assertThat(local).isPositive();
+    }
+
+    private double measure(BiFunction<String, RateLimitPolicy, RateLimitDecision> limiter,
+                           String keyPrefix,
+                           RateLimitPolicy policy) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            int seed = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < CHECKS_PER_THREAD; i++) {
+                    limiter.apply(keyPrefix + ((seed * 31 + i) % CLIENTS), policy);
+                }
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(120, TimeUnit.SECONDS);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        return THREADS * CHECKS_PER_THREAD / (elapsedNanos / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,162 @@
+package com.wsd.bookstoreapi.global.rate;
+
+import com.wsd.bookstoreapi.domain.user.entity.User;
+import com.wsd.bookstoreapi.support.IntegrationTestSupport;
+import com.wsd.bookstoreapi.support.TestDataFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@TestPropertySource(properties = {
+        "rate-limit.enabled=true",
+        "rate-limit.key-prefix=RL:test:${random.uuid}:",
+        "rate-limit.config-file=file:" + RateLimitingFilterTest.CONFIG_FILE,
+        "rate-limit.routes[0].name=auth",
+        "rate-limit.routes[0].patterns=/api/v1/auth/login,/api/v1/auth/refresh,/api/v1/auth/signup",
+        "rate-limit.routes[0].anonymous=3",
+        "rate-limit.routes[0].user=3",
+        "rate-limit.routes[0].admin=3",
+        "rate-limit.routes[1].name=favorites",
+        "rate-limit.routes[1].patterns=/api/v1/favorites/**",
+        "rate-limit.routes[1].user=2",
+        "rate-limit.routes[1].admin=4"
+})
+class RateLimitingFilterTest extends IntegrationTestSupport {
+
+    static final String CONFIG_FILE = "build/tmp/rate-limit-test.properties";
+
+    private static final String LOGIN_REQUEST = """
+            {
+              "email": "nobody@example.com",
+              "password": "wrong"
+            }
+            """;
+
+    @Autowired
+    private TestDataFactory testDataFactory;
+
+    @Autowired
+    private LocalRateLimiter localRateLimiter;
+
+    @Autowired
+    private RateLimitRules rateLimitRules;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        Files.deleteIfExists(Path.of(CONFIG_FILE));
+        rateLimitRules.reload();
+    }
+
+    @Test
+    @DisplayName("익명 - IP 기준으로 한도를 넘으면 429 + Retry-After, 허용된 요청에는 RateLimit-* 헤더")
+    void login_rateLimited() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/api/v1/auth/login")
+                            .header("X-Forwarded-For", "10.0.0.1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(LOGIN_REQUEST))
+                    // 한도 안: 로그인 자체의 실패 응답 (없는 사용자)
+                    .andExpect(status().isNotFound())
+                    .andExpect(header().string("RateLimit-Limit", "3"))
+                    .andExpect(header().string("RateLimit-Remaining", String.valueOf(2 - i)));
+        }
+
+        mockMvc.perform(post("/api/v1/auth/login")
+                        .header("X-Forwarded-For", "10.0.0.1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(LOGIN_REQUEST))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("RateLimit-Remaining", "0"))
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.isSuccess").value(false))
+                .andExpect(jsonPath("$.code").value("TOO_MANY_REQUESTS"));
+
+        // 다른 클라이언트는 별도 한도
+        mockMvc.perform(post("/api/v1/auth/login")
+                        .header("X-Forwarded-For", "10.0.0.2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(LOGIN_REQUEST))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("로그인 사용자 - userId 기준 한도, 관리자는 더 높은 등급")
+    void perUserQuota_adminTier() throws Exception {
+        String userA = tokenFor("quota-a@example.com");
+        String userB = tokenFor("quota-b@example.com");
+        testDataFactory.createAdminUser();
+        String admin = obtainAccessToken("admin@example.com", "1q2w3e4r");
+
+        expectFavorites(userA, 2, 200);
+        expectFavorites(userA, 1, 429);
+
+        // 같은 IP 라도 사용자별로 따로 계산
+        expectFavorites(userB, 1, 200);
+
+        expectFavorites(admin, 4, 200);
+        expectFavorites(admin, 1, 429);
+    }
+
+    @Test
+    @DisplayName("설정 파일을 바꾸면 재시작 없이 규칙이 갱신된다")
+    void rules_hotReload() throws Exception {
+        String user = tokenFor("quota-reload@example.com");
+
+        Path file = Path.of(CONFIG_FILE);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, """
+                rate-limit.routes[0].name=favorites-strict
+                rate-limit.routes[0].patterns=/api/v1/favorites/**
+                rate-limit.routes[0].user=1
+                """);
+        rateLimitRules.reloadIfChanged();
+
+        mockMvc.perform(get("/api/v1/favorites")
+                        .header("Authorization", "Bearer " + user))
+                .andExpect(status().isOk())
+                .andExpect(header().string("RateLimit-Limit", "1"));
+        expectFavorites(user, 1, 429);
+    }
+
+    @Test
+    @DisplayName("로컬 대체 limiter - 한도 이후 거절, 간격이 지나면 다시 허용")
+    void localLimiter_refills() throws Exception {
+        RateLimitPolicy policy = new RateLimitPolicy(2, Duration.ofMillis(200));
+        String key = "local-" + System.nanoTime();
+
+        assertThat(localRateLimiter.tryAcquire(key, policy).allowed()).isTrue();
+        assertThat(localRateLimiter.tryAcquire(key, policy).allowed()).isTrue();
+
+        RateLimitDecision rejected = localRateLimiter.tryAcquire(key, policy);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterMs()).isBetween(1L, 100L);
+
+        Thread.sleep(rejected.retryAfterMs() + 5);
+        assertThat(localRateLimiter.tryAcquire(key, policy).allowed()).isTrue();
+    }
+
+    private String tokenFor(String email) throws Exception {
+        User user = testDataFactory.createNormalUser(email);
+        return generateAccessToken(user.getId(), user.getEmail(), user.getRole().name());
+    }
+
+    private void expectFavorites(String token, int times, int expectedStatus) throws Exception {
+        for (int i = 0; i < times; i++) {
+            mockMvc.perform(get("/api/v1/favorites")
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().is(expectedStatus));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.wsd.bookstoreapi.global.security;
+
+import com.wsd.bookstoreapi.global.error.BusinessException;
+import com.wsd.bookstoreapi.global.error.ErrorCode;
+import com.wsd.bookstoreapi.global.security.jwt.JwtClaims;
+import com.wsd.bookstoreapi.global.security.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-min-256-bits-long-aaaaaaaaaaaaaa";
+
+    private final JwtTokenProvider provider = new JwtTokenProvider(SECRET, 60_000, 600_000, 100);
+
+    @Test
+    @DisplayName("검증된 클레임에 userId/email/role/토큰 버전/만료 시각이 담긴다")
+    void verify_returnsClaims() {
+        String token = provider.generateAccessToken(7L, "user@example.com", "ROLE_USER", 3L);
+
+        JwtClaims claims = provider.verify(token);
+
+        assertThat(claims.userId()).isEqualTo(7L);
+        assertThat(claims.email()).isEqualTo("user@example.com");
+        assertThat(claims.role()).isEqualTo("ROLE_USER");
+        assertThat(claims.tokenVersion()).isEqualTo(3L);
+        assertThat(claims.remainingValidityInMs()).isBetween(1L, 60_000L);
+    }
+
+    @Test
+    @DisplayName("같은 토큰을 다시 검증하면 캐시된 클레임을 재사용한다")
+    void verify_reusesCachedClaims() {
+        String token = provider.generateAccessToken(7L, "user@example.com", "ROLE_USER", 0L);
+
+        assertThat(provider.verify(token)).isSameAs(provider.verify(token));
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 UNAUTHORIZED")
+    void verify_fail_tampered() {
+        String token = provider.generateAccessToken(7L, "user@example.com", "ROLE_USER", 0L);
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> provider.verify(tampered))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.UNAUTHORIZED);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 TOKEN_EXPIRED")
+    void verify_fail_expired() {
+        JwtTokenProvider shortLived = new JwtTokenProvider(SECRET, -1_000, 600_000, 100);
+        String token = shortLived.generateAccessToken(7L, "user@example.com", "ROLE_USER", 0L);
+
+        assertThatThrownBy(() -> shortLived.verify(token))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.TOKEN_EXPIRED);
+    }
+}
@@ -33,7 +33,8 @@ public abstract class IntegrationTestSupport {
     protected String generateAccessToken(Long userId, String email, String role) {
         // 주의: 실제 UserPrincipal에서 "ROLE_" prefix 를 어떻게 붙이는지에 따라
         // 여기 role 값은 "USER" / "ADMIN" 이어야 합니다.
-        return jwtTokenProvider.generateAccessToken(userId, email, role);
+        // 토큰 버전은 0 (로그아웃/비활성화로 버전이 올라간 사용자는 obtainAccessToken 사용)
+        return jwtTokenProvider.generateAccessToken(userId, email, role, 0L);
     }
     /**
      * 테스트용 로그인 → accessToken 발급 헬퍼